@@ -2,12 +2,18 @@ package com.wordgame;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class WordgameApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(WordgameApplication.class, args);
+		SpringApplication application = new SpringApplication(WordgameApplication.class);
+		// Records startup steps for the startup report and /actuator/startup
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,249 @@
+package com.wordgame.archive;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cold storage for ended games. Games are grouped by day bucket into append-only
+ * segment files; a per-segment index is kept in memory so reads only open the
+ * segments that can actually contain the requested data.
+ */
+@Slf4j
+@Component
+public class GameArchive {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int OPEN_SEGMENT_CACHE_SIZE = 4;
+
+    @Value("${archive.dir:data/archive}")
+    private String archiveDir;
+
+    private Path dir;
+    private final List<SegmentIndex> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, GameSegment> openSegments =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, GameSegment> eldest) {
+                    return size() > OPEN_SEGMENT_CACHE_SIZE;
+                }
+            });
+
+    @PostConstruct
+    void loadIndexes() throws IOException {
+        dir = Paths.get(archiveDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + INDEX_SUFFIX)) {
+            for (Path file : files) {
+                SegmentIndex index = SegmentIndex.read(file);
+                if (Files.exists(dir.resolve(index.segmentName))) {
+                    segments.add(index);
+                    sequence.accumulateAndGet(sequenceOf(index.segmentName), Math::max);
+                }
+            }
+        }
+        log.info("Loaded {} archived game segments from {}", segments.size(), dir.toAbsolutePath());
+    }
+
+    public boolean contains(long gameId) {
+        return locate(gameId) != null;
+    }
+
+    public Optional<Game> findGame(long gameId) {
+        SegmentIndex index = locate(gameId);
+        return index == null ? Optional.empty() : Optional.ofNullable(open(index).game(gameId));
+    }
+
+    public List<Guess> findGuesses(long gameId) {
+        SegmentIndex index = locate(gameId);
+        return index == null ? Collections.emptyList() : open(index).guesses(gameId);
+    }
+
+    /** Archived games of a user, newest first, with their words populated. */
+    public List<Game> findByUser(long userId) {
+        return findByUser(userId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The user's newest archived games, at most {@code limit}, with their words populated.
+     * Picked from the indexes by day bucket, then id, so only the segments holding the
+     * returned games are opened.
+     */
+    public List<Game> findByUser(long userId, int limit) {
+        List<ArchivedGame> hits = new ArrayList<>();
+        for (SegmentIndex index : segments) {
+            for (int i : index.positionsOf(userId)) {
+                hits.add(new ArchivedGame(index, index.days[i], index.gameIds[i]));
+            }
+        }
+        hits.sort(Comparator.comparingInt(ArchivedGame::day).thenComparingLong(ArchivedGame::gameId).reversed());
+        List<Game> games = new ArrayList<>(Math.min(limit, hits.size()));
+        for (ArchivedGame hit : hits.subList(0, Math.min(limit, hits.size()))) {
+            games.add(open(hit.index()).game(hit.gameId()));
+        }
+        games.sort(Comparator.comparing(Game::getStartedAt).reversed());
+        return games;
+    }
+
+    private record ArchivedGame(SegmentIndex index, int day, long gameId) {
+    }
+
+    public long countGames(Long userId, LocalDate date, boolean wonOnly) {
+        int day = (int) date.toEpochDay();
+        long count = 0;
+        for (SegmentIndex index : segments) {
+            if (!index.coversDay(day)) continue;
+            for (int i = 0; i < index.days.length; i++) {
+                if (index.days[i] == day
+                        && (userId == null || index.userIds[i] == userId)
+                        && (!wonOnly || index.won[i])) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Played and won counts of a user's archived games (all of them ended). */
+    public UserGameCounts countUserGames(long userId) {
+        long played = 0;
+        long won = 0;
+        for (SegmentIndex index : segments) {
+            played += index.positionsOf(userId).length;
+            won += index.wonCount(userId);
+        }
+        return new UserGameCounts(played, won);
+    }
+
+    public record UserGameCounts(long played, long won) {
+    }
+
+    public Set<Long> findUserIds(LocalDate date) {
+        int day = (int) date.toEpochDay();
+        Set<Long> userIds = new HashSet<>();
+        for (SegmentIndex index : segments) {
+            if (!index.coversDay(day)) continue;
+            for (int i = 0; i < index.days.length; i++) {
+                if (index.days[i] == day) userIds.add(index.userIds[i]);
+            }
+        }
+        return userIds;
+    }
+
+    public boolean hasDataFor(LocalDate date) {
+        int day = (int) date.toEpochDay();
+        return segments.stream().anyMatch(index -> index.coversDay(day));
+    }
+
+    /**
+     * Writes the given games and guesses as new segments, one per day bucket. Returns
+     * once the files are durable; callers may then delete the rows from the hot tables.
+     */
+    public void append(List<Game> games, List<Guess> guesses) throws IOException {
+        Files.createDirectories(dir);
+        Map<LocalDate, List<Game>> byDay = new TreeMap<>();
+        for (Game game : games) {
+            if (contains(game.getId())) continue; // already archived by an interrupted run
+            byDay.computeIfAbsent(LocalDate.ofEpochDay(game.getDayBucket()), d -> new ArrayList<>()).add(game);
+        }
+        for (Map.Entry<LocalDate, List<Game>> entry : byDay.entrySet()) {
+            List<Game> dayGames = entry.getValue();
+            dayGames.sort(Comparator.comparing(Game::getId));
+            Set<Long> ids = new HashSet<>();
+            dayGames.forEach(g -> ids.add(g.getId()));
+            List<Guess> dayGuesses = guesses.stream()
+                    .filter(g -> ids.contains(g.getGame().getId()))
+                    .sorted(Comparator.comparing((Guess g) -> g.getGame().getId())
+                            .thenComparingInt(Guess::getGuessNumber))
+                    .toList();
+            writeSegment(entry.getKey(), dayGames, dayGuesses);
+        }
+    }
+
+    private void writeSegment(LocalDate day, List<Game> games, List<Guess> guesses) throws IOException {
+        String name = "games-" + day + "-" + String.format("%08d", sequence.incrementAndGet()) + SEGMENT_SUFFIX;
+        Path segmentFile = dir.resolve(name);
+        Path segmentTmp = dir.resolve(name + ".tmp");
+        GameSegment.write(segmentTmp, games, guesses);
+        force(segmentTmp);
+        Files.move(segmentTmp, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+
+        int n = games.size();
+        long[] gameIds = new long[n];
+        long[] userIds = new long[n];
+        int[] days = new int[n];
+        boolean[] won = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            Game g = games.get(i);
+            gameIds[i] = g.getId();
+            userIds[i] = g.getUser().getId();
+            days[i] = g.getDayBucket();
+            won[i] = g.isWon();
+        }
+        SegmentIndex index = new SegmentIndex(name, gameIds, userIds, days, won);
+        Path indexFile = dir.resolve(name.replace(SEGMENT_SUFFIX, INDEX_SUFFIX));
+        Path indexTmp = dir.resolve(indexFile.getFileName() + ".tmp");
+        index.write(indexTmp);
+        force(indexTmp);
+        Files.move(indexTmp, indexFile, StandardCopyOption.ATOMIC_MOVE);
+        segments.add(index);
+    }
+
+    private SegmentIndex locate(long gameId) {
+        for (SegmentIndex index : segments) {
+            if (index.indexOf(gameId) >= 0) return index;
+        }
+        return null;
+    }
+
+    private GameSegment open(SegmentIndex index) {
+        return openSegments.computeIfAbsent(index.segmentName, name -> {
+            try {
+                return GameSegment.read(dir.resolve(name));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    private static long sequenceOf(String segmentName) {
+        String seq = segmentName.substring(segmentName.lastIndexOf('-') + 1, segmentName.length() - SEGMENT_SUFFIX.length());
+        return Long.parseLong(seq);
+    }
+}
@@ -0,0 +1,73 @@
+package com.wordgame.archive;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import com.wordgame.repository.GameRepository;
+import com.wordgame.repository.GuessRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically moves ended games older than the configured horizon out of the
+ * {@code games} / {@code guesses} tables into {@link GameArchive} segments.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true")
+public class GameArchiver {
+
+    private final GameRepository gameRepository;
+    private final GuessRepository guessRepository;
+    private final GameArchive gameArchive;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${archive.horizon-days:90}")
+    private int horizonDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void archiveOldGames() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(horizonDays).atStartOfDay();
+        long total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            log.info("Archived {} games started before {}", total, cutoff);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Game> games = gameRepository.findArchivableGames(cutoff, PageRequest.of(0, batchSize));
+        if (games.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = games.stream().map(Game::getId).toList();
+        List<Guess> guesses = guessRepository.findByGameIdInOrderByGameIdAscGuessNumberAsc(ids);
+        try {
+            gameArchive.append(games, guesses);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive segment", e);
+        }
+        guessRepository.deleteByGameIdIn(ids);
+        gameRepository.deleteAllByIdInBatch(ids);
+        return games.size();
+    }
+}
@@ -0,0 +1,175 @@
+package com.wordgame.archive;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import com.wordgame.entity.HardModeHints;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compressed, column-oriented file holding a batch of ended games and their guesses.
+ * Every column is written contiguously so that similar values sit next to each other.
+ * Segments are immutable once written.
+ */
+final class GameSegment {
+
+    private static final int MAGIC = 0x57475347; // "WGSG"
+    // Version 2 adds the day bucket column, version 3 hard mode, its hints and the challenge day
+    private static final int VERSION = 3;
+    private static final int NO_CHALLENGE_DAY = Integer.MIN_VALUE;
+
+    private final Map<Long, Game> games;
+    private final Map<Long, List<Guess>> guesses;
+
+    private GameSegment(Map<Long, Game> games, Map<Long, List<Guess>> guesses) {
+        this.games = games;
+        this.guesses = guesses;
+    }
+
+    Game game(long gameId) {
+        return games.get(gameId);
+    }
+
+    List<Guess> guesses(long gameId) {
+        return guesses.getOrDefault(gameId, Collections.emptyList());
+    }
+
+    /** Games must be sorted by id; guesses sorted by game id, then guess number. */
+    static void write(Path file, List<Game> games, List<Guess> guesses) throws IOException {
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(
+                     new BufferedOutputStream(new GZIPOutputStream(fileOut, 64 * 1024)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            out.writeInt(games.size());
+            for (Game g : games) out.writeLong(g.getId());
+            for (Game g : games) out.writeLong(g.getUser().getId());
+            for (Game g : games) out.writeLong(g.getWord().getId());
+            for (Game g : games) out.writeUTF(g.getWord().getWord());
+            for (Game g : games) out.writeLong(toMillis(g.getStartedAt()));
+            for (Game g : games) out.writeInt(g.getDayBucket());
+            for (Game g : games) out.writeLong(toMillis(g.getEndedAt()));
+            for (Game g : games) out.writeByte(g.getAttempts());
+            for (Game g : games) out.writeBoolean(g.isWon());
+            for (Game g : games) out.writeBoolean(g.isHardMode());
+            for (Game g : games) out.writeInt(g.getHints().getLetters());
+            for (Game g : games) out.writeInt(g.getHints().getPositions());
+            for (Game g : games) out.writeLong(g.getHints().getCounts());
+            for (Game g : games) out.writeInt(g.getChallengeDay() != null ? g.getChallengeDay() : NO_CHALLENGE_DAY);
+
+            out.writeInt(guesses.size());
+            for (Guess g : guesses) out.writeLong(g.getId());
+            for (Guess g : guesses) out.writeLong(g.getGame().getId());
+            for (Guess g : guesses) out.writeByte(g.getGuessNumber());
+            for (Guess g : guesses) out.writeUTF(g.getGuessWord());
+            for (Guess g : guesses) out.writeUTF(g.getEvaluation());
+            for (Guess g : guesses) out.writeLong(toMillis(g.getCreatedAt()));
+
+            out.flush();
+            fileOut.flush();
+        }
+    }
+
+    static GameSegment read(Path file) throws IOException {
+        try (InputStream fileIn = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(
+                     new BufferedInputStream(new GZIPInputStream(fileIn, 64 * 1024)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a game segment: " + file);
+            }
+            int version = in.readInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported game segment version " + version + ": " + file);
+            }
+
+            int n = in.readInt();
+            Game[] games = new Game[n];
+            for (int i = 0; i < n; i++) {
+                games[i] = new Game();
+                games[i].setId(in.readLong());
+            }
+            for (int i = 0; i < n; i++) {
+                User user = new User();
+                user.setId(in.readLong());
+                games[i].setUser(user);
+            }
+            for (int i = 0; i < n; i++) {
+                Word word = new Word();
+                word.setId(in.readLong());
+                games[i].setWord(word);
+            }
+            for (int i = 0; i < n; i++) games[i].getWord().setWord(in.readUTF());
+            for (int i = 0; i < n; i++) games[i].setStartedAt(fromMillis(in.readLong()));
+            for (int i = 0; i < n; i++) {
+                games[i].setDayBucket(version >= 2 ? in.readInt()
+                        : (int) games[i].getStartedAt().toLocalDate().toEpochDay());
+            }
+            for (int i = 0; i < n; i++) games[i].setEndedAt(fromMillis(in.readLong()));
+            for (int i = 0; i < n; i++) games[i].setLastActivityAt(games[i].getEndedAt());
+            for (int i = 0; i < n; i++) games[i].setAttempts(in.readByte());
+            for (int i = 0; i < n; i++) games[i].setWon(in.readBoolean());
+            if (version >= 3) {
+                for (int i = 0; i < n; i++) games[i].setHardMode(in.readBoolean());
+                int[] hintLetters = new int[n];
+                int[] hintPositions = new int[n];
+                for (int i = 0; i < n; i++) hintLetters[i] = in.readInt();
+                for (int i = 0; i < n; i++) hintPositions[i] = in.readInt();
+                for (int i = 0; i < n; i++) games[i].setHints(new HardModeHints(hintLetters[i], hintPositions[i], in.readLong()));
+                for (int i = 0; i < n; i++) {
+                    int challengeDay = in.readInt();
+                    games[i].setChallengeDay(challengeDay != NO_CHALLENGE_DAY ? challengeDay : null);
+                }
+            }
+
+            Map<Long, Game> byId = new HashMap<>(n * 2);
+            for (Game g : games) byId.put(g.getId(), g);
+
+            int m = in.readInt();
+            Guess[] guesses = new Guess[m];
+            for (int i = 0; i < m; i++) {
+                guesses[i] = new Guess();
+                guesses[i].setId(in.readLong());
+            }
+            for (int i = 0; i < m; i++) guesses[i].setGame(byId.get(in.readLong()));
+            for (int i = 0; i < m; i++) guesses[i].setGuessNumber(in.readByte());
+            for (int i = 0; i < m; i++) guesses[i].setGuessWord(in.readUTF());
+            for (int i = 0; i < m; i++) guesses[i].setEvaluation(in.readUTF());
+            for (int i = 0; i < m; i++) guesses[i].setCreatedAt(fromMillis(in.readLong()));
+
+            Map<Long, List<Guess>> guessesByGame = new HashMap<>(n * 2);
+            for (Guess g : guesses) {
+                guessesByGame.computeIfAbsent(g.getGame().getId(), id -> new ArrayList<>()).add(g);
+            }
+            return new GameSegment(byId, guessesByGame);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? Long.MIN_VALUE : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return millis == Long.MIN_VALUE ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
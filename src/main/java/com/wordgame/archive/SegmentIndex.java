@@ -0,0 +1,113 @@
+package com.wordgame.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Small in-memory summary of one segment: sorted game ids plus the user, day and
+ * outcome of each game, and the positions of each user's games. Enough to answer id
+ * lookups, per-user lookups and daily counts without opening the segment itself.
+ */
+final class SegmentIndex {
+
+    private static final int MAGIC = 0x57475349; // "WGSI"
+    private static final int[] NO_POSITIONS = new int[0];
+
+    final String segmentName;
+    final long[] gameIds;
+    final long[] userIds;
+    final int[] days;
+    final boolean[] won;
+    final int minDay;
+    final int maxDay;
+    // Derived on load, not stored: user id -> positions of their games, in id order
+    private final Map<Long, int[]> positionsByUser;
+
+    SegmentIndex(String segmentName, long[] gameIds, long[] userIds, int[] days, boolean[] won) {
+        this.segmentName = segmentName;
+        this.gameIds = gameIds;
+        this.userIds = userIds;
+        this.days = days;
+        this.won = won;
+        this.minDay = Arrays.stream(days).min().orElse(Integer.MAX_VALUE);
+        this.maxDay = Arrays.stream(days).max().orElse(Integer.MIN_VALUE);
+        this.positionsByUser = positionsByUser(userIds);
+    }
+
+    /** Positions of the user's games in this segment, in id order; empty if none. */
+    int[] positionsOf(long userId) {
+        return positionsByUser.getOrDefault(userId, NO_POSITIONS);
+    }
+
+    int wonCount(long userId) {
+        int count = 0;
+        for (int i : positionsOf(userId)) {
+            if (won[i]) count++;
+        }
+        return count;
+    }
+
+    /** Position of the game in this segment, or -1. */
+    int indexOf(long gameId) {
+        if (gameIds.length == 0 || gameId < gameIds[0] || gameId > gameIds[gameIds.length - 1]) {
+            return -1;
+        }
+        int i = Arrays.binarySearch(gameIds, gameId);
+        return i >= 0 ? i : -1;
+    }
+
+    boolean coversDay(int day) {
+        return day >= minDay && day <= maxDay;
+    }
+
+    private static Map<Long, int[]> positionsByUser(long[] userIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (long userId : userIds) counts.merge(userId, 1, Integer::sum);
+        Map<Long, int[]> positions = new HashMap<>(counts.size() * 2);
+        Map<Long, Integer> filled = new HashMap<>(counts.size() * 2);
+        for (int i = 0; i < userIds.length; i++) {
+            int[] userPositions = positions.computeIfAbsent(userIds[i], id -> new int[counts.get(id)]);
+            userPositions[filled.merge(userIds[i], 1, Integer::sum) - 1] = i;
+        }
+        return positions;
+    }
+
+    void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeUTF(segmentName);
+            out.writeInt(gameIds.length);
+            for (long id : gameIds) out.writeLong(id);
+            for (long id : userIds) out.writeLong(id);
+            for (int day : days) out.writeInt(day);
+            for (boolean w : won) out.writeBoolean(w);
+        }
+    }
+
+    static SegmentIndex read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a segment index: " + file);
+            }
+            String segmentName = in.readUTF();
+            int n = in.readInt();
+            long[] gameIds = new long[n];
+            long[] userIds = new long[n];
+            int[] days = new int[n];
+            boolean[] won = new boolean[n];
+            for (int i = 0; i < n; i++) gameIds[i] = in.readLong();
+            for (int i = 0; i < n; i++) userIds[i] = in.readLong();
+            for (int i = 0; i < n; i++) days[i] = in.readInt();
+            for (int i = 0; i < n; i++) won[i] = in.readBoolean();
+            return new SegmentIndex(segmentName, gameIds, userIds, days, won);
+        }
+    }
+}
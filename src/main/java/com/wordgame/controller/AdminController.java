@@ -1,22 +1,35 @@
 package com.wordgame.controller;
 
+import com.wordgame.archive.GameArchive;
+import com.wordgame.dto.WordRequest;
+import com.wordgame.journal.GameJournal;
+import com.wordgame.journal.JournalReplayer;
 import com.wordgame.repository.UserRepository;
 import com.wordgame.repository.GameRepository;
 import com.wordgame.repository.GuessRepository;
 import com.wordgame.entity.User;
 import com.wordgame.entity.Game;
+import com.wordgame.entity.Word;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.exception.NotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.List;
 import java.util.stream.Collectors;
 
 
 import com.wordgame.service.ReportService;
+import com.wordgame.service.WordAdminService;
+import com.wordgame.wordstats.Difficulty;
+import com.wordgame.wordstats.WordStatistics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Map;
 
@@ -31,27 +44,30 @@ public class AdminController {
     private GameRepository gameRepository;
     @Autowired
     private GuessRepository guessRepository;
+    @Autowired
+    private GameArchive gameArchive;
+    @Autowired
+    private GameJournal gameJournal;
 
     /**
      * Admin API: Get user activity summary by username or userId
      * Returns: [{date, numberOfWordsTried, numberOfCorrectGuesses}]
      */
     @GetMapping("/user/activity")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getUserActivitySummary(@RequestParam(required = false) Long userId,
                                                    @RequestParam(required = false) String username) {
         if (userId == null && (username == null || username.isBlank())) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Provide userId or username"));
+            throw new InvalidRequestException("Provide userId or username");
         }
         Optional<User> userOpt = userId != null ? userRepository.findById(userId)
                 : userRepository.findByUsername(username);
-        if (userOpt.isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("error", "User not found"));
-        }
-        User user = userOpt.get();
-        List<Game> games = gameRepository.findByUser(user);
-        // Group by date (yyyy-MM-dd)
+        User user = userOpt.orElseThrow(() -> NotFoundException.USER);
+        List<Game> games = new ArrayList<>(gameRepository.findByUser(user));
+        games.addAll(gameArchive.findByUser(user.getId()));
+        // Group by the player's local date (yyyy-MM-dd)
         var summary = games.stream().collect(Collectors.groupingBy(
-                g -> g.getStartedAt().toLocalDate().toString()
+                g -> LocalDate.ofEpochDay(g.getDayBucket()).toString()
         )).entrySet().stream().map(e -> {
             String date = e.getKey();
             List<Game> dayGames = e.getValue();
@@ -71,6 +87,8 @@ public class AdminController {
     }
 
     private final ReportService reportService;
+    private final WordAdminService wordAdminService;
+    private final WordStatistics wordStatistics;
 
     @GetMapping("/report/day")
     public ResponseEntity<Map<String, Long>> getDailyReport(
@@ -87,14 +105,12 @@ public class AdminController {
     }
 
     @GetMapping("/report/user/{userId}")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getUserReport(
         @PathVariable Long userId,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("error", "User not found"));
-        }
-        User user = userOpt.get();
+        User user = userOpt.orElseThrow(() -> NotFoundException.USER);
         long games = reportService.countGamesForUserOnDate(userId, date);
         long wins = reportService.countWinsForUserOnDate(userId, date);
         return ResponseEntity.ok(Map.of(
@@ -105,4 +121,48 @@ public class AdminController {
             "wins", wins
         ));
     }
+
+    /**
+     * Admin API: Rebuild game, stats and daily rollups from the game journal
+     * Returns: {events, games, users, days, daily: [{date, games, wins, players}]}
+     */
+    @PostMapping("/journal/replay")
+    public ResponseEntity<?> replayJournal() throws IOException {
+        if (!gameJournal.isEnabled()) {
+            throw new InvalidRequestException("Game journal is disabled");
+        }
+        JournalReplayer.ReplayState state = JournalReplayer.replay(gameJournal.getDirectory());
+        var daily = state.daily.entrySet().stream().map(e -> Map.of(
+            "date", e.getKey().toString(),
+            "games", e.getValue().games,
+            "wins", e.getValue().wins,
+            "players", (long) e.getValue().players.size()
+        )).toList();
+        return ResponseEntity.ok(Map.of(
+            "events", state.events,
+            "games", state.games.size(),
+            "users", state.userStats.size(),
+            "days", state.daily.size(),
+            "daily", daily
+        ));
+    }
+
+    @PostMapping("/words")
+    public ResponseEntity<?> addWord(@RequestBody WordRequest request) {
+        Word word = wordAdminService.addWord(request.getWord());
+        return ResponseEntity.ok(Map.of("id", word.getId(), "word", word.getWord()));
+    }
+
+    /** Per-word play statistics as of the last flush, hardest first. */
+    @GetMapping("/words/stats")
+    public ResponseEntity<?> getWordStats(@RequestParam(required = false) Difficulty difficulty,
+                                          @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(wordStatistics.report(difficulty, limit));
+    }
+
+    @PutMapping("/words/{wordId}")
+    public ResponseEntity<?> renameWord(@PathVariable Long wordId, @RequestBody WordRequest request) {
+        Word word = wordAdminService.renameWord(wordId, request.getWord());
+        return ResponseEntity.ok(Map.of("id", word.getId(), "word", word.getWord()));
+    }
 }
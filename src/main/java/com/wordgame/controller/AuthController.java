@@ -3,7 +3,11 @@ package com.wordgame.controller;
 import com.wordgame.dto.AuthResponse;
 import com.wordgame.dto.RegisterRequest;
 import com.wordgame.entity.Role;
+import com.wordgame.exception.RateLimitedException;
+import com.wordgame.ratelimit.RateLimitRule;
+import com.wordgame.ratelimit.RateLimiter;
 import com.wordgame.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import java.util.Map;
@@ -16,21 +20,28 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RateLimiter rateLimiter;
 
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
-        try {
-            authService.register(request.getUsername(), request.getPassword(), Role.PLAYER);
-            return ResponseEntity.ok().body(Map.of("message", "User registered successfully"));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
-        }
+        authService.register(request.getUsername(), request.getPassword(), Role.PLAYER,
+                request.getTimeZone());
+        return ResponseEntity.ok().body(Map.of("message", "User registered successfully"));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody RegisterRequest request) {
+    public ResponseEntity<?> login(@RequestBody RegisterRequest request, HttpServletRequest httpRequest) {
+    // Per-account budget, checked before BCrypt runs (the per-IP one is in RateLimitFilter).
+    // Keyed by username and client so another client cannot lock the player out, and only
+    // failed attempts keep their token.
+    String key = request.getUsername() + "@" + httpRequest.getRemoteAddr();
+    long retryAfter = rateLimiter.tryAcquire(RateLimitRule.LOGIN_USER, key);
+    if (retryAfter > 0) {
+        throw new RateLimitedException(retryAfter);
+    }
     var user = authService.login(request.getUsername(), request.getPassword());
+    rateLimiter.refund(RateLimitRule.LOGIN_USER, key);
     String token = authService.getJwtUtil().generateToken(user.getUsername());
     return ResponseEntity.ok(new AuthResponse(token, user.getRole().name()));
     }
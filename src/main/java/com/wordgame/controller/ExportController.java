@@ -0,0 +1,73 @@
+package com.wordgame.controller;
+
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@Profile("!embedded")
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Admin API: Stream games, guesses or users for a date range (both ends inclusive)
+     * as CSV or NDJSON, optionally gzipped. The X-Export-Id header can be used to cancel.
+     */
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportService.Dataset ds = parse(ExportService.Dataset.class, "dataset", dataset);
+        ExportService.Format fmt = parse(ExportService.Format.class, "format", format);
+        String exportId = exportService.newExportId();
+        String filename = ds.name().toLowerCase() + "-" + from + "-" + to + fmt.getExtension() + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = out -> exportService.export(
+                exportId, ds, fmt, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), gzip, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : fmt.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .header("X-Export-Id", exportId)
+                .body(body);
+    }
+
+    @DeleteMapping("/{exportId}")
+    public ResponseEntity<?> cancel(@PathVariable String exportId) {
+        if (!exportService.cancel(exportId)) {
+            return ResponseEntity.status(404).body(Map.of("error", "Export not running"));
+        }
+        return ResponseEntity.ok(Map.of("message", "Export cancelled"));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String parameter, String value) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        String allowed = Arrays.stream(type.getEnumConstants())
+                .map(constant -> constant.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(", "));
+        throw new InvalidRequestException("Unknown " + parameter + " '" + value + "', expected one of: " + allowed);
+    }
+}
@@ -1,16 +1,31 @@
 package com.wordgame.controller;
 
+import com.wordgame.daily.DailyResults;
 import com.wordgame.dto.GuessRequest;
+import com.wordgame.dto.StartGameRequest;
 import com.wordgame.entity.Game;
 import com.wordgame.entity.Guess;
+import com.wordgame.entity.User;
+import com.wordgame.exception.ForbiddenException;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.idempotency.IdempotentResponses;
+import com.wordgame.security.GameStateTokenService;
+import com.wordgame.service.DayBuckets;
 import com.wordgame.service.GameService;
+import com.wordgame.service.GameState;
+import com.wordgame.service.GuessResult;
+import com.wordgame.service.SessionBootstrap;
+import com.wordgame.service.SessionBootstrapService;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,59 +36,125 @@ import java.util.Map;
 public class GameController {
 
     private final GameService gameService;
+    private final GameStateTokenService gameStateTokenService;
+    private final SessionBootstrapService sessionBootstrapService;
+    private final IdempotentResponses idempotentResponses;
+    private final DailyResults dailyResults;
+
+    private static final String GAME_STATE_HEADER = "X-Game-State";
 
     @PostMapping("/start")
-    public ResponseEntity<?> startGame(Principal principal) {
-        try {
-            Long userId = gameService.getUserIdByUsername(principal.getName());
-            Game game = gameService.startNewGame(userId);
-            return ResponseEntity.ok(game);
-        } catch (RuntimeException e) {
-            if (e.getMessage().contains("Daily limit")) {
-                return ResponseEntity.badRequest()
-                    .body(Map.of("error", "DAILY_LIMIT_REACHED", "message", e.getMessage()));
-            } else {
-                return ResponseEntity.badRequest()
-                    .body(Map.of("error", "GAME_START_FAILED", "message", e.getMessage()));
-            }
+    public ResponseEntity<?> startGame(@RequestBody(required = false) StartGameRequest request, Principal principal) {
+        Long userId = gameService.getUserIdByUsername(principal.getName());
+        Game game = gameService.startNewGame(userId, request != null && request.isHardMode(),
+                request != null ? request.getDifficulty() : null);
+        if (gameStateTokenService.isEnabled()) {
+            String token = gameStateTokenService.issue(GameState.of(game, principal.getName()));
+            return ResponseEntity.ok().header(GAME_STATE_HEADER, token).body(game);
         }
+        return ResponseEntity.ok(game);
     }
 
-    private static final int MAX_ATTEMPTS = 5;
+    /** Today's daily challenge. No game-state token: results are counted on the stateful path. */
+    @PostMapping("/daily/start")
+    public ResponseEntity<?> startDailyChallenge(@RequestBody(required = false) StartGameRequest request,
+                                                 Principal principal) {
+        Long userId = gameService.getUserIdByUsername(principal.getName());
+        return ResponseEntity.ok(gameService.startDailyChallenge(userId, request != null && request.isHardMode()));
+    }
+
+    /** Aggregate results of a day's challenge (default: the player's today), served from memory. */
+    @GetMapping("/daily/results")
+    public ResponseEntity<?> getDailyResults(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            Principal principal) {
+        int today = DayBuckets.today(gameService.getUserByUsername(principal.getName()));
+        int day = date != null ? DayBuckets.of(date) : today;
+        if (!dailyResults.covers(day, today)) {
+            throw new InvalidRequestException("Date is outside the daily results window");
+        }
+        return ResponseEntity.ok(dailyResults.results(day));
+    }
+
+    private static final int DAILY_LIMIT = 3;
 
     @PostMapping("/{gameId}/guess")
     public ResponseEntity<?> submitGuess(
             @PathVariable Long gameId,
             @RequestBody GuessRequest request,
+            @RequestHeader(value = GAME_STATE_HEADER, required = false) String gameStateToken,
+            @RequestHeader(value = IdempotentResponses.HEADER, required = false) String idempotencyKey,
             Principal principal) {
-        try {
-            String username = principal.getName();
+        if (idempotencyKey != null) {
+            // Client retries replay the first result instead of using up another attempt
+            String fingerprint = "guess:" + gameId + ":" + request.getGuess().toUpperCase();
+            return idempotentResponses.execute(principal.getName(), idempotencyKey, fingerprint,
+                    () -> submitGuess(gameId, request, gameStateToken, principal.getName()));
+        }
+        return submitGuess(gameId, request, gameStateToken, principal.getName());
+    }
+
+    private ResponseEntity<?> submitGuess(Long gameId, GuessRequest request, String gameStateToken, String username) {
+        if (gameStateToken != null && gameStateTokenService.isEnabled()) {
+            return submitStatelessGuess(gameId, request.getGuess().toUpperCase(), gameStateToken, username);
+        }
         Guess guess = gameService.submitGuess(
             gameId,
             request.getGuess().toUpperCase()
         );
-            Game game = gameService.getGameById(gameId);
-            Map<String, Object> response = Map.of(
-                    "id", guess.getId(),
-                    "guessWord", guess.getGuessWord(),
-                    "guessNumber", guess.getGuessNumber(),
-                    "evaluation", guess.getEvaluation(),
-                    "createdAt", guess.getCreatedAt().toString(),
-                    "gameStatus", getGameStatus(game),
-                    "message", getGameMessage(game),
-                    "isGameOver", game.getEndedAt() != null,
-                    "attemptsLeft", MAX_ATTEMPTS - game.getAttempts()
-            );
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        Game game = gameService.getGameById(gameId);
+        Map<String, Object> response = Map.of(
+                "id", guess.getId(),
+                "guessWord", guess.getGuessWord(),
+                "guessNumber", guess.getGuessNumber(),
+                "evaluation", guess.getEvaluation(),
+                "createdAt", guess.getCreatedAt().toString(),
+                "gameStatus", getGameStatus(game),
+                "message", getGameMessage(game),
+                "isGameOver", game.getEndedAt() != null,
+                "attemptsLeft", Game.MAX_ATTEMPTS - game.getAttempts()
+        );
+        if (gameStateTokenService.isEnabled() && game.getChallengeDay() == null) {
+            String token = gameStateTokenService.issue(GameState.of(game, username));
+            return ResponseEntity.ok().header(GAME_STATE_HEADER, token).body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    // Evaluates the guess from the client's game-state token without reading the game row
+    private ResponseEntity<?> submitStatelessGuess(Long gameId, String guessWord, String token, String username) {
+        GameState state = gameStateTokenService.verify(token);
+        if (state.getGameId() != gameId || !state.getUsername().equals(username)) {
+            throw ForbiddenException.ACCESS_DENIED;
         }
+        GuessResult result = gameService.submitGuess(state, guessWord);
+        Guess guess = result.getGuess();
+        GameState next = result.getState();
+        String gameStatus = next.getStatus() == GameState.WON ? "WON"
+                : next.getStatus() == GameState.LOST ? "LOST" : "IN_PROGRESS";
+        String message = next.getStatus() == GameState.WON
+                ? "🎉 Congratulations! You guessed the word correctly! Well done! 🎉"
+                : next.getStatus() == GameState.LOST
+                ? "😔 Better luck next time! The word was: " + result.getTargetWord() + " 😔"
+                : "Keep guessing! " + (Game.MAX_ATTEMPTS - next.getAttempts()) + " attempts left.";
+        String nextToken = gameStateTokenService.issue(next);
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", guess.getId());
+        response.put("guessWord", guess.getGuessWord());
+        response.put("guessNumber", guess.getGuessNumber());
+        response.put("evaluation", guess.getEvaluation());
+        response.put("createdAt", guess.getCreatedAt().toString());
+        response.put("gameStatus", gameStatus);
+        response.put("message", message);
+        response.put("isGameOver", next.isOver());
+        response.put("attemptsLeft", Game.MAX_ATTEMPTS - next.getAttempts());
+        response.put("gameState", nextToken);
+        return ResponseEntity.ok().header(GAME_STATE_HEADER, nextToken).body(response);
     }
 
-    
     private String getGameMessage(Game game) {
         if (game.getEndedAt() == null) {
-            int attemptsLeft = 5 - game.getAttempts();
+            int attemptsLeft = Game.MAX_ATTEMPTS - game.getAttempts();
             return attemptsLeft > 0 ? "Keep guessing! " + attemptsLeft + " attempts left." : "";
         } else if (game.isWon()) {
             return "🎉 Congratulations! You guessed the word correctly! Well done! 🎉";
@@ -84,102 +165,129 @@ public class GameController {
 
     @GetMapping("/{gameId}/guesses")
     public ResponseEntity<?> getGuesses(@PathVariable Long gameId, Principal principal) {
-        try {
-            List<Guess> guesses = gameService.getGuesses(gameId);
-            // Convert to simple objects to avoid lazy loading issues
-            var simpleGuesses = guesses.stream()
-                .map(guess -> Map.of(
-                    "id", (Object) guess.getId(),
-                    "guessWord", (Object) guess.getGuessWord(),
-                    "guessNumber", (Object) guess.getGuessNumber(),
-                    "evaluation", (Object) guess.getEvaluation(),
-                    "createdAt", (Object) guess.getCreatedAt().toString()
-                ))
-                .toList();
-            return ResponseEntity.ok(simpleGuesses);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
-        }
+        List<Guess> guesses = gameService.getGuesses(gameId);
+        // Convert to simple objects to avoid lazy loading issues
+        var simpleGuesses = guesses.stream()
+            .map(guess -> Map.of(
+                "id", (Object) guess.getId(),
+                "guessWord", (Object) guess.getGuessWord(),
+                "guessNumber", (Object) guess.getGuessNumber(),
+                "evaluation", (Object) guess.getEvaluation(),
+                "createdAt", (Object) guess.getCreatedAt().toString()
+            ))
+            .toList();
+        return ResponseEntity.ok(simpleGuesses);
     }
 
 
     @GetMapping("/history")
-    public ResponseEntity<?> getGameHistory(Principal principal) {
-        try {
-            Long userId = gameService.getUserIdByUsername(principal.getName());
-            List<Game> games = gameService.getGameHistory(userId);
-            // Only include completed games (endedAt != null)
-            var historyResponse = games.stream()
-                .filter(game -> game.getEndedAt() != null)
-                .map(game -> {
-                    List<String> guesses = gameService.getGuesses(game.getId())
-                        .stream()
-                        .map(Guess::getGuessWord)
-                        .toList();
-                    String endTime = game.getEndedAt() != null ? game.getEndedAt().toString() : "";
-                    return Map.of(
-                        "id", (Object) game.getId().toString(),
-                        // Only show targetWord for completed games
-                        "targetWord", (Object) game.getWord().getWord(),
-                        "guesses", (Object) guesses,
-                        "status", (Object) getGameStatus(game),
-                        "startTime", (Object) game.getStartedAt().toString(),
-                        "endTime", (Object) endTime
-                    );
-                })
-                .toList();
-            return ResponseEntity.ok(historyResponse);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    public ResponseEntity<?> getGameHistory(@RequestParam(required = false) Integer limit, Principal principal) {
+        if (limit != null && limit < 1) {
+            throw new InvalidRequestException("limit must be at least 1");
         }
+        int maxGames = limit != null ? limit : Integer.MAX_VALUE;
+        Long userId = gameService.getUserIdByUsername(principal.getName());
+        // Only include completed games (endedAt != null)
+        List<Game> games = gameService.getGameHistory(userId, maxGames).stream()
+            .filter(game -> game.getEndedAt() != null)
+            .limit(maxGames)
+            .toList();
+        Map<Long, List<Guess>> guessesByGame = gameService.getGuessesByGame(games);
+        var historyResponse = games.stream()
+            .map(game -> historyEntry(game, guessesByGame.get(game.getId())))
+            .toList();
+        return ResponseEntity.ok(historyResponse);
+    }
+
+    private Map<String, Object> historyEntry(Game game, List<Guess> gameGuesses) {
+        List<String> guesses = gameGuesses.stream()
+            .map(Guess::getGuessWord)
+            .toList();
+        String endTime = game.getEndedAt() != null ? game.getEndedAt().toString() : "";
+        return Map.of(
+            "id", game.getId().toString(),
+            // Only show targetWord for completed games
+            "targetWord", game.getWord().getWord(),
+            "guesses", guesses,
+            "status", getGameStatus(game),
+            "startTime", game.getStartedAt().toString(),
+            "endTime", endTime
+        );
+    }
+
+    /**
+     * Everything the frontend loads on start in one response: the status, the open game
+     * (same shape as GET /{gameId}), stats and the first page of history.
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<?> bootstrap(Principal principal) {
+        User user = gameService.getUserByUsername(principal.getName());
+        SessionBootstrap session = sessionBootstrapService.load(user);
+        Game currentGame = session.getCurrentGame();
+        long played = session.getGamesPlayed();
+        // HashMap: currentGame may be null
+        Map<String, Object> response = new HashMap<>();
+        response.put("dailyLimitReached", session.getGamesToday() >= DAILY_LIMIT);
+        response.put("gamesLeftToday", Math.max(0, DAILY_LIMIT - session.getGamesToday()));
+        response.put("timeZone", user.getTimeZone());
+        response.put("currentGame", currentGame != null
+                ? gameDetails(currentGame, session.getGuesses(currentGame)) : null);
+        response.put("stats", Map.of(
+            "gamesPlayed", played,
+            "gamesWon", session.getGamesWon(),
+            "winRate", played > 0 ? (double) session.getGamesWon() / played : 0.0
+        ));
+        response.put("history", session.getHistory().stream()
+            .map(game -> historyEntry(game, session.getGuesses(game)))
+            .toList());
+        response.put("hasMoreHistory", session.hasMoreHistory());
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/status")
     public ResponseEntity<?> getGameStatusEndpoint(Principal principal) {
-        try {
-            Long userId = gameService.getUserIdByUsername(principal.getName());
-            boolean dailyLimitReached = gameService.hasReachedDailyLimit(userId);
-            Game incompleteGame = gameService.getCurrentIncompleteGame(userId);
-            return ResponseEntity.ok(Map.of(
-                "dailyLimitReached", dailyLimitReached,
-                "hasIncompleteGame", incompleteGame != null,
-                "incompleteGameId", incompleteGame != null ? incompleteGame.getId() : null
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
-        }
+        Long userId = gameService.getUserIdByUsername(principal.getName());
+        boolean dailyLimitReached = gameService.hasReachedDailyLimit(userId);
+        Game incompleteGame = gameService.getCurrentIncompleteGame(userId);
+        // HashMap: incompleteGameId may be null
+        Map<String, Object> status = new HashMap<>();
+        status.put("dailyLimitReached", dailyLimitReached);
+        status.put("hasIncompleteGame", incompleteGame != null);
+        status.put("incompleteGameId", incompleteGame != null ? incompleteGame.getId() : null);
+        return ResponseEntity.ok(status);
     }
 
     @GetMapping("/{gameId}")
     public ResponseEntity<?> getGame(@PathVariable Long gameId, Principal principal) {
-        try {
-            Game game = gameService.getGameById(gameId);
-            Long userId = gameService.getUserIdByUsername(principal.getName());
-            
-            // Check if user owns this game
-            if (!game.getUser().getId().equals(userId)) {
-                return ResponseEntity.status(403).body(Map.of("error", "Access denied"));
-            }
-            
-            List<Guess> guesses = gameService.getGuesses(gameId);
-            
-            return ResponseEntity.ok(Map.of(
-                "id", game.getId(),
-                "wordToGuess", game.getWord().getWord(),
-                "gameStatus", getGameStatus(game),
-                "attempts", game.getAttempts(),
-                "guesses", guesses.stream()
-                    .map(guess -> Map.of(
-                        "guessWord", guess.getGuessWord(),
-                        "evaluation", guess.getEvaluation(),
-                        "guessNumber", guess.getGuessNumber()
-                    ))
-                    .toList(),
-                "message", getGameMessage(game)
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        Game game = gameService.getGameById(gameId);
+        Long userId = gameService.getUserIdByUsername(principal.getName());
+        
+        // Check if user owns this game
+        if (!game.getUser().getId().equals(userId)) {
+            throw ForbiddenException.ACCESS_DENIED;
         }
+        
+        List<Guess> guesses = gameService.getGuesses(gameId);
+        
+        return ResponseEntity.ok(gameDetails(game, guesses));
+    }
+
+    private Map<String, Object> gameDetails(Game game, List<Guess> guesses) {
+        return Map.of(
+            "id", game.getId(),
+            "wordToGuess", game.getWord().getWord(),
+            "gameStatus", getGameStatus(game),
+            "attempts", game.getAttempts(),
+            "hardMode", game.isHardMode(),
+            "guesses", guesses.stream()
+                .map(guess -> Map.of(
+                    "guessWord", guess.getGuessWord(),
+                    "evaluation", guess.getEvaluation(),
+                    "guessNumber", guess.getGuessNumber()
+                ))
+                .toList(),
+            "message", getGameMessage(game)
+        );
     }
 
     // Helper to get game status as string
@@ -1,13 +1,56 @@
 package com.wordgame.controller;
 
+import com.wordgame.loadshed.AdaptiveConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectProvider<DataSource> dataSource;
+
     @GetMapping("/health")
     public String health() {
         return "Server is running ✅";
     }
+
+    /**
+     * Readiness for the load balancer: 503 while the concurrency limit is used up or
+     * requests are waiting for a database connection.
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<?> ready() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        boolean ready = !limiter.isSaturated();
+        body.put("concurrencyLimit", limiter.getLimit());
+        body.put("inFlight", limiter.getInFlight());
+
+        HikariPoolMXBean pool = pool();
+        if (pool != null) {
+            body.put("dbActive", pool.getActiveConnections());
+            body.put("dbTotal", pool.getTotalConnections());
+            body.put("dbWaiting", pool.getThreadsAwaitingConnection());
+            ready &= pool.getThreadsAwaitingConnection() == 0;
+        }
+        body.put("status", ready ? "UP" : "BUSY");
+        return ready ? ResponseEntity.ok(body) : ResponseEntity.status(503).body(body);
+    }
+
+    private HikariPoolMXBean pool() {
+        DataSource ds = dataSource.getIfAvailable();
+        HikariDataSource hikari = ds != null ? DataSourceUnwrapper.unwrap(ds, HikariDataSource.class) : null;
+        return hikari != null ? hikari.getHikariPoolMXBean() : null;
+    }
 }
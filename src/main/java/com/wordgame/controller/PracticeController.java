@@ -0,0 +1,86 @@
+package com.wordgame.controller;
+
+import com.wordgame.dto.GuessRequest;
+import com.wordgame.dto.StartGameResponse;
+import com.wordgame.entity.Game;
+import com.wordgame.service.GameState;
+import com.wordgame.service.PracticeGame;
+import com.wordgame.service.PracticeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Practice games: same play as /api/games, kept in memory only and not counted anywhere. */
+@RestController
+@RequestMapping("/api/practice")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class PracticeController {
+
+    private final PracticeService practiceService;
+
+    @PostMapping("/start")
+    public ResponseEntity<?> start(Principal principal) {
+        PracticeGame game = practiceService.start(principal.getName());
+        return ResponseEntity.ok(new StartGameResponse(game.getId(), Game.MAX_ATTEMPTS));
+    }
+
+    @PostMapping("/{gameId}/guess")
+    public ResponseEntity<?> submitGuess(@PathVariable long gameId, @RequestBody GuessRequest request,
+                                         Principal principal) {
+        PracticeGame game = practiceService.get(principal.getName(), gameId);
+        PracticeGame.Guess guess = practiceService.guess(principal.getName(), gameId, request.getGuess().toUpperCase());
+        return ResponseEntity.ok(Map.of(
+                "guessWord", guess.guessWord(),
+                "guessNumber", guess.guessNumber(),
+                "evaluation", guess.evaluation(),
+                "gameStatus", statusName(guess.status()),
+                "message", message(guess.status(), guess.guessNumber(), game.getTargetWord()),
+                "isGameOver", guess.status() != GameState.IN_PROGRESS,
+                "attemptsLeft", Game.MAX_ATTEMPTS - guess.guessNumber()
+        ));
+    }
+
+    @GetMapping("/{gameId}")
+    public ResponseEntity<?> getGame(@PathVariable long gameId, Principal principal) {
+        PracticeGame game = practiceService.get(principal.getName(), gameId);
+        List<PracticeGame.Guess> guesses = game.getGuesses();
+        byte status = guesses.isEmpty() ? GameState.IN_PROGRESS : guesses.get(guesses.size() - 1).status();
+        // HashMap: wordToGuess is only revealed once the game is over
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", game.getId());
+        response.put("gameStatus", statusName(status));
+        response.put("attempts", guesses.size());
+        response.put("guesses", guesses.stream()
+                .map(guess -> Map.of(
+                        "guessWord", guess.guessWord(),
+                        "evaluation", guess.evaluation(),
+                        "guessNumber", guess.guessNumber()
+                ))
+                .toList());
+        response.put("message", message(status, guesses.size(), game.getTargetWord()));
+        if (status != GameState.IN_PROGRESS) {
+            response.put("wordToGuess", game.getTargetWord());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    private static String statusName(byte status) {
+        return status == GameState.WON ? "WON" : status == GameState.LOST ? "LOST" : "IN_PROGRESS";
+    }
+
+    private static String message(byte status, int attempts, String targetWord) {
+        if (status == GameState.WON) {
+            return "🎉 Congratulations! You guessed the word correctly! Well done! 🎉";
+        }
+        if (status == GameState.LOST) {
+            return "😔 Better luck next time! The word was: " + targetWord + " 😔";
+        }
+        return "Keep guessing! " + (Game.MAX_ATTEMPTS - attempts) + " attempts left.";
+    }
+}
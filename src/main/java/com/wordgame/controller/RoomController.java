@@ -0,0 +1,66 @@
+package com.wordgame.controller;
+
+import com.wordgame.dto.GuessRequest;
+import com.wordgame.entity.Game;
+import com.wordgame.room.Room;
+import com.wordgame.room.RoomService;
+import com.wordgame.service.GameState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+import java.util.Map;
+
+/** Multiplayer rooms: everyone races on one word and watches the others' colors live. */
+@RestController
+@RequestMapping("/api/rooms")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class RoomController {
+
+    private final RoomService roomService;
+
+    @PostMapping
+    public ResponseEntity<?> create(Principal principal) {
+        return ResponseEntity.ok(roomService.create(principal.getName()));
+    }
+
+    @PostMapping("/{roomId}/join")
+    public ResponseEntity<?> join(@PathVariable long roomId, Principal principal) {
+        return ResponseEntity.ok(roomService.join(roomId, principal.getName()));
+    }
+
+    @PostMapping("/{roomId}/start")
+    public ResponseEntity<?> start(@PathVariable long roomId, Principal principal) {
+        return ResponseEntity.ok(roomService.start(roomId, principal.getName()));
+    }
+
+    @PostMapping("/{roomId}/guess")
+    public ResponseEntity<?> submitGuess(@PathVariable long roomId, @RequestBody GuessRequest request,
+                                         Principal principal) {
+        Room.Guess guess = roomService.guess(roomId, principal.getName(), request.getGuess().toUpperCase());
+        return ResponseEntity.ok(Map.of(
+                "guessWord", guess.guessWord(),
+                "guessNumber", guess.guessNumber(),
+                "evaluation", guess.evaluation(),
+                "gameStatus", guess.status() == GameState.WON ? "WON"
+                        : guess.status() == GameState.LOST ? "LOST" : "IN_PROGRESS",
+                "isGameOver", guess.status() != GameState.IN_PROGRESS,
+                "attemptsLeft", Game.MAX_ATTEMPTS - guess.guessNumber()
+        ));
+    }
+
+    @GetMapping("/{roomId}")
+    public ResponseEntity<?> getRoom(@PathVariable long roomId) {
+        return ResponseEntity.ok(roomService.view(roomId));
+    }
+
+    /** Server-sent events: one {@code snapshot}, then an {@code update} per broadcast tick with changes. */
+    @GetMapping(value = "/{roomId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable long roomId, Principal principal) {
+        return roomService.events(roomId, principal.getName());
+    }
+}
@@ -0,0 +1,27 @@
+package com.wordgame.controller;
+
+import com.wordgame.dto.TimeZoneRequest;
+import com.wordgame.entity.User;
+import com.wordgame.service.GameService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/users/me")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final GameService gameService;
+
+    @PutMapping("/time-zone")
+    public ResponseEntity<?> updateTimeZone(@RequestBody TimeZoneRequest request, Principal principal) {
+        Long userId = gameService.getUserIdByUsername(principal.getName());
+        User user = gameService.updateTimeZone(userId, request.getTimeZone());
+        return ResponseEntity.ok(Map.of("timeZone", user.getTimeZone()));
+    }
+}
@@ -0,0 +1,204 @@
+package com.wordgame.daily;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordgame.entity.ChangeType;
+import com.wordgame.entity.Game;
+import com.wordgame.outbox.ChangeListener;
+import com.wordgame.outbox.ChangeOutbox;
+import com.wordgame.repository.GameRepository;
+import com.wordgame.repository.GuessRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-day results of the daily challenge, kept in memory in concurrent counters.
+ * <p>
+ * A node seeds a day once, with two grouped queries, the first time the day is
+ * needed. After that each ended challenge game adds to the counters: games ended on
+ * this node after their transaction commits, games ended elsewhere when the
+ * {@code DAILY_RESULT} outbox event arrives. Reading the results never queries the
+ * day's games. A game that ends while its day is being seeded may be counted twice;
+ * these are statistics, not a ledger.
+ */
+@Component
+public class DailyResults implements ChangeListener {
+
+    private static final int TOP_FIRST_GUESSES = 10;
+
+    private final GameRepository gameRepository;
+    private final GuessRepository guessRepository;
+    private final ChangeOutbox changeOutbox;
+    private final Cache<Integer, DayResults> days;
+    private final int resultsDays;
+    private final int maxFirstGuesses;
+    private final long publishIntervalNanos;
+
+    public DailyResults(GameRepository gameRepository,
+                        GuessRepository guessRepository,
+                        ChangeOutbox changeOutbox,
+                        @Value("${daily.results-days:7}") int resultsDays,
+                        @Value("${daily.max-first-guesses:5000}") int maxFirstGuesses,
+                        @Value("${daily.publish-interval-ms:250}") long publishIntervalMs) {
+        this.gameRepository = gameRepository;
+        this.guessRepository = guessRepository;
+        this.changeOutbox = changeOutbox;
+        // Players span time zones, so today, yesterday and tomorrow can all be live
+        this.days = Caffeine.newBuilder().maximumSize(resultsDays + 2L).build();
+        this.resultsDays = resultsDays;
+        this.maxFirstGuesses = maxFirstGuesses;
+        this.publishIntervalNanos = publishIntervalMs * 1_000_000;
+    }
+
+    /** Call inside the transaction that ends a daily challenge game. */
+    public void gameEnded(long gameId) {
+        changeOutbox.record(ChangeType.DAILY_RESULT, gameId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(List.of(gameId));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onChanges(ChangeType type, Set<Long> ids) {
+        if (type == ChangeType.DAILY_RESULT) {
+            apply(ids);
+        }
+    }
+
+    /** Whether results of {@code day} are kept for a player whose current day is {@code today}. */
+    public boolean covers(int day, int today) {
+        return day <= today && day > today - resultsDays;
+    }
+
+    /** Results of a day, rebuilt from the counters at most every publish-interval-ms. */
+    public Map<String, Object> results(int day) {
+        return days.get(day, this::seed).published();
+    }
+
+    private void apply(Collection<Long> gameIds) {
+        for (var result : guessRepository.findDailyResultsByGameIdIn(gameIds)) {
+            // A day not loaded yet will include the game when it is seeded
+            DayResults day = days.getIfPresent(result.getDay());
+            if (day != null) {
+                day.add(result.getAttempts(), result.getWon(), result.getFirstGuess(), 1);
+            }
+        }
+    }
+
+    private DayResults seed(int day) {
+        DayResults results = new DayResults(day);
+        for (var outcome : gameRepository.countDailyOutcomes(day)) {
+            results.add(outcome.getAttempts(), outcome.getWon(), null, outcome.getGames());
+        }
+        for (var first : guessRepository.countDailyFirstGuesses(day)) {
+            results.addFirstGuess(first.getGuessWord(), first.getGuesses());
+        }
+        return results;
+    }
+
+    private record Published(long version, long builtAt, Map<String, Object> body) {
+    }
+
+    private final class DayResults {
+
+        final int day;
+        final LongAdder players = new LongAdder();
+        final LongAdder solved = new LongAdder();
+        // Index n: solved with n guesses; index 0: not solved
+        final LongAdder[] distribution = new LongAdder[Game.MAX_ATTEMPTS + 1];
+        final ConcurrentHashMap<String, LongAdder> firstGuesses = new ConcurrentHashMap<>();
+        final AtomicLong version = new AtomicLong();
+        volatile Published published;
+
+        DayResults(int day) {
+            this.day = day;
+            for (int i = 0; i < distribution.length; i++) {
+                distribution[i] = new LongAdder();
+            }
+        }
+
+        void add(int attempts, boolean won, String firstGuess, long games) {
+            players.add(games);
+            if (won) {
+                solved.add(games);
+            }
+            distribution[won ? Math.min(Math.max(attempts, 1), Game.MAX_ATTEMPTS) : 0].add(games);
+            if (firstGuess != null) {
+                addFirstGuess(firstGuess, games);
+            }
+            version.incrementAndGet();
+        }
+
+        void addFirstGuess(String guess, long games) {
+            LongAdder count = firstGuesses.get(guess);
+            if (count == null) {
+                // Bounded: once full, guesses nobody has used yet are not tracked
+                if (firstGuesses.size() >= maxFirstGuesses) {
+                    return;
+                }
+                count = firstGuesses.computeIfAbsent(guess, g -> new LongAdder());
+            }
+            count.add(games);
+        }
+
+        Map<String, Object> published() {
+            Published current = published;
+            long now = System.nanoTime();
+            if (current != null && (current.version() == version.get()
+                    || now - current.builtAt() < publishIntervalNanos)) {
+                return current.body();
+            }
+            synchronized (this) {
+                current = published;
+                if (current == null || current.version() != version.get()) {
+                    current = new Published(version.get(), now, build());
+                    published = current;
+                }
+                return current.body();
+            }
+        }
+
+        private Map<String, Object> build() {
+            long total = players.sum();
+            long won = solved.sum();
+            Map<String, Object> counts = new LinkedHashMap<>();
+            for (int n = 1; n <= Game.MAX_ATTEMPTS; n++) {
+                counts.put(String.valueOf(n), distribution[n].sum());
+            }
+            counts.put("failed", distribution[0].sum());
+            List<Map<String, Object>> top = new ArrayList<>();
+            firstGuesses.entrySet().stream()
+                    .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(TOP_FIRST_GUESSES)
+                    .forEach(e -> top.add(Map.of("guess", e.getKey(), "count", e.getValue())));
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("date", LocalDate.ofEpochDay(day).toString());
+            body.put("players", total);
+            body.put("solved", won);
+            body.put("solveRate", total > 0 ? (double) won / total : 0.0);
+            body.put("distribution", counts);
+            body.put("topFirstGuesses", top);
+            return body;
+        }
+    }
+}
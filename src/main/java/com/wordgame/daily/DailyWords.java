@@ -0,0 +1,84 @@
+package com.wordgame.daily;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordgame.entity.DailyWord;
+import com.wordgame.entity.Word;
+import com.wordgame.exception.NotFoundException;
+import com.wordgame.repository.DailyWordRepository;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.service.WordCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * The daily challenge word of each day. The word is derived from the day and a secret
+ * seed, stored in {@code daily_words} by whichever node needs it first, and cached, so
+ * a day keeps its word even when words are added later.
+ */
+@Component
+public class DailyWords {
+
+    private final DailyWordRepository dailyWordRepository;
+    private final WordRepository wordRepository;
+    private final WordCatalog wordCatalog;
+    private final TransactionTemplate newTransaction;
+    private final long seed;
+    private final Cache<Integer, Long> wordIds = Caffeine.newBuilder().maximumSize(64).build();
+
+    public DailyWords(DailyWordRepository dailyWordRepository,
+                      WordRepository wordRepository,
+                      WordCatalog wordCatalog,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${daily.seed:0}") long seed) {
+        this.dailyWordRepository = dailyWordRepository;
+        this.wordRepository = wordRepository;
+        this.wordCatalog = wordCatalog;
+        // A lost insert race must not roll back the caller's transaction
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.seed = seed;
+    }
+
+    public Word wordFor(int day) {
+        long wordId = wordIds.get(day, this::load);
+        // Words are in the second-level cache
+        return wordRepository.findById(wordId).orElseThrow(() -> NotFoundException.WORD);
+    }
+
+    private Long load(int day) {
+        return dailyWordRepository.findById((long) day)
+                .map(DailyWord::getWordId)
+                .orElseGet(() -> choose(day));
+    }
+
+    private Long choose(int day) {
+        int size = wordCatalog.size();
+        if (size == 0) {
+            throw NotFoundException.WORD;
+        }
+        long wordId = wordCatalog.idAt((int) Math.floorMod(mix(day ^ seed), (long) size));
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    dailyWordRepository.save(new DailyWord((long) day, wordId, LocalDateTime.now())));
+            return wordId;
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            // Another node stored the day first (the embedded store reports it at commit as a changed row)
+            return dailyWordRepository.findById((long) day).orElseThrow().getWordId();
+        }
+    }
+
+    // SplitMix64 finalizer: consecutive days map to unrelated positions
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,88 @@
+package com.wordgame.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits reads from writes when {@code replica.enabled=true}. The application sees a single
+ * {@link LazyConnectionDataSourceProxy}: connections are only fetched when the first
+ * statement runs, and those marked read-only (inside {@code @Transactional(readOnly = true)})
+ * are taken from the replica pool, everything else from the primary pool.
+ */
+@Configuration
+@Profile("!embedded")
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig implements DisposableBean {
+
+    @Value("${replica.url}")
+    private String replicaUrl;
+
+    @Value("${replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${replica.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        lagMonitor = new ReplicaLagMonitor(replica, maxLagSeconds);
+        lagMonitor.check();
+        Gauge.builder("replica.lag.seconds", lagMonitor, ReplicaLagMonitor::getLastLagSeconds).register(meterRegistry);
+        Gauge.builder("replica.usable", lagMonitor, m -> m.isUsable() ? 1 : 0).register(meterRegistry);
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, lagMonitor));
+        return proxy;
+    }
+
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        if (lagMonitor != null) {
+            lagMonitor.check();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (replica != null) replica.close();
+        if (primary != null) primary.close();
+    }
+}
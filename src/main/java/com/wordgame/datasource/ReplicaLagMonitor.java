@@ -0,0 +1,81 @@
+package com.wordgame.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Polls the replica for replication lag. The replica is usable only while it answers and
+ * is at most {@code maxLagSeconds} behind; otherwise read-only work goes to the primary.
+ * A server that reports no replication status at all (a plain MySQL or H2 instance used
+ * as a stand-in replica) counts as up to date.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private volatile boolean usable;
+    private volatile long lastLagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    public void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection()) {
+            long lag = lagSeconds(connection);
+            lastLagSeconds = lag;
+            usable = lag >= 0 && lag <= maxLagSeconds;
+        } catch (SQLException e) {
+            lastLagSeconds = -1;
+            usable = false;
+        }
+        if (wasUsable != usable) {
+            log.warn("Replica {} (lag {}s); read-only queries now go to the {}",
+                    usable ? "available" : "unavailable", lastLagSeconds, usable ? "replica" : "primary");
+        }
+    }
+
+    /** Seconds behind the source, 0 if the server is not replicating, -1 if replication is broken. */
+    private static long lagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            ResultSet rs;
+            String column;
+            try {
+                rs = statement.executeQuery("SHOW REPLICA STATUS");
+                column = "Seconds_Behind_Source";
+            } catch (SQLException e) {
+                if (!connection.getMetaData().getDatabaseProductName().contains("MySQL")) {
+                    // Not MySQL (e.g. H2 in tests): just check the connection works
+                    statement.execute("SELECT 1");
+                    return 0;
+                }
+                // MySQL before 8.0.22
+                rs = statement.executeQuery("SHOW SLAVE STATUS");
+                column = "Seconds_Behind_Master";
+            }
+            try (ResultSet status = rs) {
+                if (!status.next()) {
+                    return 0;
+                }
+                long lag = status.getLong(column);
+                return status.wasNull() ? -1 : lag;
+            }
+        }
+    }
+}
@@ -21,6 +21,11 @@ private String username;
 private String password;
 
 
+// Optional IANA zone id such as "Europe/Berlin"; defaults to UTC
+@Size(max = 64)
+private String timeZone;
+
+
 public String getUsername() {
     return username;
 }
@@ -37,4 +42,12 @@ public void setPassword(String password) {
     this.password = password;
 }
 
+public String getTimeZone() {
+    return timeZone;
+}
+
+public void setTimeZone(String timeZone) {
+    this.timeZone = timeZone;
+}
+
 }
\ No newline at end of file
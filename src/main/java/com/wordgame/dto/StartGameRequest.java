@@ -0,0 +1,32 @@
+package com.wordgame.dto;
+
+import com.wordgame.wordstats.Difficulty;
+
+public class StartGameRequest {
+    // Every guess must use the hints revealed so far
+    private boolean hardMode;
+    // Word difficulty band; null for any word. Ignored by the daily challenge.
+    private Difficulty difficulty;
+
+    public StartGameRequest() {}
+
+    public StartGameRequest(boolean hardMode) {
+        this.hardMode = hardMode;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    public void setHardMode(boolean hardMode) {
+        this.hardMode = hardMode;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+}
@@ -0,0 +1,25 @@
+package com.wordgame.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class TimeZoneRequest {
+    // IANA zone id, e.g. "America/New_York"
+    @NotBlank
+    @Size(max = 64)
+    private String timeZone;
+
+    public TimeZoneRequest() {}
+
+    public TimeZoneRequest(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+}
@@ -0,0 +1,23 @@
+package com.wordgame.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class WordRequest {
+    // Five letters; stored upper-case
+    @NotBlank
+    private String word;
+
+    public WordRequest() {}
+
+    public WordRequest(String word) {
+        this.word = word;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+}
@@ -0,0 +1,52 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.DailyWord;
+import com.wordgame.repository.DailyWordRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedDailyWordRepository
+        extends EmbeddedRepository<DailyWord, EmbeddedDailyWordRepository.DailyWordRow>
+        implements DailyWordRepository {
+
+    record DailyWordRow(long dayBucket, long wordId, LocalDateTime createdAt) {
+    }
+
+    public EmbeddedDailyWordRepository(EmbeddedStore store) {
+        super(store.table("daily_words", DailyWordRow.class, DailyWordRow::dayBucket));
+    }
+
+    // Insert only, like the primary key on MySQL: a day keeps the word stored first
+    @Override
+    public <S extends DailyWord> S save(S daily) {
+        if (!table.putIfUnchanged(null, toRow(daily))) {
+            throw new DataIntegrityViolationException("Duplicate daily word for day " + daily.getDayBucket());
+        }
+        return daily;
+    }
+
+    @Override
+    protected Long idOf(DailyWord daily) {
+        return daily.getDayBucket();
+    }
+
+    @Override
+    protected void assignId(DailyWord daily, long id) {
+        // Keyed by day, which is always set
+    }
+
+    @Override
+    protected DailyWordRow toRow(DailyWord daily) {
+        return new DailyWordRow(daily.getDayBucket(), daily.getWordId(), daily.getCreatedAt());
+    }
+
+    @Override
+    public DailyWord toEntity(DailyWordRow row) {
+        return new DailyWord(row.dayBucket(), row.wordId(), row.createdAt());
+    }
+}
@@ -0,0 +1,308 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.HardModeHints;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.GameRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedGameRepository extends EmbeddedRepository<Game, EmbeddedGameRepository.GameRow>
+        implements GameRepository {
+
+    record GameRow(long id, long userId, long wordId, LocalDateTime startedAt, int dayBucket,
+                   LocalDateTime endedAt, LocalDateTime lastActivityAt, int attempts, boolean won,
+                   boolean hardMode, int hintLetters, int hintPositions, long hintCounts,
+                   Integer challengeDay) {
+
+        GameRow withEnd(LocalDateTime endedAt, LocalDateTime lastActivityAt, int attempts, boolean won) {
+            return new GameRow(id, userId, wordId, startedAt, dayBucket, endedAt, lastActivityAt, attempts, won,
+                    hardMode, hintLetters, hintPositions, hintCounts, challengeDay);
+        }
+
+        GameRow withHints(int letters, int positions, long counts) {
+            return new GameRow(id, userId, wordId, startedAt, dayBucket, endedAt, lastActivityAt, attempts, won,
+                    hardMode, letters, positions, counts, challengeDay);
+        }
+    }
+
+    private static final Comparator<GameRow> NEWEST_FIRST =
+            Comparator.comparing(GameRow::startedAt).reversed();
+
+    private final EmbeddedUserRepository users;
+    private final EmbeddedWordRepository words;
+    private final EmbeddedTable<GameRow>.Index<Long> byUser;
+    private final EmbeddedTable<GameRow>.Index<Integer> byDay;
+
+    public EmbeddedGameRepository(EmbeddedStore store, EmbeddedUserRepository users, EmbeddedWordRepository words) {
+        super(store.table("games", GameRow.class, GameRow::id));
+        this.users = users;
+        this.words = words;
+        this.byUser = table.index(GameRow::userId);
+        this.byDay = table.index(GameRow::dayBucket);
+        // Games stored before day buckets / activity times existed: derive them from the start
+        for (GameRow row : table.all()) {
+            if (row.dayBucket() == 0 || row.lastActivityAt() == null) {
+                int day = row.dayBucket() != 0 ? row.dayBucket() : (int) row.startedAt().toLocalDate().toEpochDay();
+                LocalDateTime activity = row.lastActivityAt() != null ? row.lastActivityAt()
+                        : row.endedAt() != null ? row.endedAt() : row.startedAt();
+                table.put(new GameRow(row.id(), row.userId(), row.wordId(), row.startedAt(), day,
+                        row.endedAt(), activity, row.attempts(), row.won(), row.hardMode(),
+                        row.hintLetters(), row.hintPositions(), row.hintCounts(), row.challengeDay()));
+            }
+        }
+    }
+
+    // ---------- Gameplay ----------
+
+    @Override
+    public List<Game> findByUserIdWithWordOrderByStartedAtDesc(Long userId) {
+        return findByUserIdOrderByStartedAtDesc(userId);
+    }
+
+    @Override
+    public List<Game> findByUser(User user) {
+        return toEntities(byUser.rows(user.getId()));
+    }
+
+    @Override
+    public List<Game> findByUserAndStartedAtBetween(User user, LocalDateTime start, LocalDateTime end) {
+        return userGames(user.getId()).filter(startedBetween(start, end)).map(this::toEntity).toList();
+    }
+
+    @Override
+    public List<Game> findByUserIdOrderByStartedAtDesc(Long userId) {
+        return userGames(userId).sorted(NEWEST_FIRST).map(this::toEntity).toList();
+    }
+
+    @Override
+    public List<Game> findByUserIdAndEndedAtIsNullOrderByStartedAtDesc(Long userId) {
+        return userGames(userId).filter(g -> g.endedAt() == null).sorted(NEWEST_FIRST).map(this::toEntity).toList();
+    }
+
+    @Override
+    public Game findByIdWithWord(Long gameId) {
+        return findById(gameId).orElse(null);
+    }
+
+    @Override
+    public int advanceGame(Long gameId, int expectedAttempts, int attempts, boolean won,
+                           LocalDateTime endedAt, LocalDateTime now,
+                           int hintLetters, int hintPositions, long hintCounts) {
+        GameRow row = table.get(gameId);
+        if (row == null || row.attempts() != expectedAttempts || row.endedAt() != null
+                || row.challengeDay() != null) {
+            return 0;
+        }
+        GameRow advanced = row.withEnd(endedAt, now, attempts, won).withHints(hintLetters, hintPositions, hintCounts);
+        return table.putIfUnchanged(row, advanced) ? 1 : 0;
+    }
+
+    // ---------- Sweeper ----------
+
+    @Override
+    public List<Game> findAbandonedGames(LocalDateTime cutoff, Pageable pageable) {
+        return table.all().stream()
+                .filter(abandonedBefore(cutoff))
+                .sorted(Comparator.comparing(GameRow::lastActivityAt))
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(this::toEntity)
+                .toList();
+    }
+
+    @Override
+    public List<Game> findAbandonedGamesByIdIn(Collection<Long> ids, LocalDateTime cutoff) {
+        return ids.stream().map(table::get).filter(Objects::nonNull)
+                .filter(abandonedBefore(cutoff)).map(this::toEntity).toList();
+    }
+
+    @Override
+    public int closeGames(Collection<Long> ids, LocalDateTime endedAt) {
+        int closed = 0;
+        for (Long id : ids) {
+            GameRow row = table.get(id);
+            if (row != null && row.endedAt() == null
+                    && table.putIfUnchanged(row, row.withEnd(endedAt, row.lastActivityAt(), row.attempts(), false))) {
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    // ---------- Session bootstrap ----------
+
+    @Override
+    public List<Game> findOpenGamesWithWord(Long userId, Pageable pageable) {
+        return newestFirst(userGames(userId).filter(g -> g.endedAt() == null), pageable);
+    }
+
+    @Override
+    public List<Game> findEndedGamesWithWord(Long userId, Pageable pageable) {
+        return newestFirst(userGames(userId).filter(g -> g.endedAt() != null), pageable);
+    }
+
+    @Override
+    public PlayerStats findStatsByUserId(Long userId) {
+        long played = userGames(userId).filter(g -> g.endedAt() != null).count();
+        long won = userGames(userId).filter(g -> g.endedAt() != null && g.won()).count();
+        return new PlayerStats() {
+            @Override
+            public Long getPlayed() {
+                return played;
+            }
+
+            @Override
+            public Long getWon() {
+                return won;
+            }
+        };
+    }
+
+    private List<Game> newestFirst(Stream<GameRow> rows, Pageable pageable) {
+        return rows.sorted(NEWEST_FIRST)
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(this::toEntity)
+                .toList();
+    }
+
+    // ---------- Reporting ----------
+
+    @Override
+    public long countByUserIdAndDayBucket(Long userId, int dayBucket) {
+        return userGames(userId).filter(g -> g.dayBucket() == dayBucket).count();
+    }
+
+    @Override
+    public long countByUserIdAndWonTrueAndDayBucket(Long userId, int dayBucket) {
+        return userGames(userId).filter(g -> g.dayBucket() == dayBucket).filter(GameRow::won).count();
+    }
+
+    @Override
+    public long countByWonTrueAndDayBucket(int dayBucket) {
+        return byDay.rows(dayBucket).stream().filter(GameRow::won).count();
+    }
+
+    // ---------- Daily challenge ----------
+
+    @Override
+    public boolean existsByUserIdAndChallengeDay(Long userId, Integer challengeDay) {
+        return userGames(userId).anyMatch(g -> challengeDay.equals(g.challengeDay()));
+    }
+
+    @Override
+    public List<DailyOutcomeCount> countDailyOutcomes(int day) {
+        Map<List<Object>, Long> counts = endedChallengeGames(day).collect(Collectors.groupingBy(
+                g -> List.of(g.attempts(), g.won()), LinkedHashMap::new, Collectors.counting()));
+        return counts.entrySet().stream().map(e -> (DailyOutcomeCount) new DailyOutcomeCount() {
+            @Override
+            public int getAttempts() {
+                return (Integer) e.getKey().get(0);
+            }
+
+            @Override
+            public boolean getWon() {
+                return (Boolean) e.getKey().get(1);
+            }
+
+            @Override
+            public long getGames() {
+                return e.getValue();
+            }
+        }).toList();
+    }
+
+    // Challenge games start on the player's current day, so their day bucket is the challenge day
+    Stream<GameRow> endedChallengeGames(int day) {
+        return byDay.rows(day).stream()
+                .filter(g -> g.challengeDay() != null && g.challengeDay() == day && g.endedAt() != null);
+    }
+
+    GameRow row(long gameId) {
+        return table.get(gameId);
+    }
+
+    @Override
+    public long countDistinctUsersByDayBucket(int dayBucket) {
+        return findDistinctUserIdsByDayBucket(dayBucket).size();
+    }
+
+    @Override
+    public List<Long> findDistinctUserIdsByDayBucket(int dayBucket) {
+        return byDay.rows(dayBucket).stream().map(GameRow::userId).distinct().toList();
+    }
+
+    // ---------- Archiving ----------
+
+    @Override
+    public List<Game> findArchivableGames(LocalDateTime cutoff, Pageable pageable) {
+        return table.all().stream()
+                .filter(g -> g.endedAt() != null && g.startedAt().isBefore(cutoff))
+                .sorted(Comparator.comparing(GameRow::startedAt))
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(this::toEntity)
+                .toList();
+    }
+
+    // ---------- Mapping ----------
+
+    private Stream<GameRow> userGames(Long userId) {
+        return byUser.rows(userId).stream();
+    }
+
+    private static Predicate<GameRow> abandonedBefore(LocalDateTime cutoff) {
+        return g -> g.endedAt() == null && g.lastActivityAt().isBefore(cutoff);
+    }
+
+    private static Predicate<GameRow> startedBetween(LocalDateTime start, LocalDateTime end) {
+        return g -> !g.startedAt().isBefore(start) && !g.startedAt().isAfter(end);
+    }
+
+    @Override
+    protected Long idOf(Game game) {
+        return game.getId();
+    }
+
+    @Override
+    protected void assignId(Game game, long id) {
+        game.setId(id);
+    }
+
+    @Override
+    protected GameRow toRow(Game game) {
+        return new GameRow(game.getId(), game.getUser().getId(), game.getWord().getId(),
+                game.getStartedAt(), game.getDayBucket(), game.getEndedAt(), game.getLastActivityAt(),
+                game.getAttempts(), game.isWon(), game.isHardMode(), game.getHints().getLetters(),
+                game.getHints().getPositions(), game.getHints().getCounts(), game.getChallengeDay());
+    }
+
+    @Override
+    public Game toEntity(GameRow row) {
+        User user = users.findById(row.userId()).orElseGet(() -> {
+            User missing = new User();
+            missing.setId(row.userId());
+            return missing;
+        });
+        Word word = words.findById(row.wordId()).orElse(null);
+        return new Game(row.id(), user, word, row.startedAt(), row.dayBucket(), row.endedAt(),
+                row.lastActivityAt(), row.attempts(), row.won(), row.hardMode(),
+                new HardModeHints(row.hintLetters(), row.hintPositions(), row.hintCounts()),
+                row.challengeDay());
+    }
+}
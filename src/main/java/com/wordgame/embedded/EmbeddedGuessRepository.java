@@ -0,0 +1,156 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import com.wordgame.repository.GuessRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedGuessRepository extends EmbeddedRepository<Guess, EmbeddedGuessRepository.GuessRow>
+        implements GuessRepository {
+
+    record GuessRow(long id, long gameId, String guessWord, int guessNumber, String evaluation,
+                    LocalDateTime createdAt) {
+    }
+
+    private final EmbeddedGameRepository games;
+    private final EmbeddedTable<GuessRow>.Index<Long> byGame;
+
+    public EmbeddedGuessRepository(EmbeddedStore store, EmbeddedGameRepository games) {
+        super(store.table("guesses", GuessRow.class, GuessRow::id));
+        this.games = games;
+        this.byGame = table.index(GuessRow::gameId);
+    }
+
+    @Override
+    public List<Guess> findByGame(Game game) {
+        return findByGameIdOrderByGuessNumberAsc(game.getId());
+    }
+
+    @Override
+    public List<Guess> findByGameIdOrderByGuessNumberAsc(Long gameId) {
+        Game game = games.findById(gameId).orElse(null);
+        return byGame.rows(gameId).stream()
+                .sorted(Comparator.comparingInt(GuessRow::guessNumber))
+                .map(row -> toEntity(row, game))
+                .toList();
+    }
+
+    @Override
+    public List<Guess> findByGameIdInOrderByGameIdAscGuessNumberAsc(Collection<Long> gameIds) {
+        List<Guess> guesses = new ArrayList<>();
+        gameIds.stream().sorted().forEach(id -> guesses.addAll(findByGameIdOrderByGuessNumberAsc(id)));
+        return guesses;
+    }
+
+    @Override
+    public int deleteByGameIdIn(Collection<Long> gameIds) {
+        int deleted = 0;
+        for (Long gameId : gameIds) {
+            for (Long id : List.copyOf(byGame.ids(gameId))) {
+                table.delete(id);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    // ---------- Daily challenge ----------
+
+    @Override
+    public List<FirstGuessCount> countDailyFirstGuesses(int day) {
+        Map<String, Long> counts = games.endedChallengeGames(day)
+                .map(game -> firstGuess(game.id()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(word -> word, LinkedHashMap::new, Collectors.counting()));
+        return counts.entrySet().stream().map(e -> (FirstGuessCount) new FirstGuessCount() {
+            @Override
+            public String getGuessWord() {
+                return e.getKey();
+            }
+
+            @Override
+            public long getGuesses() {
+                return e.getValue();
+            }
+        }).toList();
+    }
+
+    @Override
+    public List<DailyResult> findDailyResultsByGameIdIn(Collection<Long> gameIds) {
+        List<DailyResult> results = new ArrayList<>();
+        for (Long gameId : gameIds) {
+            EmbeddedGameRepository.GameRow game = games.row(gameId);
+            if (game == null || game.challengeDay() == null || game.endedAt() == null) {
+                continue;
+            }
+            String first = firstGuess(gameId);
+            results.add(new DailyResult() {
+                @Override
+                public int getDay() {
+                    return game.challengeDay();
+                }
+
+                @Override
+                public int getAttempts() {
+                    return game.attempts();
+                }
+
+                @Override
+                public boolean getWon() {
+                    return game.won();
+                }
+
+                @Override
+                public String getFirstGuess() {
+                    return first;
+                }
+            });
+        }
+        return results;
+    }
+
+    private String firstGuess(long gameId) {
+        return byGame.rows(gameId).stream()
+                .filter(row -> row.guessNumber() == 1)
+                .map(GuessRow::guessWord)
+                .findFirst().orElse(null);
+    }
+
+    @Override
+    protected Long idOf(Guess guess) {
+        return guess.getId();
+    }
+
+    @Override
+    protected void assignId(Guess guess, long id) {
+        guess.setId(id);
+    }
+
+    @Override
+    protected GuessRow toRow(Guess guess) {
+        return new GuessRow(guess.getId(), guess.getGame().getId(), guess.getGuessWord(),
+                guess.getGuessNumber(), guess.getEvaluation(), guess.getCreatedAt());
+    }
+
+    @Override
+    public Guess toEntity(GuessRow row) {
+        return toEntity(row, games.findById(row.gameId()).orElse(null));
+    }
+
+    private Guess toEntity(GuessRow row, Game game) {
+        return new Guess(row.id(), game, row.guessWord(), row.guessNumber(), row.evaluation(), row.createdAt());
+    }
+}
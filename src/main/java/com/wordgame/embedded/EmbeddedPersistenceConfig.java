@@ -0,0 +1,21 @@
+package com.wordgame.embedded;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Lets {@code @Transactional} services run unchanged on the embedded store. Writes made
+ * inside a transaction are buffered and reach the log as one batch when it commits, so
+ * a rollback leaves no partial state; writes outside a transaction are logged one by one.
+ */
+@Configuration
+@Profile("embedded")
+public class EmbeddedPersistenceConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EmbeddedStore store) {
+        return new EmbeddedTransactionManager(store);
+    }
+}
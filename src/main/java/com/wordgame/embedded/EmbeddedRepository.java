@@ -0,0 +1,87 @@
+package com.wordgame.embedded;
+
+import com.wordgame.repository.BaseRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Generic {@link BaseRepository} plumbing over an {@link EmbeddedTable}. Subclasses map
+ * between entities and immutable row records and implement the derived queries of
+ * their repository interface. Entities handed out are always fresh copies, so callers
+ * cannot change stored state without calling {@code save}.
+ */
+public abstract class EmbeddedRepository<T, R extends Record> implements BaseRepository<T, Long> {
+
+    protected final EmbeddedTable<R> table;
+
+    protected EmbeddedRepository(EmbeddedTable<R> table) {
+        this.table = table;
+    }
+
+    protected abstract Long idOf(T entity);
+
+    protected abstract void assignId(T entity, long id);
+
+    protected abstract R toRow(T entity);
+
+    public abstract T toEntity(R row);
+
+    protected List<T> toEntities(Iterable<R> rows) {
+        List<T> entities = new ArrayList<>();
+        rows.forEach(row -> entities.add(toEntity(row)));
+        return entities;
+    }
+
+    // ---------- BaseRepository ----------
+
+    @Override
+    public <S extends T> S save(S entity) {
+        if (idOf(entity) == null) {
+            assignId(entity, table.nextId());
+        }
+        table.put(toRow(entity));
+        return entity;
+    }
+
+    /** Saves the entity unless another row has the same key in the unique index. */
+    protected <S extends T> S saveUnique(S entity, EmbeddedTable<R>.Index<?> unique, String key) {
+        if (idOf(entity) == null) {
+            assignId(entity, table.nextId());
+        }
+        if (!table.putIfUnique(toRow(entity), unique)) {
+            throw new DataIntegrityViolationException("Duplicate " + key);
+        }
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+        R row = table.get(id);
+        return row == null ? Optional.empty() : Optional.of(toEntity(row));
+    }
+
+    @Override
+    public T getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new IllegalArgumentException("No row with id " + id));
+    }
+
+    @Override
+    public List<T> findAll() {
+        return toEntities(table.all());
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        ids.forEach(table::delete);
+    }
+}
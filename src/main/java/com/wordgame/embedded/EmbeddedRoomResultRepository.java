@@ -0,0 +1,45 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.RoomResult;
+import com.wordgame.repository.RoomResultRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedRoomResultRepository
+        extends EmbeddedRepository<RoomResult, EmbeddedRoomResultRepository.RoomResultRow>
+        implements RoomResultRepository {
+
+    record RoomResultRow(long id, long roomId, long userId, long wordId, int attempts, boolean won,
+                         int place, LocalDateTime finishedAt, LocalDateTime endedAt) {
+    }
+
+    public EmbeddedRoomResultRepository(EmbeddedStore store) {
+        super(store.table("room_results", RoomResultRow.class, RoomResultRow::id));
+    }
+
+    @Override
+    protected Long idOf(RoomResult result) {
+        return result.getId();
+    }
+
+    @Override
+    protected void assignId(RoomResult result, long id) {
+        result.setId(id);
+    }
+
+    @Override
+    protected RoomResultRow toRow(RoomResult result) {
+        return new RoomResultRow(result.getId(), result.getRoomId(), result.getUserId(), result.getWordId(),
+                result.getAttempts(), result.isWon(), result.getPlace(), result.getFinishedAt(), result.getEndedAt());
+    }
+
+    @Override
+    public RoomResult toEntity(RoomResultRow row) {
+        return new RoomResult(row.id(), row.roomId(), row.userId(), row.wordId(), row.attempts(), row.won(),
+                row.place(), row.finishedAt(), row.endedAt());
+    }
+}
@@ -0,0 +1,51 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.UserSeenWords;
+import com.wordgame.repository.UserSeenWordsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedSeenWordsRepository
+        extends EmbeddedRepository<UserSeenWords, EmbeddedSeenWordsRepository.SeenWordsRow>
+        implements UserSeenWordsRepository {
+
+    record SeenWordsRow(long userId, byte[] bitmap, int wordCount, LocalDateTime updatedAt) {
+    }
+
+    public EmbeddedSeenWordsRepository(EmbeddedStore store) {
+        super(store.table("user_seen_words", SeenWordsRow.class, SeenWordsRow::userId));
+    }
+
+    @Override
+    public int updateBitmap(Long userId, byte[] bitmap, int wordCount, LocalDateTime now) {
+        if (table.get(userId) == null) {
+            return 0;
+        }
+        table.put(new SeenWordsRow(userId, bitmap, wordCount, now));
+        return 1;
+    }
+
+    @Override
+    protected Long idOf(UserSeenWords seen) {
+        return seen.getUserId();
+    }
+
+    @Override
+    protected void assignId(UserSeenWords seen, long id) {
+        // Keyed by user id, which is always set
+    }
+
+    @Override
+    protected SeenWordsRow toRow(UserSeenWords seen) {
+        return new SeenWordsRow(seen.getUserId(), seen.getBitmap(), seen.getWordCount(), seen.getUpdatedAt());
+    }
+
+    @Override
+    public UserSeenWords toEntity(SeenWordsRow row) {
+        return new UserSeenWords(row.userId(), row.bitmap(), row.wordCount(), row.updatedAt());
+    }
+}
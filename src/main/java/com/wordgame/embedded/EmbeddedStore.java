@@ -0,0 +1,320 @@
+package com.wordgame.embedded;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * File-backed single-node store used by the {@code embedded} profile instead of MySQL.
+ * Every write is appended to a write-ahead log before it is applied to the in-memory
+ * tables; the writes of a transaction are appended as one batch record, which replay
+ * applies completely or not at all. A periodic snapshot captures all tables and
+ * truncates the log.
+ */
+@Slf4j
+@Component
+@Profile("embedded")
+public class EmbeddedStore {
+
+    private static final int SNAPSHOT_MAGIC = 0x57474553; // "WGES"
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final byte OP_BATCH = 3;
+
+    @Value("${embedded.dir:data/embedded}")
+    private String dataDir;
+
+    @Value("${embedded.fsync-each-write:false}")
+    private boolean fsyncEachWrite;
+
+    private final Object lock = new Object();
+    private final ThreadLocal<EmbeddedTransaction> currentTransaction = new ThreadLocal<>();
+    private final Map<String, EmbeddedTable<?>> tables = new LinkedHashMap<>();
+    // Rows of tables not registered yet, as decoded field maps
+    private final Map<String, Map<Long, Map<String, Object>>> pending = new HashMap<>();
+    private final Map<String, Long> pendingSequences = new HashMap<>();
+    private Path dir;
+    private FileOutputStream walFile;
+    private DataOutputStream wal;
+
+    @PostConstruct
+    void open() throws IOException {
+        dir = Paths.get(dataDir);
+        Files.createDirectories(dir);
+        readSnapshot();
+        long replayed = replayWal();
+        log.info("Embedded store opened at {} ({} log records replayed)", dir.toAbsolutePath(), replayed);
+        // Start from a clean log so a torn tail from a crash is never appended to
+        writeSnapshot();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        synchronized (lock) {
+            writeSnapshot();
+            wal.close();
+        }
+    }
+
+    /** Registers a table, loading any rows recovered from disk. */
+    public <R extends Record> EmbeddedTable<R> table(String name, Class<R> rowType, ToLongFunction<R> idOf) {
+        synchronized (lock) {
+            EmbeddedTable<R> table = new EmbeddedTable<>(name, rowType, idOf, this);
+            Map<Long, Map<String, Object>> rows = pending.remove(name);
+            long storedSequence = pendingSequences.getOrDefault(name, 0L);
+            if (rows != null) {
+                rows.values().forEach(fields -> table.load(RowCodec.toRow(rowType, fields)));
+            }
+            table.restoreSequence(storedSequence);
+            tables.put(name, table);
+            return table;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${embedded.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        synchronized (lock) {
+            try {
+                writeSnapshot();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Embedded store snapshot failed", e);
+            }
+        }
+    }
+
+    // ---------- Transactions ----------
+
+    EmbeddedTransaction currentTransaction() {
+        return currentTransaction.get();
+    }
+
+    void bind(EmbeddedTransaction transaction) {
+        if (transaction == null) {
+            currentTransaction.remove();
+        } else {
+            currentTransaction.set(transaction);
+        }
+    }
+
+    /** Checks the transaction's conditions, then logs and applies its writes as one batch. */
+    void commit(EmbeddedTransaction transaction) {
+        if (transaction.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            transaction.checkConditions();
+            List<EmbeddedTransaction.Write> writes = transaction.allWrites();
+            try {
+                wal.writeByte(OP_BATCH);
+                wal.writeInt(writes.size());
+                for (EmbeddedTransaction.Write write : writes) {
+                    writeRecord(write.table(), write.id(), write.row());
+                }
+                sync();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Embedded store write failed", e);
+            }
+            writes.forEach(write -> write.table().applyWrite(write.id(), write.row()));
+        }
+    }
+
+    // ---------- Write path ----------
+
+    void logPut(EmbeddedTable<?> table, long id, Record row, Runnable apply) {
+        synchronized (lock) {
+            try {
+                writeRecord(table, id, row);
+                sync();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Embedded store write failed", e);
+            }
+            apply.run();
+        }
+    }
+
+    boolean logPutIf(EmbeddedTable<?> table, long id, Record row, BooleanSupplier condition, Runnable apply) {
+        synchronized (lock) {
+            if (!condition.getAsBoolean()) {
+                return false;
+            }
+            logPut(table, id, row, apply);
+            return true;
+        }
+    }
+
+    void logDelete(EmbeddedTable<?> table, long id, Runnable apply) {
+        synchronized (lock) {
+            try {
+                writeRecord(table, id, null);
+                sync();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Embedded store write failed", e);
+            }
+            apply.run();
+        }
+    }
+
+    // A null row is a delete
+    private void writeRecord(EmbeddedTable<?> table, long id, Record row) throws IOException {
+        wal.writeByte(row != null ? OP_PUT : OP_DELETE);
+        wal.writeUTF(table.name());
+        wal.writeLong(id);
+        if (row != null) {
+            RowCodec.write(wal, row);
+        }
+    }
+
+    private void sync() throws IOException {
+        wal.flush();
+        if (fsyncEachWrite) {
+            walFile.getFD().sync();
+        }
+    }
+
+    // ---------- Recovery ----------
+
+    private void readSnapshot() throws IOException {
+        Path file = dir.resolve("snapshot.dat");
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not an embedded store snapshot: " + file);
+            }
+            int tableCount = in.readInt();
+            for (int t = 0; t < tableCount; t++) {
+                String name = in.readUTF();
+                pendingSequences.put(name, in.readLong());
+                int rowCount = in.readInt();
+                Map<Long, Map<String, Object>> rows = pending.computeIfAbsent(name, n -> new HashMap<>());
+                for (int r = 0; r < rowCount; r++) {
+                    rows.put(in.readLong(), RowCodec.readFields(in));
+                }
+            }
+        }
+    }
+
+    private long replayWal() throws IOException {
+        Path file = dir.resolve("wal.log");
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long records = 0;
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+            while (true) {
+                byte op = in.readByte();
+                if (op == OP_BATCH) {
+                    // Read the whole batch first: a batch torn by a crash is dropped entirely
+                    int count = in.readInt();
+                    List<WalRecord> batch = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        WalRecord record = readRecord(in, in.readByte());
+                        if (record == null) {
+                            return records;
+                        }
+                        batch.add(record);
+                    }
+                    batch.forEach(this::replay);
+                    records += count;
+                } else {
+                    WalRecord record = readRecord(in, op);
+                    if (record == null) {
+                        break;
+                    }
+                    replay(record);
+                    records++;
+                }
+            }
+        } catch (EOFException e) {
+            // end of log, or a record torn by a crash
+        }
+        return records;
+    }
+
+    // Null fields for a delete
+    private record WalRecord(String table, long id, Map<String, Object> fields) {
+    }
+
+    private static WalRecord readRecord(DataInputStream in, byte op) throws IOException {
+        if (op != OP_PUT && op != OP_DELETE) {
+            return null;
+        }
+        String name = in.readUTF();
+        long id = in.readLong();
+        return new WalRecord(name, id, op == OP_PUT ? RowCodec.readFields(in) : null);
+    }
+
+    private void replay(WalRecord record) {
+        Map<Long, Map<String, Object>> rows = pending.computeIfAbsent(record.table(), n -> new HashMap<>());
+        if (record.fields() != null) {
+            rows.put(record.id(), record.fields());
+            pendingSequences.merge(record.table(), record.id(), Math::max);
+        } else {
+            rows.remove(record.id());
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        Path tmp = dir.resolve("snapshot.dat.tmp");
+        try (FileOutputStream fileOut = new FileOutputStream(tmp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 64 * 1024))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(tables.size() + pending.size());
+            for (EmbeddedTable<?> table : tables.values()) {
+                out.writeUTF(table.name());
+                out.writeLong(table.sequence());
+                Map<Long, ? extends Record> rows = table.rows();
+                out.writeInt(rows.size());
+                for (Map.Entry<Long, ? extends Record> row : rows.entrySet()) {
+                    out.writeLong(row.getKey());
+                    RowCodec.write(out, row.getValue());
+                }
+            }
+            for (Map.Entry<String, Map<Long, Map<String, Object>>> table : pending.entrySet()) {
+                out.writeUTF(table.getKey());
+                out.writeLong(pendingSequences.getOrDefault(table.getKey(), 0L));
+                out.writeInt(table.getValue().size());
+                for (Map.Entry<Long, Map<String, Object>> row : table.getValue().entrySet()) {
+                    out.writeLong(row.getKey());
+                    RowCodec.writeFields(out, row.getValue());
+                }
+            }
+            out.flush();
+            fileOut.getFD().sync();
+        }
+        Files.move(tmp, dir.resolve("snapshot.dat"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        if (wal != null) {
+            wal.close();
+        }
+        walFile = new FileOutputStream(dir.resolve("wal.log").toFile(), false);
+        wal = new DataOutputStream(new BufferedOutputStream(walFile, 64 * 1024));
+    }
+}
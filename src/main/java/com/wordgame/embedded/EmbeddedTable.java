@@ -0,0 +1,278 @@
+package com.wordgame.embedded;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-memory primary index of one table, plus optional secondary indexes. All writes
+ * go through {@link EmbeddedStore} so they are logged before they become visible.
+ * Inside a transaction, writes are buffered in its {@link EmbeddedTransaction} and reads
+ * on the same thread see them laid over the stored rows.
+ */
+public final class EmbeddedTable<R extends Record> {
+
+    private final String name;
+    private final Class<R> rowType;
+    private final ToLongFunction<R> idOf;
+    private final EmbeddedStore store;
+    private final ConcurrentSkipListMap<Long, R> rows = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Index<?>> indexes = new CopyOnWriteArrayList<>();
+    private volatile long[] idSnapshot;
+
+    EmbeddedTable(String name, Class<R> rowType, ToLongFunction<R> idOf, EmbeddedStore store) {
+        this.name = name;
+        this.rowType = rowType;
+        this.idOf = idOf;
+        this.store = store;
+    }
+
+    public long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    public R get(long id) {
+        Map<Long, Record> written = written();
+        return written.containsKey(id) ? rowType.cast(written.get(id)) : rows.get(id);
+    }
+
+    public Collection<R> all() {
+        Map<Long, Record> written = written();
+        if (written.isEmpty()) {
+            return Collections.unmodifiableCollection(rows.values());
+        }
+        TreeMap<Long, R> merged = new TreeMap<>(rows);
+        written.forEach((id, row) -> {
+            if (row == null) {
+                merged.remove(id);
+            } else {
+                merged.put(id, rowType.cast(row));
+            }
+        });
+        return Collections.unmodifiableCollection(merged.values());
+    }
+
+    public int size() {
+        return written().isEmpty() ? rows.size() : all().size();
+    }
+
+    public void put(R row) {
+        long id = idOf.applyAsLong(row);
+        EmbeddedTransaction transaction = store.currentTransaction();
+        if (transaction != null) {
+            transaction.put(this, id, row);
+        } else {
+            store.logPut(this, id, row, () -> apply(row));
+        }
+    }
+
+    /**
+     * Stores the row unless another row already has its key in the unique index. The check
+     * and the write happen under the store lock (at commit, inside a transaction), so
+     * concurrent writers cannot both pass it. Returns false on a conflict seen right away;
+     * a conflict found at commit fails the commit with a DataIntegrityViolationException.
+     */
+    public <K> boolean putIfUnique(R row, Index<K> unique) {
+        long id = idOf.applyAsLong(row);
+        K key = unique.keyOf.apply(row);
+        EmbeddedTransaction transaction = store.currentTransaction();
+        if (transaction == null) {
+            return store.logPutIf(this, id, row, () -> !unique.conflicts(key, id), () -> apply(row));
+        }
+        if (unique.conflicts(key, id)) {
+            return false;
+        }
+        transaction.put(this, id, row);
+        transaction.require(() -> !unique.conflicts(key, id),
+                () -> new DataIntegrityViolationException("Duplicate key " + key + " in " + name));
+        return true;
+    }
+
+    /**
+     * Replaces {@code expected} with the row only if it is still the stored row, like an
+     * UPDATE with the old values in its WHERE clause. Returns false if it changed; a
+     * change committed by another transaction in the meantime fails the commit with an
+     * OptimisticLockingFailureException.
+     */
+    public boolean putIfUnchanged(R expected, R row) {
+        long id = idOf.applyAsLong(row);
+        EmbeddedTransaction transaction = store.currentTransaction();
+        if (transaction == null) {
+            return store.logPutIf(this, id, row, () -> rows.get(id) == expected, () -> apply(row));
+        }
+        if (get(id) != expected) {
+            return false;
+        }
+        if (!transaction.writes(this).containsKey(id)) {
+            transaction.require(() -> rows.get(id) == expected,
+                    () -> new OptimisticLockingFailureException("Row " + id + " of " + name + " changed"));
+        }
+        transaction.put(this, id, row);
+        return true;
+    }
+
+    public void delete(long id) {
+        if (get(id) == null) {
+            return;
+        }
+        EmbeddedTransaction transaction = store.currentTransaction();
+        if (transaction != null) {
+            transaction.delete(this, id);
+        } else {
+            store.logDelete(this, id, () -> remove(id));
+        }
+    }
+
+    /** Uniformly random row, or null if the table is empty. */
+    public R random() {
+        long[] ids = idSnapshot;
+        if (ids == null) {
+            ids = rows.keySet().stream().mapToLong(Long::longValue).toArray();
+            idSnapshot = ids;
+        }
+        if (ids.length == 0) {
+            return null;
+        }
+        R row = rows.get(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+        return row != null ? row : random();
+    }
+
+    public <K> Index<K> index(Function<R, K> keyOf) {
+        Index<K> index = new Index<>(keyOf);
+        rows.values().forEach(index::add);
+        indexes.add(index);
+        return index;
+    }
+
+    // ---------- Store callbacks ----------
+
+    String name() {
+        return name;
+    }
+
+    Class<R> rowType() {
+        return rowType;
+    }
+
+    long sequence() {
+        return sequence.get();
+    }
+
+    Map<Long, R> rows() {
+        return rows;
+    }
+
+    void load(R row) {
+        apply(row);
+    }
+
+    void restoreSequence(long storedSequence) {
+        sequence.accumulateAndGet(storedSequence, Math::max);
+    }
+
+    // A committed transaction's write; a null row is a delete
+    void applyWrite(long id, Record row) {
+        if (row == null) {
+            remove(id);
+        } else {
+            apply(rowType.cast(row));
+        }
+    }
+
+    // The current transaction's buffered writes to this table
+    private Map<Long, Record> written() {
+        EmbeddedTransaction transaction = store.currentTransaction();
+        return transaction == null ? Collections.emptyMap() : transaction.writes(this);
+    }
+
+    private void apply(R row) {
+        long id = idOf.applyAsLong(row);
+        R old = rows.put(id, row);
+        for (Index<?> index : indexes) {
+            if (old != null) index.remove(old);
+            index.add(row);
+        }
+        sequence.accumulateAndGet(id, Math::max);
+        if (old == null) idSnapshot = null;
+    }
+
+    private void remove(long id) {
+        R old = rows.remove(id);
+        if (old != null) {
+            indexes.forEach(index -> index.remove(old));
+            idSnapshot = null;
+        }
+    }
+
+    /** Secondary index from a derived key to the ids of matching rows, in id order. */
+    public final class Index<K> {
+
+        private final Function<R, K> keyOf;
+        private final Map<K, Set<Long>> ids = new ConcurrentHashMap<>();
+
+        private Index(Function<R, K> keyOf) {
+            this.keyOf = keyOf;
+        }
+
+        public Set<Long> ids(K key) {
+            Set<Long> stored = ids.getOrDefault(key, Collections.emptySet());
+            Map<Long, Record> written = written();
+            if (written.isEmpty()) {
+                return stored;
+            }
+            Set<Long> merged = new TreeSet<>(stored);
+            written.forEach((id, row) -> {
+                if (row != null && key.equals(keyOf.apply(rowType.cast(row)))) {
+                    merged.add(id);
+                } else {
+                    merged.remove(id);
+                }
+            });
+            return merged;
+        }
+
+        public List<R> rows(K key) {
+            return ids(key).stream().map(EmbeddedTable.this::get).filter(r -> r != null).toList();
+        }
+
+        private boolean conflicts(K key, long id) {
+            for (Long other : ids(key)) {
+                if (other != id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(R row) {
+            K key = keyOf.apply(row);
+            if (key != null) {
+                ids.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(idOf.applyAsLong(row));
+            }
+        }
+
+        private void remove(R row) {
+            K key = keyOf.apply(row);
+            if (key != null) {
+                Set<Long> set = ids.get(key);
+                if (set != null) set.remove(idOf.applyAsLong(row));
+            }
+        }
+    }
+}
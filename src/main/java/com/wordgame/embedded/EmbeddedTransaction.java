@@ -0,0 +1,73 @@
+package com.wordgame.embedded;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Writes of one transaction, buffered until it commits. Only the owning thread sees
+ * them, through the reads of {@link EmbeddedTable}; a rollback simply drops them.
+ * Conditions (unique keys, compare-and-set updates) are checked again at commit,
+ * under the store lock, because other transactions may have committed in between.
+ */
+final class EmbeddedTransaction {
+
+    record Write(EmbeddedTable<?> table, long id, Record row) {
+    }
+
+    private record Condition(BooleanSupplier holds, Supplier<RuntimeException> failure) {
+    }
+
+    // Per table, id -> new row, or null for a delete; the last write of an id wins
+    private final Map<EmbeddedTable<?>, Map<Long, Record>> writes = new LinkedHashMap<>();
+    private final List<Condition> conditions = new ArrayList<>();
+    private boolean rollbackOnly;
+
+    void put(EmbeddedTable<?> table, long id, Record row) {
+        writes.computeIfAbsent(table, t -> new LinkedHashMap<>()).put(id, row);
+    }
+
+    void delete(EmbeddedTable<?> table, long id) {
+        put(table, id, null);
+    }
+
+    /** Buffered writes to the table, keyed by id; a null row is a delete. */
+    Map<Long, Record> writes(EmbeddedTable<?> table) {
+        Map<Long, Record> tableWrites = writes.get(table);
+        return tableWrites == null ? Collections.emptyMap() : tableWrites;
+    }
+
+    void require(BooleanSupplier holds, Supplier<RuntimeException> failure) {
+        conditions.add(new Condition(holds, failure));
+    }
+
+    void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    boolean isEmpty() {
+        return writes.isEmpty();
+    }
+
+    void checkConditions() {
+        for (Condition condition : conditions) {
+            if (!condition.holds().getAsBoolean()) {
+                throw condition.failure().get();
+            }
+        }
+    }
+
+    List<Write> allWrites() {
+        List<Write> all = new ArrayList<>();
+        writes.forEach((table, rows) -> rows.forEach((id, row) -> all.add(new Write(table, id, row))));
+        return all;
+    }
+}
@@ -0,0 +1,87 @@
+package com.wordgame.embedded;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+
+/**
+ * Binds an {@link EmbeddedTransaction} to the thread for the length of a Spring
+ * transaction. Its writes reach the write-ahead log as one batch on commit and are
+ * dropped on rollback.
+ */
+final class EmbeddedTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final EmbeddedStore store;
+
+    EmbeddedTransactionManager(EmbeddedStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        TransactionObject object = new TransactionObject();
+        object.transaction = store.currentTransaction();
+        return object;
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((TransactionObject) transaction).transaction != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionObject object = (TransactionObject) transaction;
+        object.transaction = new EmbeddedTransaction();
+        store.bind(object.transaction);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((TransactionObject) transaction).transaction = null;
+        EmbeddedTransaction suspended = store.currentTransaction();
+        store.bind(null);
+        return suspended;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        store.bind((EmbeddedTransaction) suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        store.commit(((TransactionObject) status.getTransaction()).transaction);
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // Nothing was applied; the buffered writes are dropped with the transaction
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((TransactionObject) status.getTransaction()).transaction.setRollbackOnly();
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        store.bind(null);
+    }
+
+    private static final class TransactionObject implements SmartTransactionObject {
+
+        EmbeddedTransaction transaction;
+
+        // Shared by every participant of the transaction, so an inner rollback reaches the outer commit
+        @Override
+        public boolean isRollbackOnly() {
+            return transaction != null && transaction.isRollbackOnly();
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
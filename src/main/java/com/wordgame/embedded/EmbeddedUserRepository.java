@@ -0,0 +1,69 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.Role;
+import com.wordgame.entity.User;
+import com.wordgame.repository.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedUserRepository extends EmbeddedRepository<User, EmbeddedUserRepository.UserRow>
+        implements UserRepository {
+
+    record UserRow(long id, String username, String passwordHash, String role, LocalDateTime createdAt,
+                   String timeZone, LocalDateTime timeZoneChangedAt) {
+    }
+
+    private final EmbeddedTable<UserRow>.Index<String> byUsername;
+
+    public EmbeddedUserRepository(EmbeddedStore store) {
+        super(store.table("users", UserRow.class, UserRow::id));
+        this.byUsername = table.index(UserRow::username);
+    }
+
+    @Override
+    public <S extends User> S save(S user) {
+        return saveUnique(user, byUsername, "username " + user.getUsername());
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return byUsername.rows(username).stream().findFirst().map(this::toEntity);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return !byUsername.ids(username).isEmpty();
+    }
+
+    @Override
+    protected Long idOf(User user) {
+        return user.getId();
+    }
+
+    @Override
+    protected void assignId(User user, long id) {
+        user.setId(id);
+    }
+
+    @Override
+    protected UserRow toRow(User user) {
+        return new UserRow(user.getId(), user.getUsername(), user.getPasswordHash(),
+                user.getRole().name(), user.getCreatedAt(), user.getTimeZone(),
+                user.getTimeZoneChangedAt());
+    }
+
+    @Override
+    public User toEntity(UserRow row) {
+        // Rows written before time zones existed have none
+        String timeZone = row.timeZone() != null ? row.timeZone() : "UTC";
+        User user = new User(row.id(), row.username(), row.passwordHash(), Role.valueOf(row.role()), row.createdAt(),
+                timeZone);
+        user.setTimeZoneChangedAt(row.timeZoneChangedAt());
+        return user;
+    }
+}
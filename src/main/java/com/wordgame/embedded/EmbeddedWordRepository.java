@@ -0,0 +1,84 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.Word;
+import com.wordgame.repository.WordRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedWordRepository extends EmbeddedRepository<Word, EmbeddedWordRepository.WordRow>
+        implements WordRepository {
+
+    private static final Pattern SEED_WORD = Pattern.compile("'([A-Z]{5})'");
+
+    record WordRow(long id, String word, LocalDateTime createdAt) {
+    }
+
+    private final EmbeddedTable<WordRow>.Index<String> byWord;
+
+    public EmbeddedWordRepository(EmbeddedStore store) {
+        super(store.table("words", WordRow.class, WordRow::id));
+        this.byWord = table.index(WordRow::word);
+    }
+
+    /** A fresh store has no words; load the same seed list the MySQL setup uses. */
+    @PostConstruct
+    void seed() throws IOException {
+        if (table.size() > 0) {
+            return;
+        }
+        String sql = new ClassPathResource("db/data.sql").getContentAsString(StandardCharsets.UTF_8);
+        Matcher matcher = SEED_WORD.matcher(sql);
+        while (matcher.find()) {
+            Word word = new Word();
+            word.setWord(matcher.group(1));
+            save(word);
+        }
+    }
+
+    @Override
+    public <S extends Word> S save(S word) {
+        return saveUnique(word, byWord, "word " + word.getWord());
+    }
+
+    @Override
+    public Optional<Word> findByWord(String word) {
+        return byWord.rows(word).stream().findFirst().map(this::toEntity);
+    }
+
+    @Override
+    public Word findRandomWord() {
+        WordRow row = table.random();
+        return row == null ? null : toEntity(row);
+    }
+
+    @Override
+    protected Long idOf(Word word) {
+        return word.getId();
+    }
+
+    @Override
+    protected void assignId(Word word, long id) {
+        word.setId(id);
+    }
+
+    @Override
+    protected WordRow toRow(Word word) {
+        return new WordRow(word.getId(), word.getWord(), word.getCreatedAt());
+    }
+
+    @Override
+    public Word toEntity(WordRow row) {
+        return new Word(row.id(), row.word(), row.createdAt());
+    }
+}
@@ -0,0 +1,62 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.WordStats;
+import com.wordgame.repository.WordStatsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedWordStatsRepository
+        extends EmbeddedRepository<WordStats, EmbeddedWordStatsRepository.WordStatsRow>
+        implements WordStatsRepository {
+
+    record WordStatsRow(long wordId, long plays, long solved1, long solved2, long solved3, long solved4,
+                        long solved5, LocalDateTime updatedAt) {
+    }
+
+    public EmbeddedWordStatsRepository(EmbeddedStore store) {
+        super(store.table("word_stats", WordStatsRow.class, WordStatsRow::wordId));
+    }
+
+    @Override
+    public int addCounts(Long wordId, long plays, long solved1, long solved2, long solved3,
+                         long solved4, long solved5, LocalDateTime now) {
+        WordStatsRow row = table.get(wordId);
+        if (row == null) {
+            return 0;
+        }
+        WordStatsRow added = new WordStatsRow(wordId, row.plays() + plays, row.solved1() + solved1,
+                row.solved2() + solved2, row.solved3() + solved3, row.solved4() + solved4,
+                row.solved5() + solved5, now);
+        if (!table.putIfUnchanged(row, added)) {
+            throw new OptimisticLockingFailureException("word_stats row " + wordId + " changed");
+        }
+        return 1;
+    }
+
+    @Override
+    protected Long idOf(WordStats stats) {
+        return stats.getWordId();
+    }
+
+    @Override
+    protected void assignId(WordStats stats, long id) {
+        // Keyed by word, which is always set
+    }
+
+    @Override
+    protected WordStatsRow toRow(WordStats stats) {
+        return new WordStatsRow(stats.getWordId(), stats.getPlays(), stats.getSolved1(), stats.getSolved2(),
+                stats.getSolved3(), stats.getSolved4(), stats.getSolved5(), stats.getUpdatedAt());
+    }
+
+    @Override
+    public WordStats toEntity(WordStatsRow row) {
+        return new WordStats(row.wordId(), row.plays(), row.solved1(), row.solved2(), row.solved3(),
+                row.solved4(), row.solved5(), row.updatedAt());
+    }
+}
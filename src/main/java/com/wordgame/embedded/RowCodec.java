@@ -0,0 +1,137 @@
+package com.wordgame.embedded;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Self-describing binary encoding of row records. Every field is written with its name,
+ * so rows written before a column was added still load (the new field gets its default).
+ */
+final class RowCodec {
+
+    private static final byte NULL = 0;
+    private static final byte LONG = 1;
+    private static final byte INT = 2;
+    private static final byte BOOL = 3;
+    private static final byte STRING = 4;
+    private static final byte TIME = 5;
+    private static final byte BYTES = 6;
+
+    private RowCodec() {
+    }
+
+    static void write(DataOutput out, Record row) throws IOException {
+        RecordComponent[] components = row.getClass().getRecordComponents();
+        out.writeShort(components.length);
+        for (RecordComponent component : components) {
+            out.writeUTF(component.getName());
+            Object value;
+            try {
+                value = component.getAccessor().invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            writeValue(out, value);
+        }
+    }
+
+    static Map<String, Object> readFields(DataInput in) throws IOException {
+        int count = in.readShort();
+        Map<String, Object> fields = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            fields.put(in.readUTF(), readValue(in));
+        }
+        return fields;
+    }
+
+    static void writeFields(DataOutput out, Map<String, Object> fields) throws IOException {
+        out.writeShort(fields.size());
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            out.writeUTF(field.getKey());
+            writeValue(out, field.getValue());
+        }
+    }
+
+    static <R extends Record> R toRow(Class<R> type, Map<String, Object> fields) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        Object[] args = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            args[i] = coerce(fields.get(components[i].getName()), types[i]);
+        }
+        try {
+            Constructor<R> constructor = type.getDeclaredConstructor(types);
+            constructor.setAccessible(true);
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot rebuild row " + type.getSimpleName(), e);
+        }
+    }
+
+    private static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            out.writeLong(l);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INT);
+            out.writeInt(i);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOL);
+            out.writeBoolean(b);
+        } else if (value instanceof String s) {
+            out.writeByte(STRING);
+            out.writeUTF(s);
+        } else if (value instanceof LocalDateTime t) {
+            out.writeByte(TIME);
+            out.writeLong(t.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(t.getNano());
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else {
+            throw new IllegalArgumentException("Unsupported column type " + value.getClass());
+        }
+    }
+
+    private static Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case LONG -> in.readLong();
+            case INT -> in.readInt();
+            case BOOL -> in.readBoolean();
+            case STRING -> in.readUTF();
+            case TIME -> LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            case BYTES -> {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                yield bytes;
+            }
+            default -> throw new IOException("Unknown column tag " + tag);
+        };
+    }
+
+    private static Object coerce(Object value, Class<?> type) {
+        if (value instanceof Number n) {
+            if (type == long.class || type == Long.class) return n.longValue();
+            if (type == int.class || type == Integer.class) return n.intValue();
+        }
+        if (value == null && type.isPrimitive()) {
+            if (type == boolean.class) return false;
+            if (type == long.class) return 0L;
+            if (type == int.class) return 0;
+        }
+        return value;
+    }
+}
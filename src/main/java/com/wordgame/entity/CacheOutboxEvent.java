@@ -0,0 +1,89 @@
+package com.wordgame.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One row per committed change that other nodes may hold in a local cache. Written in
+ * the same transaction as the change itself and read by every node in id order.
+ */
+@Entity
+@Table(name = "cache_outbox")
+public class CacheOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    // Node that made the change; it has already updated its own caches
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // ---------- Constructors ----------
+
+    public CacheOutboxEvent() {
+    }
+
+    public CacheOutboxEvent(Long id, ChangeType changeType, Long entityId, String originNode,
+                            LocalDateTime createdAt) {
+        this.id = id;
+        this.changeType = changeType;
+        this.entityId = entityId;
+        this.originNode = originNode;
+        this.createdAt = createdAt;
+    }
+
+    // ---------- Getters ----------
+
+    public Long getId() {
+        return id;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public String getOriginNode() {
+        return originNode;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // ---------- Setters ----------
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public void setOriginNode(String originNode) {
+        this.originNode = originNode;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
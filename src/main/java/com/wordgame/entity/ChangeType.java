@@ -0,0 +1,9 @@
+package com.wordgame.entity;
+
+/**
+ * Kind of entity a {@link CacheOutboxEvent} refers to. DAILY_RESULT events carry the
+ * id of a daily challenge game that just ended.
+ */
+public enum ChangeType {
+    USER, GAME, WORD, SEEN_WORDS, DAILY_RESULT
+}
@@ -0,0 +1,88 @@
+package com.wordgame.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * The daily challenge word of one day. Chosen once, on first use, and stored so that
+ * every node, and later changes to the word list, keep the same word for that day.
+ * <p>
+ * The id is assigned, so {@link Persistable} tells Spring Data a new day is new: saving
+ * it inserts, and a day another node stored first fails on the primary key instead of
+ * being merged over.
+ */
+@Entity
+@Table(name = "daily_words")
+public class DailyWord implements Persistable<Long> {
+
+    // Epoch day, same scale as Game.dayBucket
+    @Id
+    @Column(name = "day_bucket")
+    private Long dayBucket;
+
+    @Column(name = "word_id", nullable = false)
+    private Long wordId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Transient
+    private boolean stored;
+
+    // ---------- Constructors ----------
+
+    public DailyWord() {
+    }
+
+    public DailyWord(Long dayBucket, Long wordId, LocalDateTime createdAt) {
+        this.dayBucket = dayBucket;
+        this.wordId = wordId;
+        this.createdAt = createdAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+
+    // ---------- Getters ----------
+
+    @Override
+    public Long getId() {
+        return dayBucket;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    public Long getDayBucket() {
+        return dayBucket;
+    }
+
+    public Long getWordId() {
+        return wordId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // ---------- Setters ----------
+
+    public void setDayBucket(Long dayBucket) {
+        this.dayBucket = dayBucket;
+    }
+
+    public void setWordId(Long wordId) {
+        this.wordId = wordId;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -7,6 +7,9 @@ import java.time.LocalDateTime;
 @Table(name = "games")
 public class Game {
 
+    // Guesses allowed per game, in every mode
+    public static final int MAX_ATTEMPTS = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -22,27 +25,52 @@ public class Game {
     @Column(nullable = false)
     private LocalDateTime startedAt = LocalDateTime.now();
 
+    // Epoch day of the start in the player's time zone; daily limits and reports group by it
+    @Column(name = "day_bucket", nullable = false)
+    private int dayBucket;
+
     private LocalDateTime endedAt;
 
+    // Start or latest guess; open games idle for too long are closed by the sweeper
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt = LocalDateTime.now();
+
     @Column(nullable = false)
     private int attempts = 0;
 
     @Column(nullable = false)
     private boolean won = false;
 
+    // Hard mode: every guess must use the hints revealed so far
+    @Column(name = "hard_mode", nullable = false)
+    private boolean hardMode = false;
+
+    @Embedded
+    private HardModeHints hints = HardModeHints.NONE;
+
+    // Daily challenge games: the day whose shared word is played; null for other games
+    @Column(name = "challenge_day")
+    private Integer challengeDay;
+
     // ---------- Constructors ----------
     public Game() {
     }
 
-    public Game(Long id, User user, Word word, LocalDateTime startedAt,
-                LocalDateTime endedAt, int attempts, boolean won) {
+    public Game(Long id, User user, Word word, LocalDateTime startedAt, int dayBucket,
+                LocalDateTime endedAt, LocalDateTime lastActivityAt, int attempts, boolean won,
+                boolean hardMode, HardModeHints hints, Integer challengeDay) {
         this.id = id;
         this.user = user;
         this.word = word;
         this.startedAt = startedAt;
+        this.dayBucket = dayBucket;
         this.endedAt = endedAt;
+        this.lastActivityAt = lastActivityAt;
         this.attempts = attempts;
         this.won = won;
+        this.hardMode = hardMode;
+        this.hints = hints;
+        this.challengeDay = challengeDay;
     }
 
     // ---------- Getters ----------
@@ -62,10 +90,18 @@ public class Game {
         return startedAt;
     }
 
+    public int getDayBucket() {
+        return dayBucket;
+    }
+
     public LocalDateTime getEndedAt() {
         return endedAt;
     }
 
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
     public int getAttempts() {
         return attempts;
     }
@@ -74,6 +110,18 @@ public class Game {
         return won;
     }
 
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    public HardModeHints getHints() {
+        return hints;
+    }
+
+    public Integer getChallengeDay() {
+        return challengeDay;
+    }
+
     // ---------- Setters ----------
     public void setId(Long id) {
         this.id = id;
@@ -91,10 +139,18 @@ public class Game {
         this.startedAt = startedAt;
     }
 
+    public void setDayBucket(int dayBucket) {
+        this.dayBucket = dayBucket;
+    }
+
     public void setEndedAt(LocalDateTime endedAt) {
         this.endedAt = endedAt;
     }
 
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
     public void setAttempts(int attempts) {
         this.attempts = attempts;
     }
@@ -102,4 +158,16 @@ public class Game {
     public void setWon(boolean won) {
         this.won = won;
     }
+
+    public void setHardMode(boolean hardMode) {
+        this.hardMode = hardMode;
+    }
+
+    public void setHints(HardModeHints hints) {
+        this.hints = hints;
+    }
+
+    public void setChallengeDay(Integer challengeDay) {
+        this.challengeDay = challengeDay;
+    }
 }
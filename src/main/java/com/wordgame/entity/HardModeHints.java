@@ -0,0 +1,133 @@
+package com.wordgame.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Everything a hard-mode game has revealed so far, folded into three primitives so a
+ * new guess is checked without reading earlier guesses. Immutable: {@link #after}
+ * returns the hints including one more guess.
+ */
+@Embeddable
+public class HardModeHints {
+
+    public static final HardModeHints NONE = new HardModeHints(0, 0, 0L);
+
+    private static final int WORD_LENGTH = 5;
+    private static final int POSITION_BITS = 5;
+    private static final int COUNT_BITS = 2;
+    private static final int MAX_COUNT = 3;
+
+    // Same values as GuessEvaluator.GRAY / GREEN
+    private static final byte GRAY = 0;
+    private static final byte GREEN = 2;
+
+    // Bit i: letter 'A' + i was revealed (green or orange) and must be used
+    @Column(name = "hint_letters", nullable = false)
+    private int letters;
+
+    // 5 bits per position: letter index + 1 of a green there, 0 while open
+    @Column(name = "hint_positions", nullable = false)
+    private int positions;
+
+    // 2 bits per letter: least number of copies a guess must have, saturating at 3
+    @Column(name = "hint_counts", nullable = false)
+    private long counts;
+
+    // ---------- Constructors ----------
+    protected HardModeHints() {
+    }
+
+    public HardModeHints(int letters, int positions, long counts) {
+        this.letters = letters;
+        this.positions = positions;
+        this.counts = counts;
+    }
+
+    /** Whether the guess keeps every green in place and uses every revealed letter. */
+    public boolean allows(String guess) {
+        if (guess.length() != WORD_LENGTH) {
+            return false;
+        }
+        int guessLetters = 0;
+        long guessCounts = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letter = guess.charAt(i) - 'A';
+            int fixed = (positions >>> (i * POSITION_BITS)) & 31;
+            if (fixed != 0 && fixed != letter + 1) {
+                return false;
+            }
+            if (letter >= 0 && letter < 26) {
+                guessLetters |= 1 << letter;
+                guessCounts = increment(guessCounts, letter);
+            }
+        }
+        if ((letters & ~guessLetters) != 0) {
+            return false;
+        }
+        for (int rest = letters; rest != 0; rest &= rest - 1) {
+            int letter = Integer.numberOfTrailingZeros(rest);
+            if (count(guessCounts, letter) < count(counts, letter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The hints after a guess was colored; colors as returned by {@code GuessEvaluator.colors}. */
+    public HardModeHints after(String guess, byte[] colors) {
+        int nextLetters = letters;
+        int nextPositions = positions;
+        long greens = 0;
+        int present = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letter = guess.charAt(i) - 'A';
+            if (colors[i] == GRAY) {
+                continue;
+            }
+            nextLetters |= 1 << letter;
+            present |= 1 << letter;
+            if (colors[i] == GREEN) {
+                nextPositions |= (letter + 1) << (i * POSITION_BITS);
+                greens = increment(greens, letter);
+            }
+        }
+        long nextCounts = counts;
+        for (int rest = present; rest != 0; rest &= rest - 1) {
+            int letter = Integer.numberOfTrailingZeros(rest);
+            // Every misplaced copy of a present letter is orange, so oranges prove one copy only
+            int seen = Math.max(count(greens, letter), 1);
+            if (seen > count(nextCounts, letter)) {
+                nextCounts = withCount(nextCounts, letter, seen);
+            }
+        }
+        return new HardModeHints(nextLetters, nextPositions, nextCounts);
+    }
+
+    private static int count(long counts, int letter) {
+        return (int) (counts >>> (letter * COUNT_BITS)) & MAX_COUNT;
+    }
+
+    private static long increment(long counts, int letter) {
+        int current = count(counts, letter);
+        return current == MAX_COUNT ? counts : withCount(counts, letter, current + 1);
+    }
+
+    private static long withCount(long counts, int letter, int count) {
+        int shift = letter * COUNT_BITS;
+        return (counts & ~((long) MAX_COUNT << shift)) | ((long) Math.min(count, MAX_COUNT) << shift);
+    }
+
+    // ---------- Getters ----------
+    public int getLetters() {
+        return letters;
+    }
+
+    public int getPositions() {
+        return positions;
+    }
+
+    public long getCounts() {
+        return counts;
+    }
+}
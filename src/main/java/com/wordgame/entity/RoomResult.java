@@ -0,0 +1,137 @@
+package com.wordgame.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One player's result in a multiplayer room, written when the room ends. The room
+ * itself is never stored.
+ */
+@Entity
+@Table(name = "room_results")
+public class RoomResult {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "word_id", nullable = false)
+    private Long wordId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private boolean won;
+
+    // 1 = best: solved, then fewest guesses, then first to finish
+    @Column(nullable = false)
+    private int place;
+
+    // Null when the player had not finished before the room ended
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "ended_at", nullable = false)
+    private LocalDateTime endedAt;
+
+    // ---------- Constructors ----------
+
+    public RoomResult() {
+    }
+
+    public RoomResult(Long id, Long roomId, Long userId, Long wordId, int attempts, boolean won,
+                      int place, LocalDateTime finishedAt, LocalDateTime endedAt) {
+        this.id = id;
+        this.roomId = roomId;
+        this.userId = userId;
+        this.wordId = wordId;
+        this.attempts = attempts;
+        this.won = won;
+        this.place = place;
+        this.finishedAt = finishedAt;
+        this.endedAt = endedAt;
+    }
+
+    // ---------- Getters ----------
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getWordId() {
+        return wordId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public int getPlace() {
+        return place;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+
+    // ---------- Setters ----------
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public void setWordId(Long wordId) {
+        this.wordId = wordId;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public void setWon(boolean won) {
+        this.won = won;
+    }
+
+    public void setPlace(int place) {
+        this.place = place;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public void setEndedAt(LocalDateTime endedAt) {
+        this.endedAt = endedAt;
+    }
+}
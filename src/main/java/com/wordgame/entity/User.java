@@ -2,16 +2,24 @@
 package com.wordgame.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-username")
 public class User {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(unique = true, nullable = false, length = 50)
     private String username;
 
@@ -25,17 +33,27 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // IANA zone id; decides where the player's day starts
+    @Column(name = "time_zone", nullable = false, length = 64)
+    private String timeZone = "UTC";
+
+    // Last time zone change; null if the zone was set on registration only
+    @Column(name = "time_zone_changed_at")
+    private LocalDateTime timeZoneChangedAt;
+
     // ---------- Constructors ----------
 
     public User() {
     }
 
-    public User(Long id, String username, String passwordHash, Role role, LocalDateTime createdAt) {
+    public User(Long id, String username, String passwordHash, Role role, LocalDateTime createdAt,
+                String timeZone) {
         this.id = id;
         this.username = username;
         this.passwordHash = passwordHash;
         this.role = role;
         this.createdAt = createdAt;
+        this.timeZone = timeZone;
     }
 
     // ---------- Getters ----------
@@ -60,6 +78,14 @@ public class User {
         return createdAt;
     }
 
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    public LocalDateTime getTimeZoneChangedAt() {
+        return timeZoneChangedAt;
+    }
+
     // ---------- Setters ----------
 
     public void setId(Long id) {
@@ -81,5 +107,13 @@ public class User {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    public void setTimeZoneChangedAt(LocalDateTime timeZoneChangedAt) {
+        this.timeZoneChangedAt = timeZoneChangedAt;
+    }
 }
 
@@ -0,0 +1,75 @@
+package com.wordgame.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Word ids a user has already played in the current no-repeat cycle, as a serialized
+ * {@link com.wordgame.service.SeenWordSet}. Kept out of {@code users} so the cached
+ * user rows stay small.
+ */
+@Entity
+@Table(name = "user_seen_words")
+public class UserSeenWords {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] bitmap;
+
+    @Column(name = "word_count", nullable = false)
+    private int wordCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // ---------- Constructors ----------
+
+    public UserSeenWords() {
+    }
+
+    public UserSeenWords(Long userId, byte[] bitmap, int wordCount, LocalDateTime updatedAt) {
+        this.userId = userId;
+        this.bitmap = bitmap;
+        this.wordCount = wordCount;
+        this.updatedAt = updatedAt;
+    }
+
+    // ---------- Getters ----------
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public byte[] getBitmap() {
+        return bitmap;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // ---------- Setters ----------
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public void setBitmap(byte[] bitmap) {
+        this.bitmap = bitmap;
+    }
+
+    public void setWordCount(int wordCount) {
+        this.wordCount = wordCount;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,10 +1,15 @@
 package com.wordgame.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "words")
+// Admins can add and rename words; other nodes evict through the cache outbox
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "words")
 public class Word {
 
     @Id
@@ -0,0 +1,123 @@
+package com.wordgame.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Play statistics of one word: how often it was played and a histogram of the guesses
+ * needed to solve it. Only ever incremented, by each node's periodic flush.
+ */
+@Entity
+@Table(name = "word_stats")
+public class WordStats {
+
+    @Id
+    @Column(name = "word_id")
+    private Long wordId;
+
+    @Column(nullable = false)
+    private long plays;
+
+    @Column(name = "solved_1", nullable = false)
+    private long solved1;
+
+    @Column(name = "solved_2", nullable = false)
+    private long solved2;
+
+    @Column(name = "solved_3", nullable = false)
+    private long solved3;
+
+    @Column(name = "solved_4", nullable = false)
+    private long solved4;
+
+    @Column(name = "solved_5", nullable = false)
+    private long solved5;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // ---------- Constructors ----------
+
+    public WordStats() {
+    }
+
+    public WordStats(Long wordId, long plays, long solved1, long solved2, long solved3, long solved4,
+                     long solved5, LocalDateTime updatedAt) {
+        this.wordId = wordId;
+        this.plays = plays;
+        this.solved1 = solved1;
+        this.solved2 = solved2;
+        this.solved3 = solved3;
+        this.solved4 = solved4;
+        this.solved5 = solved5;
+        this.updatedAt = updatedAt;
+    }
+
+    // ---------- Getters ----------
+
+    public Long getWordId() {
+        return wordId;
+    }
+
+    public long getPlays() {
+        return plays;
+    }
+
+    public long getSolved1() {
+        return solved1;
+    }
+
+    public long getSolved2() {
+        return solved2;
+    }
+
+    public long getSolved3() {
+        return solved3;
+    }
+
+    public long getSolved4() {
+        return solved4;
+    }
+
+    public long getSolved5() {
+        return solved5;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // ---------- Setters ----------
+
+    public void setWordId(Long wordId) {
+        this.wordId = wordId;
+    }
+
+    public void setPlays(long plays) {
+        this.plays = plays;
+    }
+
+    public void setSolved1(long solved1) {
+        this.solved1 = solved1;
+    }
+
+    public void setSolved2(long solved2) {
+        this.solved2 = solved2;
+    }
+
+    public void setSolved3(long solved3) {
+        this.solved3 = solved3;
+    }
+
+    public void setSolved4(long solved4) {
+        this.solved4 = solved4;
+    }
+
+    public void setSolved5(long solved5) {
+        this.solved5 = solved5;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.wordgame.exception;
+
+/**
+ * Base of the expected, business-level rejections. These are control flow rather than
+ * bugs, so they carry no stack trace and no suppressed exceptions; fixed-message
+ * rejections are preallocated once and rethrown, which makes a rejected request as cheap
+ * as a successful one. {@link GlobalExceptionHandler} maps them to the code's HTTP status.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final ErrorCode code;
+
+    protected DomainException(ErrorCode code) {
+        this(code, code.getMessage());
+    }
+
+    protected DomainException(ErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+
+    /** Seconds for the Retry-After header, or 0 if the request should not be retried. */
+    public long getRetryAfterSeconds() {
+        return 0;
+    }
+}
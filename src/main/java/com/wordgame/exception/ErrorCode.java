@@ -0,0 +1,66 @@
+package com.wordgame.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Stable, machine-readable error codes returned as {@code code} next to the
+ * human-readable {@code error} message.
+ */
+public enum ErrorCode {
+
+    // Requests
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, "Bad request"),
+    USERNAME_TOO_SHORT(HttpStatus.BAD_REQUEST, "Username must be at least 5 characters long"),
+    USERNAME_TAKEN(HttpStatus.BAD_REQUEST, "Username already exists"),
+    INVALID_TIME_ZONE(HttpStatus.BAD_REQUEST, "Unknown time zone"),
+    INVALID_CREDENTIALS(HttpStatus.BAD_REQUEST, "Invalid credentials"),
+    INVALID_GAME_STATE(HttpStatus.BAD_REQUEST, "Invalid game state token"),
+    GAME_STATE_EXPIRED(HttpStatus.BAD_REQUEST, "Game state token expired"),
+    INVALID_WORD(HttpStatus.BAD_REQUEST, "Words must be five letters A-Z"),
+    WORD_TAKEN(HttpStatus.BAD_REQUEST, "Word already exists"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key was already used for a different request"),
+
+    // Game rules
+    DAILY_LIMIT_REACHED(HttpStatus.BAD_REQUEST, "Daily limit (3 games) reached"),
+    DAILY_CHALLENGE_PLAYED(HttpStatus.BAD_REQUEST, "Today's daily challenge was already played"),
+    GAME_ALREADY_ENDED(HttpStatus.BAD_REQUEST, "Game already ended"),
+    MAX_GUESSES_REACHED(HttpStatus.BAD_REQUEST, "Maximum guesses reached"),
+    STALE_GAME_STATE(HttpStatus.CONFLICT, "Game state is stale"),
+    HARD_MODE_VIOLATION(HttpStatus.BAD_REQUEST, "Hard mode: guesses must keep greens in place and use every revealed letter"),
+    ROOM_FULL(HttpStatus.BAD_REQUEST, "Room is full"),
+    ROOM_ALREADY_STARTED(HttpStatus.BAD_REQUEST, "Room has already started"),
+    ROOM_NOT_RUNNING(HttpStatus.BAD_REQUEST, "Room is not running"),
+    TIME_ZONE_CHANGED_RECENTLY(HttpStatus.BAD_REQUEST, "Time zone can be changed once every 24 hours"),
+
+    // Lookups and access
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User not found"),
+    GAME_NOT_FOUND(HttpStatus.NOT_FOUND, "Game not found"),
+    WORD_NOT_FOUND(HttpStatus.NOT_FOUND, "Word not found"),
+    ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "Room not found"),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access denied"),
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized"),
+
+    // Capacity
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "Too many requests"),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Authentication is busy, try again shortly"),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, try again shortly"),
+
+    // Bugs and outages; details are logged, never returned
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
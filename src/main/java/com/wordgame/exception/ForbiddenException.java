@@ -0,0 +1,10 @@
+package com.wordgame.exception;
+
+public class ForbiddenException extends DomainException {
+
+    public static final ForbiddenException ACCESS_DENIED = new ForbiddenException(ErrorCode.ACCESS_DENIED);
+
+    private ForbiddenException(ErrorCode code) {
+        super(code);
+    }
+}
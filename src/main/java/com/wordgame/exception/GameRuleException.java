@@ -0,0 +1,20 @@
+package com.wordgame.exception;
+
+/** A move the game rules do not allow: a sixth guess, a fourth game today, a replayed state, a zone hop. */
+public class GameRuleException extends DomainException {
+
+    public static final GameRuleException DAILY_LIMIT_REACHED = new GameRuleException(ErrorCode.DAILY_LIMIT_REACHED);
+    public static final GameRuleException DAILY_CHALLENGE_PLAYED = new GameRuleException(ErrorCode.DAILY_CHALLENGE_PLAYED);
+    public static final GameRuleException GAME_ALREADY_ENDED = new GameRuleException(ErrorCode.GAME_ALREADY_ENDED);
+    public static final GameRuleException MAX_GUESSES_REACHED = new GameRuleException(ErrorCode.MAX_GUESSES_REACHED);
+    public static final GameRuleException STALE_GAME_STATE = new GameRuleException(ErrorCode.STALE_GAME_STATE);
+    public static final GameRuleException HARD_MODE_VIOLATION = new GameRuleException(ErrorCode.HARD_MODE_VIOLATION);
+    public static final GameRuleException ROOM_FULL = new GameRuleException(ErrorCode.ROOM_FULL);
+    public static final GameRuleException ROOM_ALREADY_STARTED = new GameRuleException(ErrorCode.ROOM_ALREADY_STARTED);
+    public static final GameRuleException ROOM_NOT_RUNNING = new GameRuleException(ErrorCode.ROOM_NOT_RUNNING);
+    public static final GameRuleException TIME_ZONE_CHANGED_RECENTLY = new GameRuleException(ErrorCode.TIME_ZONE_CHANGED_RECENTLY);
+
+    private GameRuleException(ErrorCode code) {
+        super(code);
+    }
+}
@@ -1,7 +1,11 @@
 package com.wordgame.exception;
 
-import org.springframework.http.HttpStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -9,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -21,9 +26,43 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<?> handleDomainException(DomainException ex) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getCode().getStatus());
+        if (ex.getRetryAfterSeconds() > 0) {
+            response.header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()));
+        }
+        return response.body(body(ex.getCode(), ex.getMessage()));
+    }
+
+    // Failed logins (bad password, unknown user)
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<?> handleAuthenticationException(AuthenticationException ex) {
+        return ResponseEntity.status(ErrorCode.INVALID_CREDENTIALS.getStatus())
+                .body(body(ErrorCode.INVALID_CREDENTIALS, ErrorCode.INVALID_CREDENTIALS.getMessage()));
+    }
+
+    // Malformed JSON bodies and parameters of the wrong type
+    @ExceptionHandler({HttpMessageNotReadableException.class, TypeMismatchException.class})
+    public ResponseEntity<?> handleUnreadableRequest(RuntimeException ex) {
+        return ResponseEntity.badRequest()
+                .body(body(ErrorCode.BAD_REQUEST, ErrorCode.BAD_REQUEST.getMessage()));
+    }
+
+    // Anything else is a bug or an outage: log it, and keep its message out of the response
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<?> handleRuntimeException(RuntimeException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(Map.of("error", ex.getMessage()));
+    public ResponseEntity<?> handleRuntimeException(RuntimeException ex, HttpServletRequest request) {
+        log.error("Unhandled exception on {} {}", request.getMethod(), request.getRequestURI(), ex);
+        return ResponseEntity.status(ErrorCode.INTERNAL_ERROR.getStatus())
+                .body(body(ErrorCode.INTERNAL_ERROR, ErrorCode.INTERNAL_ERROR.getMessage()));
+    }
+
+    public static Map<String, String> body(ErrorCode code, String message) {
+        return Map.of("error", message, "code", code.name());
+    }
+
+    /** JSON error body for filters that answer before the MVC layer. */
+    public static String json(ErrorCode code) {
+        return "{\"error\":\"" + code.getMessage() + "\",\"code\":\"" + code.name() + "\"}";
     }
 }
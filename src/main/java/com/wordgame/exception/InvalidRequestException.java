@@ -0,0 +1,21 @@
+package com.wordgame.exception;
+
+public class InvalidRequestException extends DomainException {
+
+    public static final InvalidRequestException USERNAME_TOO_SHORT = new InvalidRequestException(ErrorCode.USERNAME_TOO_SHORT);
+    public static final InvalidRequestException USERNAME_TAKEN = new InvalidRequestException(ErrorCode.USERNAME_TAKEN);
+    public static final InvalidRequestException INVALID_GAME_STATE = new InvalidRequestException(ErrorCode.INVALID_GAME_STATE);
+    public static final InvalidRequestException GAME_STATE_EXPIRED = new InvalidRequestException(ErrorCode.GAME_STATE_EXPIRED);
+    public static final InvalidRequestException IDEMPOTENCY_KEY_REUSED = new InvalidRequestException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    public static final InvalidRequestException INVALID_TIME_ZONE = new InvalidRequestException(ErrorCode.INVALID_TIME_ZONE);
+    public static final InvalidRequestException INVALID_WORD = new InvalidRequestException(ErrorCode.INVALID_WORD);
+    public static final InvalidRequestException WORD_TAKEN = new InvalidRequestException(ErrorCode.WORD_TAKEN);
+
+    private InvalidRequestException(ErrorCode code) {
+        super(code);
+    }
+
+    public InvalidRequestException(String message) {
+        super(ErrorCode.BAD_REQUEST, message);
+    }
+}
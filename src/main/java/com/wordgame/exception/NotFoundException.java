@@ -0,0 +1,13 @@
+package com.wordgame.exception;
+
+public class NotFoundException extends DomainException {
+
+    public static final NotFoundException USER = new NotFoundException(ErrorCode.USER_NOT_FOUND);
+    public static final NotFoundException GAME = new NotFoundException(ErrorCode.GAME_NOT_FOUND);
+    public static final NotFoundException WORD = new NotFoundException(ErrorCode.WORD_NOT_FOUND);
+    public static final NotFoundException ROOM = new NotFoundException(ErrorCode.ROOM_NOT_FOUND);
+
+    private NotFoundException(ErrorCode code) {
+        super(code);
+    }
+}
@@ -0,0 +1,16 @@
+package com.wordgame.exception;
+
+public class RateLimitedException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitedException(long retryAfterSeconds) {
+        super(ErrorCode.RATE_LIMITED);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.wordgame.exception;
+
+/**
+ * Thrown when a bounded worker pool is saturated; mapped to 503 with a Retry-After header.
+ */
+public class ServiceBusyException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(ErrorCode code, long retryAfterSeconds) {
+        super(code);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
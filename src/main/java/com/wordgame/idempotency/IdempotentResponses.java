@@ -0,0 +1,115 @@
+package com.wordgame.idempotency;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordgame.exception.ErrorCode;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Responses of requests sent with an {@code Idempotency-Key} header, kept per
+ * (user, key) in a bounded Caffeine cache for a while after they complete.
+ * <p>
+ * A repeated request gets the stored response back, marked with
+ * {@code Idempotent-Replayed: true}. A duplicate that arrives while the first request
+ * is still running waits for that request's result instead of running a second
+ * time. Failures are not stored, so the client can retry after an error.
+ */
+@Component
+public class IdempotentResponses {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private record Key(String username, String idempotencyKey) {
+    }
+
+    // The request the response belongs to; a key reused for another request is rejected
+    private record Stored(String fingerprint, ResponseEntity<?> response) {
+    }
+
+    private final AsyncCache<Key, Stored> cache;
+    private final long waitTimeoutMs;
+    private final Counter replayed;
+
+    public IdempotentResponses(MeterRegistry meterRegistry,
+                               @Value("${idempotency.max-entries:100000}") long maxEntries,
+                               @Value("${idempotency.ttl-minutes:10}") long ttlMinutes,
+                               @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        // Entries expire ttl after their response completed; in-flight ones never expire
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .buildAsync();
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.replayed = Counter.builder("idempotency.replayed").register(meterRegistry);
+    }
+
+    /**
+     * Runs the request once per (user, key). {@code fingerprint} identifies the request
+     * (e.g. path and body) so that reusing a key for a different request is an error.
+     */
+    public ResponseEntity<?> execute(String username, String idempotencyKey, String fingerprint,
+                                     Supplier<ResponseEntity<?>> request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        Key key = new Key(username, idempotencyKey);
+        CompletableFuture<Stored> mine = new CompletableFuture<>();
+        CompletableFuture<Stored> existing = cache.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            return replay(await(existing), fingerprint);
+        }
+        try {
+            ResponseEntity<?> response = request.get();
+            mine.complete(new Stored(fingerprint, response));
+            return response;
+        } catch (RuntimeException e) {
+            // Waiting duplicates get the same error; the cache drops failed entries
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> replay(Stored stored, String fingerprint) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw InvalidRequestException.IDEMPOTENCY_KEY_REUSED;
+        }
+        replayed.increment();
+        ResponseEntity<?> response = stored.response();
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    private Stored await(CompletableFuture<Stored> inFlight) {
+        try {
+            return inFlight.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceBusyException(ErrorCode.SERVER_BUSY, 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(ErrorCode.SERVER_BUSY, 1);
+        }
+    }
+}
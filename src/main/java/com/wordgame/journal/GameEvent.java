@@ -0,0 +1,155 @@
+package com.wordgame.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One journal entry. Fields that do not apply to the event type are left at their defaults.
+ */
+public class GameEvent {
+
+    private final GameEventType type;
+    private final long timestamp;
+    private final long gameId;
+    private long userId;
+    private long wordId;
+    private int dayBucket;
+    private int guessNumber;
+    private String guessWord;
+    private String evaluation;
+    private boolean won;
+    private int attempts;
+
+    private GameEvent(GameEventType type, long timestamp, long gameId) {
+        this.type = type;
+        this.timestamp = timestamp;
+        this.gameId = gameId;
+    }
+
+    public static GameEvent gameStarted(long timestamp, long gameId, long userId, long wordId, int dayBucket) {
+        GameEvent event = new GameEvent(GameEventType.GAME_STARTED, timestamp, gameId);
+        event.userId = userId;
+        event.wordId = wordId;
+        event.dayBucket = dayBucket;
+        return event;
+    }
+
+    public static GameEvent guessEvaluated(long timestamp, long gameId, int guessNumber,
+                                           String guessWord, String evaluation) {
+        GameEvent event = new GameEvent(GameEventType.GUESS_EVALUATED, timestamp, gameId);
+        event.guessNumber = guessNumber;
+        event.guessWord = guessWord;
+        event.evaluation = evaluation;
+        return event;
+    }
+
+    public static GameEvent gameEnded(long timestamp, long gameId, boolean won, int attempts) {
+        GameEvent event = new GameEvent(GameEventType.GAME_ENDED, timestamp, gameId);
+        event.won = won;
+        event.attempts = attempts;
+        return event;
+    }
+
+    // ---------- Encoding ----------
+
+    void encode(ByteBuffer buf) {
+        buf.put((byte) type.ordinal());
+        buf.putLong(timestamp);
+        buf.putLong(gameId);
+        switch (type) {
+            case GAME_STARTED -> {
+                buf.putLong(userId);
+                buf.putLong(wordId);
+                buf.putInt(dayBucket);
+            }
+            case GUESS_EVALUATED -> {
+                buf.put((byte) guessNumber);
+                putString(buf, guessWord);
+                putString(buf, evaluation);
+            }
+            case GAME_ENDED -> {
+                buf.put((byte) (won ? 1 : 0));
+                buf.put((byte) attempts);
+            }
+        }
+    }
+
+    static GameEvent decode(ByteBuffer buf) {
+        GameEventType type = GameEventType.of(buf.get());
+        if (type == null) {
+            return null;
+        }
+        long timestamp = buf.getLong();
+        long gameId = buf.getLong();
+        return switch (type) {
+            case GAME_STARTED -> {
+                long userId = buf.getLong();
+                long wordId = buf.getLong();
+                // Records written before the day bucket was journaled: the UTC day of the start
+                int dayBucket = buf.remaining() >= 4 ? buf.getInt()
+                        : (int) Math.floorDiv(timestamp, 86_400_000L);
+                yield gameStarted(timestamp, gameId, userId, wordId, dayBucket);
+            }
+            case GUESS_EVALUATED -> guessEvaluated(timestamp, gameId, buf.get(), getString(buf), getString(buf));
+            case GAME_ENDED -> gameEnded(timestamp, gameId, buf.get() == 1, buf.get());
+        };
+    }
+
+    private static void putString(ByteBuffer buf, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buf.putShort((short) bytes.length);
+        buf.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getShort() & 0xFFFF];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ---------- Getters ----------
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getWordId() {
+        return wordId;
+    }
+
+    public int getDayBucket() {
+        return dayBucket;
+    }
+
+    public int getGuessNumber() {
+        return guessNumber;
+    }
+
+    public String getGuessWord() {
+        return guessWord;
+    }
+
+    public String getEvaluation() {
+        return evaluation;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,11 @@
+package com.wordgame.journal;
+
+public enum GameEventType {
+    GAME_STARTED, GUESS_EVALUATED, GAME_ENDED;
+
+    private static final GameEventType[] VALUES = values();
+
+    static GameEventType of(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+    }
+}
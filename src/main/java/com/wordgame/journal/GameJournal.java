@@ -0,0 +1,202 @@
+package com.wordgame.journal;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of game state changes, written to fixed-size memory-mapped
+ * segment files. Events are appended once the surrounding transaction commits and
+ * fsynced in batches, either every {@code journal.fsync-batch} records or on the
+ * {@code journal.fsync-interval-ms} timer, whichever comes first. The journal trails
+ * the database: an event that cannot be written is logged and counted in
+ * {@code journal.append.failures}, never reported to the already committed caller.
+ */
+@Slf4j
+@Component
+public class GameJournal {
+
+    private static final int MAX_RECORD_BYTES = 4096;
+
+    @Value("${journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${journal.dir:data/journal}")
+    private String journalDir;
+
+    @Value("${journal.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${journal.fsync-batch:256}")
+    private int fsyncBatch;
+
+    private Path dir;
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_BYTES);
+    private final CRC32C crc = new CRC32C();
+    private MappedByteBuffer segment;
+    private long segmentSequence;
+    private int unforced;
+    private final Counter appendFailures;
+
+    public GameJournal(MeterRegistry meterRegistry) {
+        this.appendFailures = Counter.builder("journal.append.failures").register(meterRegistry);
+    }
+
+    @PostConstruct
+    synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        dir = Paths.get(journalDir);
+        Files.createDirectories(dir);
+        List<Path> segments = JournalReader.segments(dir);
+        if (segments.isEmpty()) {
+            openSegment(1);
+            return;
+        }
+        Path last = segments.get(segments.size() - 1);
+        segmentSequence = JournalReader.sequenceOf(last);
+        segment = map(last);
+        // Resume after the last intact record; anything behind it is a torn write
+        int end = JournalReader.scan(segment.duplicate(), null);
+        segment.position(end);
+        log.info("Game journal opened at {} (segment {}, offset {})", dir.toAbsolutePath(), segmentSequence, end);
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        flush();
+    }
+
+    public void gameStarted(Game game) {
+        append(GameEvent.gameStarted(millis(game.getStartedAt()), game.getId(),
+                game.getUser().getId(), game.getWord().getId(), game.getDayBucket()));
+    }
+
+    public void guessEvaluated(Guess guess) {
+        append(GameEvent.guessEvaluated(millis(guess.getCreatedAt()), guess.getGame().getId(),
+                guess.getGuessNumber(), guess.getGuessWord(), guess.getEvaluation()));
+    }
+
+    public void gameEnded(Game game) {
+        gameEnded(game.getId(), game.isWon(), game.getAttempts(), game.getEndedAt());
+    }
+
+    public void gameEnded(long gameId, boolean won, int attempts, LocalDateTime endedAt) {
+        append(GameEvent.gameEnded(millis(endedAt), gameId, won, attempts));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getDirectory() {
+        return Paths.get(journalDir);
+    }
+
+    /** Forces pending records to disk. */
+    @Scheduled(fixedDelayString = "${journal.fsync-interval-ms:200}")
+    public synchronized void flush() {
+        if (segment != null && unforced > 0) {
+            segment.force();
+            unforced = 0;
+        }
+    }
+
+    private void append(GameEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writeOrCount(event);
+                }
+            });
+        } else {
+            writeOrCount(event);
+        }
+    }
+
+    private void writeOrCount(GameEvent event) {
+        try {
+            write(event);
+        } catch (UncheckedIOException e) {
+            appendFailures.increment();
+            log.error("Failed to journal {} of game {}", event.getType(), event.getGameId(), e);
+        }
+    }
+
+    private synchronized void write(GameEvent event) {
+        scratch.clear();
+        scratch.position(JournalReader.HEADER_BYTES);
+        event.encode(scratch);
+        int length = scratch.position() - JournalReader.HEADER_BYTES;
+        crc.reset();
+        crc.update(scratch.array(), JournalReader.HEADER_BYTES, length);
+        scratch.putInt(0, length);
+        scratch.putInt(4, (int) crc.getValue());
+        scratch.flip();
+
+        try {
+            if (segment.remaining() < scratch.remaining() + JournalReader.HEADER_BYTES) {
+                segment.force();
+                openSegment(segmentSequence + 1);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll game journal segment", e);
+        }
+        segment.put(scratch);
+        if (segment.remaining() >= 4) {
+            segment.putInt(segment.position(), 0); // end marker, hides any stale tail after recovery
+        }
+        if (++unforced >= fsyncBatch) {
+            segment.force();
+            unforced = 0;
+        }
+    }
+
+    private void openSegment(long sequence) throws IOException {
+        Path file = dir.resolve(String.format("%s%016d%s",
+                JournalReader.SEGMENT_PREFIX, sequence, JournalReader.SEGMENT_SUFFIX));
+        segment = map(file);
+        segmentSequence = sequence;
+        unforced = 0;
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = Math.max(channel.size(), (long) segmentSizeMb * 1024 * 1024);
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time == null ? 0 : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
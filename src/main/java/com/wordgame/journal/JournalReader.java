@@ -0,0 +1,87 @@
+package com.wordgame.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Sequential reader over journal segments. A record is {@code [int length][int crc32c][body]};
+ * a zero length marks the unwritten tail of a segment and a checksum mismatch marks a torn write.
+ */
+public final class JournalReader {
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final int HEADER_BYTES = 8;
+
+    private JournalReader() {
+    }
+
+    /** Replays every valid event in every segment, oldest first. */
+    public static void forEach(Path dir, Consumer<GameEvent> consumer) throws IOException {
+        for (Path segment : segments(dir)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                scan(buf, consumer);
+            }
+        }
+    }
+
+    static List<Path> segments(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Reads records from the start of the buffer until the end of valid data.
+     * Returns the position right after the last valid record.
+     */
+    static int scan(ByteBuffer buf, Consumer<GameEvent> consumer) {
+        CRC32C crc = new CRC32C();
+        int position = 0;
+        while (position + HEADER_BYTES <= buf.limit()) {
+            int length = buf.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > buf.limit()) {
+                break;
+            }
+            int checksum = buf.getInt(position + 4);
+            ByteBuffer body = buf.slice(position + HEADER_BYTES, length);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            GameEvent event = GameEvent.decode(body);
+            if (event == null) {
+                break;
+            }
+            if (consumer != null) {
+                consumer.accept(event);
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,105 @@
+package com.wordgame.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Rebuilds game, per-user stats and per-day rollup state from the journal alone. Days
+ * are the players' day buckets, as in the live reports.
+ * Can be run standalone: {@code java -cp app.jar com.wordgame.journal.JournalReplayer data/journal}.
+ */
+public final class JournalReplayer {
+
+    public static class ReplayedGame {
+        public long gameId;
+        public long userId;
+        public long wordId;
+        public long startedAt;
+        // Epoch day in the player's time zone, as in games.day_bucket
+        public int dayBucket;
+        public long endedAt;
+        public int attempts;
+        public boolean won;
+    }
+
+    public static class UserStats {
+        public long played;
+        public long won;
+    }
+
+    public static class DailyRollup {
+        public long games;
+        public long wins;
+        public final Set<Long> players = new HashSet<>();
+    }
+
+    public static class ReplayState {
+        public final Map<Long, ReplayedGame> games = new HashMap<>();
+        public final Map<Long, UserStats> userStats = new HashMap<>();
+        public final Map<LocalDate, DailyRollup> daily = new TreeMap<>();
+        public long events;
+
+        void apply(GameEvent event) {
+            events++;
+            switch (event.getType()) {
+                case GAME_STARTED -> {
+                    ReplayedGame game = new ReplayedGame();
+                    game.gameId = event.getGameId();
+                    game.userId = event.getUserId();
+                    game.wordId = event.getWordId();
+                    game.startedAt = event.getTimestamp();
+                    game.dayBucket = event.getDayBucket();
+                    games.put(game.gameId, game);
+                    userStats.computeIfAbsent(game.userId, id -> new UserStats()).played++;
+                    DailyRollup day = daily.computeIfAbsent(LocalDate.ofEpochDay(game.dayBucket), d -> new DailyRollup());
+                    day.games++;
+                    day.players.add(game.userId);
+                }
+                case GUESS_EVALUATED -> {
+                    ReplayedGame game = games.get(event.getGameId());
+                    if (game != null) {
+                        game.attempts = Math.max(game.attempts, event.getGuessNumber());
+                    }
+                }
+                case GAME_ENDED -> {
+                    ReplayedGame game = games.get(event.getGameId());
+                    if (game == null || game.endedAt != 0) {
+                        return;
+                    }
+                    game.endedAt = event.getTimestamp();
+                    game.attempts = event.getAttempts();
+                    game.won = event.isWon();
+                    if (game.won) {
+                        userStats.computeIfAbsent(game.userId, id -> new UserStats()).won++;
+                        daily.computeIfAbsent(LocalDate.ofEpochDay(game.dayBucket), d -> new DailyRollup()).wins++;
+                    }
+                }
+            }
+        }
+    }
+
+    private JournalReplayer() {
+    }
+
+    public static ReplayState replay(Path dir) throws IOException {
+        ReplayState state = new ReplayState();
+        JournalReader.forEach(dir, state::apply);
+        return state;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "data/journal");
+        ReplayState state = replay(dir);
+        System.out.printf("events=%d games=%d users=%d days=%d%n",
+                state.events, state.games.size(), state.userStats.size(), state.daily.size());
+        state.daily.forEach((date, day) ->
+                System.out.printf("%s games=%d wins=%d players=%d%n", date, day.games, day.wins, day.players.size()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.wordgame.loadshed;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit. Each request that finishes under the target latency while the
+ * limit is actually being used grows the limit by 1/limit (about +1 per round of requests);
+ * a slow request shrinks it by the backoff ratio, at most once per target-latency window so
+ * a burst of slow responses does not collapse it. Admission is by priority share of the limit.
+ * Only CRITICAL and NORMAL latencies move the limit: LOW requests (starts, practice, reports)
+ * are slower by nature and would otherwise shrink the share of the guesses they queue behind.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    @Value("${loadshed.initial-limit:50}")
+    private int initialLimit;
+
+    @Value("${loadshed.min-limit:10}")
+    private int minLimit;
+
+    @Value("${loadshed.max-limit:500}")
+    private int maxLimit;
+
+    @Value("${loadshed.target-latency-ms:250}")
+    private long targetLatencyMs;
+
+    @Value("${loadshed.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecrease;
+
+    @PostConstruct
+    void init() {
+        limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        // A slow response right after startup may already back off
+        lastDecrease = System.nanoTime() - targetLatencyMs * 1_000_000;
+    }
+
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = (int) Math.max(1, Math.floor(limit * priority.getShare()));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(RequestPriority priority, long latencyNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        if (priority == RequestPriority.LOW) {
+            return;
+        }
+        long targetNanos = targetLatencyMs * 1_000_000;
+        synchronized (this) {
+            double current = limit;
+            if (latencyNanos > targetNanos) {
+                long now = System.nanoTime();
+                if (now - lastDecrease > targetNanos) {
+                    limit = Math.max(minLimit, current * backoffRatio);
+                    lastDecrease = now;
+                }
+            } else if (inFlightAtRelease * 2 >= current) {
+                limit = Math.min(maxLimit, current + 1.0 / current);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /** True while even critical requests would be rejected. */
+    public boolean isSaturated() {
+        return inFlight.get() >= getLimit();
+    }
+}
@@ -0,0 +1,92 @@
+package com.wordgame.loadshed;
+
+import com.wordgame.exception.ErrorCode;
+import com.wordgame.exception.GlobalExceptionHandler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Admits game, auth and admin report requests through the {@link AdaptiveConcurrencyLimiter}
+ * and sheds the rest with 503 and Retry-After before they reach the security chain,
+ * Tomcat's worker queue or the JDBC pool.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Value("${loadshed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${loadshed.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || priorityOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RequestPriority priority = priorityOf(request);
+        if (!limiter.tryAcquire(priority)) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write(GlobalExceptionHandler.json(ErrorCode.SERVER_BUSY));
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(priority, System.nanoTime() - started);
+        }
+    }
+
+    static RequestPriority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean post = "POST".equals(request.getMethod());
+        if (path.startsWith("/api/games/")) {
+            if (post && path.endsWith("/guess")) {
+                return RequestPriority.CRITICAL;
+            }
+            boolean start = path.equals("/api/games/start") || path.equals("/api/games/daily/start");
+            return post && start ? RequestPriority.LOW : RequestPriority.NORMAL;
+        }
+        if (path.startsWith("/api/rooms")) {
+            if (path.endsWith("/events")) {
+                // Streams stay open for the whole round and are not latency-bound
+                return null;
+            }
+            return post && path.endsWith("/guess") ? RequestPriority.CRITICAL : RequestPriority.NORMAL;
+        }
+        if (path.startsWith("/api/practice/")) {
+            // Cheap, but nothing is lost if practice waits for real games
+            return RequestPriority.LOW;
+        }
+        if (path.startsWith("/api/auth/")) {
+            return RequestPriority.NORMAL;
+        }
+        if (path.startsWith("/api/admin/report/") || path.equals("/api/admin/user/activity")) {
+            return RequestPriority.LOW;
+        }
+        // Exports stream for minutes and are not latency-bound; everything else is unlimited
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.wordgame.loadshed;
+
+/**
+ * Share of the concurrency limit each kind of request may use. Lower priorities are
+ * shed first, so guesses in running games keep going while starts and reports wait.
+ */
+public enum RequestPriority {
+
+    /** Guesses in games already in progress */
+    CRITICAL(1.0),
+    /** Login, register and game reads */
+    NORMAL(0.8),
+    /** New games, practice games and admin reports */
+    LOW(0.5);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double getShare() {
+        return share;
+    }
+}
@@ -0,0 +1,15 @@
+package com.wordgame.outbox;
+
+import com.wordgame.entity.ChangeType;
+
+import java.util.Set;
+
+/**
+ * Local cache that must drop or reload entries changed on another node. Called by
+ * {@link OutboxPoller} once per change type and poll, with the ids changed since the
+ * last poll; the same id may be delivered more than once.
+ */
+public interface ChangeListener {
+
+    void onChanges(ChangeType type, Set<Long> ids);
+}
@@ -0,0 +1,44 @@
+package com.wordgame.outbox;
+
+import com.wordgame.entity.CacheOutboxEvent;
+import com.wordgame.entity.ChangeType;
+import com.wordgame.repository.CacheOutboxRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Write side of the cache change feed. Services call {@link #record} inside the
+ * transaction that makes the change, so the event is committed exactly when the
+ * change is. Without a database (embedded profile) there is a single node and
+ * nothing is recorded.
+ */
+@Component
+public class ChangeOutbox {
+
+    private final CacheOutboxRepository repository;
+    private final String nodeId;
+
+    public ChangeOutbox(ObjectProvider<CacheOutboxRepository> repository,
+                        @Value("${outbox.node-id:${random.uuid}}") String nodeId) {
+        this.repository = repository.getIfAvailable();
+        this.nodeId = nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Not @Transactional(MANDATORY): the embedded transaction manager never reports an existing transaction
+    public void record(ChangeType type, long entityId) {
+        if (repository != null) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new IllegalStateException("Changes must be recorded inside the changing transaction");
+            }
+            repository.save(new CacheOutboxEvent(null, type, entityId, nodeId, LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.wordgame.outbox;
+
+import com.wordgame.entity.ChangeType;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Second-level cache entries (users, words) and the query cache results that may include them. */
+@Component
+@Profile("!embedded")
+@RequiredArgsConstructor
+public class HibernateCacheInvalidator implements ChangeListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void onChanges(ChangeType type, Set<Long> ids) {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        switch (type) {
+            case USER -> {
+                ids.forEach(id -> cache.evictEntityData(User.class, id));
+                // Usernames never change, so the natural-id entries stay valid, but a new
+                // user changes cached existsByUsername results
+                cache.evictDefaultQueryRegion();
+            }
+            case WORD -> {
+                ids.forEach(id -> cache.evictEntityData(Word.class, id));
+                cache.evictDefaultQueryRegion();
+            }
+            case GAME, SEEN_WORDS, DAILY_RESULT -> {
+            }
+        }
+    }
+}
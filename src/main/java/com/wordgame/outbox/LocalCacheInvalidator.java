@@ -0,0 +1,32 @@
+package com.wordgame.outbox;
+
+import com.wordgame.entity.ChangeType;
+import com.wordgame.service.SeenWordsStore;
+import com.wordgame.service.WordCatalog;
+import com.wordgame.sweeper.AbandonedGameSweeper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Application-level caches: word catalog, seen-word sets and the sweeper's timing wheel. */
+@Component
+@RequiredArgsConstructor
+public class LocalCacheInvalidator implements ChangeListener {
+
+    private final WordCatalog wordCatalog;
+    private final SeenWordsStore seenWordsStore;
+    private final AbandonedGameSweeper sweeper;
+
+    @Override
+    public void onChanges(ChangeType type, Set<Long> ids) {
+        switch (type) {
+            case WORD -> wordCatalog.refresh();
+            case SEEN_WORDS -> ids.forEach(seenWordsStore::evict);
+            // Another node is serving the game now and tracks its idle time
+            case GAME -> ids.forEach(sweeper::forget);
+            case USER, DAILY_RESULT -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.wordgame.outbox;
+
+import com.wordgame.entity.CacheOutboxEvent;
+import com.wordgame.entity.ChangeType;
+import com.wordgame.repository.CacheOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read side of the cache change feed: tails {@code cache_outbox} by primary key and
+ * hands the changes made by other nodes to the {@link ChangeListener}s.
+ * <p>
+ * Auto-increment ids are allocated at insert but become visible at commit, so a row
+ * with a lower id can appear after a higher one. The cursor therefore only moves past
+ * an id once it has been seen, or once it has been missing for {@code gap-timeout-ms}
+ * (a rolled-back insert leaves a permanent hole). Rows beyond a hole are applied
+ * right away and remembered, so nothing waits for the hole.
+ */
+@Slf4j
+@Component
+@Profile("!embedded")
+public class OutboxPoller {
+
+    // Larger holes are id jumps, not transactions still in flight
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    private final CacheOutboxRepository repository;
+    private final List<ChangeListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final int batchSize;
+    private final long gapTimeoutMs;
+    private final Duration retention;
+
+    private long cursor = -1;
+    private final Set<Long> appliedAhead = new HashSet<>();
+    private final Map<Long, Long> gapsSince = new HashMap<>();
+    private final Map<Long, Long> jumps = new HashMap<>();
+
+    private final Timer lag;
+    private final Counter applied;
+
+    public OutboxPoller(CacheOutboxRepository repository,
+                        List<ChangeListener> listeners,
+                        TransactionTemplate transactionTemplate,
+                        ChangeOutbox changeOutbox,
+                        MeterRegistry meterRegistry,
+                        @Value("${outbox.batch-size:500}") int batchSize,
+                        @Value("${outbox.gap-timeout-ms:5000}") long gapTimeoutMs,
+                        @Value("${outbox.retention-minutes:60}") long retentionMinutes) {
+        this.repository = repository;
+        this.listeners = listeners;
+        this.transactionTemplate = transactionTemplate;
+        this.nodeId = changeOutbox.getNodeId();
+        this.batchSize = batchSize;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.lag = Timer.builder("outbox.lag")
+                .description("Time from a change being recorded to this node applying it")
+                .register(meterRegistry);
+        this.applied = Counter.builder("outbox.events.applied").register(meterRegistry);
+        Gauge.builder("outbox.gaps", this, p -> p.gapCount()).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (cursor < 0) {
+            // A starting node has empty caches: only later changes matter
+            cursor = repository.findMaxId();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<CacheOutboxEvent> events =
+                repository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+
+        Map<ChangeType, Set<Long>> changes = new EnumMap<>(ChangeType.class);
+        long expected = cursor + 1;
+        for (CacheOutboxEvent event : events) {
+            long id = event.getId();
+            if (id - expected > MAX_TRACKED_GAP) {
+                jumps.put(expected, id - 1);
+            } else {
+                for (long missing = expected; missing < id; missing++) {
+                    gapsSince.putIfAbsent(missing, now);
+                }
+            }
+            gapsSince.remove(id);
+            expected = id + 1;
+            if (!appliedAhead.add(id) || nodeId.equals(event.getOriginNode())) {
+                continue;
+            }
+            changes.computeIfAbsent(event.getChangeType(), t -> new LinkedHashSet<>()).add(event.getEntityId());
+            lag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        }
+        changes.forEach((type, ids) -> {
+            for (ChangeListener listener : listeners) {
+                try {
+                    listener.onChanges(type, ids);
+                } catch (RuntimeException e) {
+                    log.warn("Cache listener {} failed for {} changes", listener.getClass().getSimpleName(), type, e);
+                }
+            }
+            applied.increment(ids.size());
+        });
+        advance(now);
+    }
+
+    // Moves the cursor over applied ids, expired holes and id jumps
+    private void advance(long now) {
+        while (true) {
+            long next = cursor + 1;
+            if (appliedAhead.remove(next)) {
+                cursor = next;
+            } else if (jumps.containsKey(next)) {
+                cursor = jumps.remove(next);
+            } else if (gapsSince.containsKey(next) && now - gapsSince.get(next) >= gapTimeoutMs) {
+                gapsSince.remove(next);
+                cursor = next;
+            } else {
+                break;
+            }
+        }
+    }
+
+    synchronized int gapCount() {
+        return gapsSince.size();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:600000}")
+    public void deleteOldEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteCreatedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.debug("Deleted {} cache outbox events older than {}", deleted, cutoff);
+        }
+    }
+}
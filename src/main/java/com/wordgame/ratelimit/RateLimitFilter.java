@@ -0,0 +1,78 @@
+package com.wordgame.ratelimit;
+
+import com.wordgame.exception.ErrorCode;
+import com.wordgame.exception.GlobalExceptionHandler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Rejects login, register and guess requests over their per-IP (and, for guesses,
+ * per-user) budget with 429 before any password hashing or database work happens.
+ * The per-username login budget needs the request body, so AuthController checks it.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimitRule rule = ruleFor(request);
+        if (rule != null) {
+            String ip = request.getRemoteAddr();
+            long retryAfter = rateLimiter.tryAcquire(rule, ip);
+            if (retryAfter == 0 && rule == RateLimitRule.GUESS) {
+                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+                if (auth != null) {
+                    retryAfter = rateLimiter.tryAcquire(rule, "user:" + auth.getName());
+                    if (retryAfter > 0) {
+                        // A user over budget must not drain the IP budget shared with others
+                        rateLimiter.refund(rule, ip);
+                    }
+                }
+            }
+            if (retryAfter > 0) {
+                reject(response, retryAfter);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    static void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write(GlobalExceptionHandler.json(ErrorCode.RATE_LIMITED));
+    }
+
+    private static RateLimitRule ruleFor(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/api/auth/login")) {
+            return RateLimitRule.LOGIN;
+        }
+        if (path.equals("/api/auth/register")) {
+            return RateLimitRule.REGISTER;
+        }
+        if ((path.startsWith("/api/games/") || path.startsWith("/api/rooms/")) && path.endsWith("/guess")) {
+            return RateLimitRule.GUESS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.wordgame.ratelimit;
+
+public enum RateLimitRule {
+    LOGIN, LOGIN_USER, REGISTER, GUESS
+}
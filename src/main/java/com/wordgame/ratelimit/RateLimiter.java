@@ -0,0 +1,89 @@
+package com.wordgame.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process per-key token buckets, one map per rule. The maps are concurrent hash maps
+ * (internally striped) and the buckets themselves are lock-free. Buckets that have
+ * refilled completely carry no state and are evicted periodically.
+ */
+@Component
+public class RateLimiter {
+
+    @Value("${ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ratelimit.login.capacity:10}")
+    private int loginCapacity;
+    @Value("${ratelimit.login.refill-per-minute:10}")
+    private int loginRefill;
+
+    @Value("${ratelimit.login-user.capacity:5}")
+    private int loginUserCapacity;
+    @Value("${ratelimit.login-user.refill-per-minute:5}")
+    private int loginUserRefill;
+
+    @Value("${ratelimit.register.capacity:5}")
+    private int registerCapacity;
+    @Value("${ratelimit.register.refill-per-minute:2}")
+    private int registerRefill;
+
+    @Value("${ratelimit.guess.capacity:20}")
+    private int guessCapacity;
+    @Value("${ratelimit.guess.refill-per-minute:60}")
+    private int guessRefill;
+
+    private final Map<RateLimitRule, Map<String, TokenBucket>> buckets = new EnumMap<>(RateLimitRule.class);
+
+    public RateLimiter() {
+        for (RateLimitRule rule : RateLimitRule.values()) {
+            buckets.put(rule, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Takes a token for the key (an IP or a username) under the rule.
+     * Returns 0 if the request may proceed, otherwise the seconds to wait.
+     */
+    public long tryAcquire(RateLimitRule rule, String key) {
+        if (!enabled || key == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(rule).computeIfAbsent(key, k -> newBucket(rule, now));
+        long waitNanos = bucket.tryAcquire(now);
+        return waitNanos == 0 ? 0 : Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    /** Returns the token taken for the key, e.g. when a second bucket rejected the request. */
+    public void refund(RateLimitRule rule, String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+        TokenBucket bucket = buckets.get(rule).get(key);
+        if (bucket != null) {
+            bucket.refund();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().forEach(map -> map.values().removeIf(bucket -> bucket.isFull(now)));
+    }
+
+    private TokenBucket newBucket(RateLimitRule rule, long now) {
+        return switch (rule) {
+            case LOGIN -> new TokenBucket(loginCapacity, loginRefill, now);
+            case LOGIN_USER -> new TokenBucket(loginUserCapacity, loginUserRefill, now);
+            case REGISTER -> new TokenBucket(registerCapacity, registerRefill, now);
+            case GUESS -> new TokenBucket(guessCapacity, guessRefill, now);
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.wordgame.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Kept in its GCRA form: instead of a token count and a refill
+ * timestamp, a single "theoretical arrival time" is advanced with one CAS per request.
+ * A bucket whose arrival time is in the past is full, i.e. indistinguishable from a new one.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;   // time to earn one token
+    private final long burstNanos;      // capacity expressed as time
+    private final AtomicLong arrival;
+
+    TokenBucket(int capacity, int refillPerMinute, long now) {
+        this.intervalNanos = 60_000_000_000L / Math.max(1, refillPerMinute);
+        this.burstNanos = intervalNanos * Math.max(1, capacity);
+        this.arrival = new AtomicLong(now);
+    }
+
+    /** Takes one token; returns 0 if allowed, otherwise nanoseconds until one is available. */
+    long tryAcquire(long now) {
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Gives back a token taken by {@link #tryAcquire} when the request was rejected elsewhere. */
+    void refund() {
+        arrival.addAndGet(-intervalNanos);
+    }
+
+    boolean isFull(long now) {
+        return arrival.get() <= now;
+    }
+}
@@ -0,0 +1,29 @@
+package com.wordgame.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The CRUD methods the application actually uses. Repositories extend this instead of
+ * JpaRepository so the embedded store implements every method it exposes; Spring Data
+ * JPA still backs these with SimpleJpaRepository.
+ */
+@NoRepositoryBean
+public interface BaseRepository<T, ID> extends Repository<T, ID> {
+
+    <S extends T> S save(S entity);
+
+    <S extends T> List<S> saveAll(Iterable<S> entities);
+
+    Optional<T> findById(ID id);
+
+    /** A reference for setting an association; on JPA a proxy that is not loaded. */
+    T getReferenceById(ID id);
+
+    List<T> findAll();
+
+    void deleteAllByIdInBatch(Iterable<ID> ids);
+}
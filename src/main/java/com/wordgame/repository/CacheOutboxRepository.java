@@ -0,0 +1,24 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.CacheOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CacheOutboxRepository extends JpaRepository<CacheOutboxEvent, Long> {
+
+    // Cursor reads: primary key range scan
+    List<CacheOutboxEvent> findByIdGreaterThanOrderByIdAsc(Long cursor, Pageable pageable);
+
+    @Query("select coalesce(max(e.id), 0) from CacheOutboxEvent e")
+    long findMaxId();
+
+    @Modifying
+    @Query("delete from CacheOutboxEvent e where e.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,6 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.DailyWord;
+
+public interface DailyWordRepository extends BaseRepository<DailyWord, Long> {
+}
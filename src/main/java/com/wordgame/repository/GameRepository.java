@@ -4,17 +4,22 @@ package com.wordgame.repository;
 import com.wordgame.entity.Game;
 import com.wordgame.entity.User;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
-public interface GameRepository extends JpaRepository<Game, Long> {
-    long countByUserIdAndWonTrueAndStartedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
+public interface GameRepository extends BaseRepository<Game, Long> {
     @Query("SELECT g FROM Game g JOIN FETCH g.word WHERE g.user.id = :userId ORDER BY g.startedAt DESC")
     List<Game> findByUserIdWithWordOrderByStartedAtDesc(@Param("userId") Long userId);
 
@@ -24,15 +29,90 @@ public interface GameRepository extends JpaRepository<Game, Long> {
     List<Game> findByUserIdOrderByStartedAtDesc(Long userId);
     List<Game> findByUserIdAndEndedAtIsNullOrderByStartedAtDesc(Long userId);
 
-    // Reporting
-    long countByUserIdAndStartedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
-    long countByWonTrueAndStartedAtBetween(LocalDateTime start, LocalDateTime end);
+    // Session bootstrap: first page of open / ended games with their words, and totals
+    @Query("SELECT g FROM Game g JOIN FETCH g.word WHERE g.user.id = :userId AND g.endedAt IS NULL ORDER BY g.startedAt DESC")
+    List<Game> findOpenGamesWithWord(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("select count(distinct g.user.id) from Game g where g.startedAt between :start and :end")
-    long countDistinctUsersByStartedAtBetween(@Param("start") LocalDateTime start,
-                                              @Param("end") LocalDateTime end);
+    @Query("SELECT g FROM Game g JOIN FETCH g.word WHERE g.user.id = :userId AND g.endedAt IS NOT NULL ORDER BY g.startedAt DESC")
+    List<Game> findEndedGamesWithWord(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select count(g) as played, sum(case when g.won = true then 1 else 0 end) as won " +
+           "from Game g where g.user.id = :userId and g.endedAt is not null")
+    PlayerStats findStatsByUserId(@Param("userId") Long userId);
+
+    interface PlayerStats {
+        Long getPlayed();
+
+        // null when the player has no ended games
+        Long getWon();
+    }
+
+    // Daily limits and reporting: equality on the player-local day bucket
+    long countByUserIdAndDayBucket(Long userId, int dayBucket);
+    long countByUserIdAndWonTrueAndDayBucket(Long userId, int dayBucket);
+    long countByWonTrueAndDayBucket(int dayBucket);
+
+    @Query("select count(distinct g.user.id) from Game g where g.dayBucket = :day")
+    long countDistinctUsersByDayBucket(@Param("day") int dayBucket);
+
+    @Query("select distinct g.user.id from Game g where g.dayBucket = :day")
+    List<Long> findDistinctUserIdsByDayBucket(@Param("day") int dayBucket);
+
+    // Daily challenge: one game per player and day (uk_games_challenge_day_user)
+    boolean existsByUserIdAndChallengeDay(Long userId, Integer challengeDay);
+
+    // Seeds a node's in-memory results of a day once; afterwards they are kept incrementally
+    @Query("select g.attempts as attempts, g.won as won, count(g) as games from Game g " +
+           "where g.challengeDay = :day and g.endedAt is not null group by g.attempts, g.won")
+    List<DailyOutcomeCount> countDailyOutcomes(@Param("day") int day);
+
+    interface DailyOutcomeCount {
+        int getAttempts();
+
+        boolean getWon();
+
+        long getGames();
+    }
+
+    // Archiving
+    @Query("SELECT g FROM Game g JOIN FETCH g.word WHERE g.endedAt IS NOT NULL AND g.startedAt < :cutoff ORDER BY g.startedAt")
+    List<Game> findArchivableGames(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 
     @Query("SELECT g FROM Game g JOIN FETCH g.word WHERE g.id = :gameId")
     Game findByIdWithWord(@Param("gameId") Long gameId);
+
+    // Stateless guesses: advance only if the game is still at the attempt count the client saw;
+    // daily challenge games are excluded because their results are counted on the stateful path
+    @Modifying
+    @Query("update Game g set g.attempts = :attempts, g.won = :won, g.endedAt = :endedAt, " +
+           "g.lastActivityAt = :now, g.hints.letters = :hintLetters, " +
+           "g.hints.positions = :hintPositions, g.hints.counts = :hintCounts " +
+           "where g.id = :gameId and g.attempts = :expectedAttempts and g.endedAt is null " +
+           "and g.challengeDay is null")
+    int advanceGame(@Param("gameId") Long gameId,
+                    @Param("expectedAttempts") int expectedAttempts,
+                    @Param("attempts") int attempts,
+                    @Param("won") boolean won,
+                    @Param("endedAt") LocalDateTime endedAt,
+                    @Param("now") LocalDateTime now,
+                    @Param("hintLetters") int hintLetters,
+                    @Param("hintPositions") int hintPositions,
+                    @Param("hintCounts") long hintCounts);
+
+    // Abandoned-game sweeper. Rows are locked with SKIP LOCKED, so sweepers on several
+    // nodes claim disjoint batches instead of waiting for each other.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT g FROM Game g WHERE g.endedAt IS NULL AND g.lastActivityAt < :cutoff ORDER BY g.lastActivityAt")
+    List<Game> findAbandonedGames(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT g FROM Game g WHERE g.id IN :ids AND g.endedAt IS NULL AND g.lastActivityAt < :cutoff")
+    List<Game> findAbandonedGamesByIdIn(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("update Game g set g.endedAt = :endedAt, g.won = false where g.id in :ids and g.endedAt is null")
+    int closeGames(@Param("ids") Collection<Long> ids, @Param("endedAt") LocalDateTime endedAt);
 }
 
@@ -3,11 +3,54 @@ package com.wordgame.repository;
 
 import com.wordgame.entity.Game;
 import com.wordgame.entity.Guess;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 
-public interface GuessRepository extends JpaRepository<Guess, Long> {
-    List<Guess> findByGame(Game game);
-    List<Guess> findByGameIdOrderByGuessNumberAsc(Long gameId);
+public interface GuessRepository extends BaseRepository<Guess, Long> {
+    // Explicit queries: derived ones join games and filter on games.id, which scans guesses
+    @Query("select g from Guess g where g.game = :game order by g.guessNumber")
+    List<Guess> findByGame(@Param("game") Game game);
+
+    @Query("select g from Guess g where g.game.id = :gameId order by g.guessNumber")
+    List<Guess> findByGameIdOrderByGuessNumberAsc(@Param("gameId") Long gameId);
+
+    @Query("select g from Guess g where g.game.id in :gameIds order by g.game.id, g.guessNumber")
+    List<Guess> findByGameIdInOrderByGameIdAscGuessNumberAsc(@Param("gameIds") Collection<Long> gameIds);
+
+    @Modifying
+    @Query("delete from Guess g where g.game.id in :gameIds")
+    int deleteByGameIdIn(@Param("gameIds") Collection<Long> gameIds);
+
+    // Daily challenge results: first guesses of the day's ended games, for seeding
+    @Query("select gu.guessWord as guessWord, count(gu) as guesses from Guess gu join gu.game g " +
+           "where g.challengeDay = :day and g.endedAt is not null and gu.guessNumber = 1 " +
+           "group by gu.guessWord")
+    List<FirstGuessCount> countDailyFirstGuesses(@Param("day") int day);
+
+    // Outcome and first guess (null if none) of just-ended daily challenge games
+    @Query("select g.challengeDay as day, g.attempts as attempts, g.won as won, gu.guessWord as firstGuess " +
+           "from Game g left join Guess gu on gu.game = g and gu.guessNumber = 1 " +
+           "where g.id in :gameIds and g.challengeDay is not null and g.endedAt is not null")
+    List<DailyResult> findDailyResultsByGameIdIn(@Param("gameIds") Collection<Long> gameIds);
+
+    interface FirstGuessCount {
+        String getGuessWord();
+
+        long getGuesses();
+    }
+
+    interface DailyResult {
+        int getDay();
+
+        int getAttempts();
+
+        boolean getWon();
+
+        String getFirstGuess();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.RoomResult;
+
+public interface RoomResultRepository extends BaseRepository<RoomResult, Long> {
+}
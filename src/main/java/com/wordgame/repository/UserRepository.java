@@ -1,13 +1,17 @@
 package com.wordgame.repository;
 
 import com.wordgame.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends BaseRepository<User, Long>, UserRepositoryCustom {
 
+    // Natural-id lookup, served from the second-level cache (see UserRepositoryImpl)
+    @Override
     Optional<User> findByUsername(String username);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     boolean existsByUsername(String username);
 }
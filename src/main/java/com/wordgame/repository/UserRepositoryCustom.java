@@ -0,0 +1,10 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    Optional<User> findByUsername(String username);
+}
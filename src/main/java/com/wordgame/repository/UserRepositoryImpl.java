@@ -0,0 +1,30 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Resolves users by their natural id so repeated lookups (every authenticated request
+ * goes through {@code findByUsername}) hit the natural-id and entity caches instead of MySQL.
+ */
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // The Session must stay open for the natural-id load, which needs a transaction. Not
+    // read-only: that would route to a lagging replica, and a user who just registered
+    // could not log in
+    @Override
+    @Transactional
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
@@ -0,0 +1,18 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.UserSeenWords;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface UserSeenWordsRepository extends BaseRepository<UserSeenWords, Long> {
+
+    /** Replaces the stored set in one statement; 0 if the user has no row yet. */
+    @Modifying
+    @Query("update UserSeenWords s set s.bitmap = :bitmap, s.wordCount = :wordCount, s.updatedAt = :now " +
+           "where s.userId = :userId")
+    int updateBitmap(@Param("userId") Long userId, @Param("bitmap") byte[] bitmap,
+                     @Param("wordCount") int wordCount, @Param("now") LocalDateTime now);
+}
@@ -1,12 +1,15 @@
 package com.wordgame.repository;
 
 import com.wordgame.entity.Word;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-public interface WordRepository extends JpaRepository<Word, Long> {
+import java.util.Optional;
+
+public interface WordRepository extends BaseRepository<Word, Long> {
 
     // Optionally: custom query to pick a random word
     @Query(value = "SELECT * FROM words ORDER BY RAND() LIMIT 1", nativeQuery = true)
     Word findRandomWord();
+
+    Optional<Word> findByWord(String word);
 }
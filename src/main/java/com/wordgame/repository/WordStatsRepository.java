@@ -0,0 +1,22 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.WordStats;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface WordStatsRepository extends BaseRepository<WordStats, Long> {
+
+    /** Adds one node's counts to the stored totals; 0 if the word has no row yet. */
+    @Modifying
+    @Query("update WordStats s set s.plays = s.plays + :plays, s.solved1 = s.solved1 + :solved1, " +
+           "s.solved2 = s.solved2 + :solved2, s.solved3 = s.solved3 + :solved3, " +
+           "s.solved4 = s.solved4 + :solved4, s.solved5 = s.solved5 + :solved5, s.updatedAt = :now " +
+           "where s.wordId = :wordId")
+    int addCounts(@Param("wordId") Long wordId, @Param("plays") long plays,
+                  @Param("solved1") long solved1, @Param("solved2") long solved2,
+                  @Param("solved3") long solved3, @Param("solved4") long solved4,
+                  @Param("solved5") long solved5, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,265 @@
+package com.wordgame.room;
+
+import com.wordgame.exception.ForbiddenException;
+import com.wordgame.exception.GameRuleException;
+import com.wordgame.service.GameState;
+import com.wordgame.service.GuessEvaluator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A multiplayer room: every player races on the same word and sees the others'
+ * colors, never their letters. All state is guarded by the room's own monitor, so
+ * players of one room never wait for another room.
+ * <p>
+ * Changes are not pushed one by one: players changed since the last broadcast are
+ * collected and {@link #drain() drained} once per tick, each with its latest progress.
+ */
+public class Room {
+
+    public enum State { WAITING, RUNNING, FINISHED }
+
+    /**
+     * One evaluated guess and the player's status right after it (GameState constants);
+     * {@code endedRoom} is set on the guess that finished the whole room.
+     */
+    public record Guess(String guessWord, String evaluation, int guessNumber, byte status, boolean endedRoom) {
+    }
+
+    /** Pending changes as one event body, and when the oldest of them happened. */
+    record Update(Map<String, Object> body, long firstChangeNanos) {
+    }
+
+    /** A player's final standing, for room_results. */
+    record Result(long userId, int attempts, boolean won, int place, LocalDateTime finishedAt) {
+    }
+
+    private static final class Player {
+        final String username;
+        final long userId;
+        // Colors only, one digit per letter (GuessEvaluator colors)
+        final List<String> rows = new ArrayList<>();
+        boolean won;
+        boolean done;
+        LocalDateTime finishedAt;
+        int place;
+
+        Player(String username, long userId) {
+            this.username = username;
+            this.userId = userId;
+        }
+    }
+
+    private final long id;
+    private final String owner;
+    private final long wordId;
+    private final String word;
+    private final int maxPlayers;
+    private final int maxAttempts;
+    private final Map<String, Player> players = new LinkedHashMap<>();
+    private final Set<String> changed = new LinkedHashSet<>();
+    private boolean stateChanged;
+    private long firstChangeNanos;
+    private State state = State.WAITING;
+    private long deadlineMillis;
+    private long lastActivityMillis;
+    private LocalDateTime endedAt;
+
+    Room(long id, String owner, long wordId, String word, int maxPlayers, int maxAttempts) {
+        this.id = id;
+        this.owner = owner;
+        this.wordId = wordId;
+        this.word = word;
+        this.maxPlayers = maxPlayers;
+        this.maxAttempts = maxAttempts;
+        this.lastActivityMillis = System.currentTimeMillis();
+    }
+
+    synchronized void join(String username, long userId) {
+        if (players.containsKey(username)) {
+            return;
+        }
+        if (state != State.WAITING) {
+            throw GameRuleException.ROOM_ALREADY_STARTED;
+        }
+        if (players.size() >= maxPlayers) {
+            throw GameRuleException.ROOM_FULL;
+        }
+        players.put(username, new Player(username, userId));
+        changed(username);
+    }
+
+    synchronized void start(String username, long roundMillis) {
+        if (!owner.equals(username)) {
+            throw ForbiddenException.ACCESS_DENIED;
+        }
+        if (state != State.WAITING) {
+            throw GameRuleException.ROOM_ALREADY_STARTED;
+        }
+        state = State.RUNNING;
+        deadlineMillis = System.currentTimeMillis() + roundMillis;
+        stateChanged = true;
+        changed(null);
+    }
+
+    /** Evaluates a guess; the room finishes once every player is done. */
+    synchronized Guess guess(String username, String guessWord) {
+        Player player = member(username);
+        if (state != State.RUNNING) {
+            throw GameRuleException.ROOM_NOT_RUNNING;
+        }
+        if (player.done) {
+            throw GameRuleException.GAME_ALREADY_ENDED;
+        }
+        byte[] colors = GuessEvaluator.colors(guessWord, word);
+        StringBuilder row = new StringBuilder(colors.length);
+        for (byte color : colors) {
+            row.append(color);
+        }
+        player.rows.add(row.toString());
+        player.won = guessWord.equals(word);
+        player.done = player.won || player.rows.size() >= maxAttempts;
+        if (player.done) {
+            player.finishedAt = LocalDateTime.now();
+        }
+        changed(username);
+        boolean endedRoom = player.done && players.values().stream().allMatch(p -> p.done);
+        if (endedRoom) {
+            finish();
+        }
+        byte status = player.won ? GameState.WON : player.done ? GameState.LOST : GameState.IN_PROGRESS;
+        return new Guess(guessWord, GuessEvaluator.toJson(guessWord, colors), player.rows.size(), status, endedRoom);
+    }
+
+    /** Ends a running room whose time is up; players still guessing lose. */
+    synchronized boolean expire(long nowMillis) {
+        if (state != State.RUNNING || nowMillis < deadlineMillis) {
+            return false;
+        }
+        finish();
+        return true;
+    }
+
+    /** A room nobody started within the idle time, or one that ended the linger time ago. */
+    synchronized boolean isStale(long nowMillis, long idleMillis, long lingerMillis) {
+        long quiet = nowMillis - lastActivityMillis;
+        return state == State.FINISHED ? quiet >= lingerMillis : state == State.WAITING && quiet >= idleMillis;
+    }
+
+    private void finish() {
+        state = State.FINISHED;
+        endedAt = LocalDateTime.now();
+        stateChanged = true;
+        List<Player> ranked = new ArrayList<>(players.values());
+        ranked.sort(Comparator.comparing((Player p) -> !p.won)
+                .thenComparingInt(p -> p.won ? p.rows.size() : 0)
+                .thenComparing(p -> p.finishedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).place = i + 1;
+            changed.add(ranked.get(i).username);
+        }
+        changed(null);
+    }
+
+    synchronized List<Result> results() {
+        return players.values().stream()
+                .map(p -> new Result(p.userId, p.rows.size(), p.won, p.place, p.finishedAt))
+                .toList();
+    }
+
+    private void changed(String username) {
+        if (username != null) {
+            changed.add(username);
+        }
+        if (firstChangeNanos == 0) {
+            firstChangeNanos = System.nanoTime();
+        }
+        lastActivityMillis = System.currentTimeMillis();
+    }
+
+    /** Takes the changes since the last call, or null if there are none. Call with the room locked. */
+    Update drain() {
+        if (changed.isEmpty() && !stateChanged) {
+            return null;
+        }
+        Map<String, Object> body = header();
+        List<Map<String, Object>> views = new ArrayList<>(changed.size());
+        for (String username : changed) {
+            views.add(view(players.get(username)));
+        }
+        body.put("players", views);
+        Update update = new Update(body, firstChangeNanos);
+        changed.clear();
+        stateChanged = false;
+        firstChangeNanos = 0;
+        return update;
+    }
+
+    /** The whole room as a client first sees it. Call with the room locked. */
+    Map<String, Object> snapshot() {
+        Map<String, Object> body = header();
+        body.put("owner", owner);
+        body.put("maxPlayers", maxPlayers);
+        body.put("players", players.values().stream().map(Room::view).toList());
+        return body;
+    }
+
+    private Map<String, Object> header() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("roomId", id);
+        body.put("state", state.name());
+        if (state == State.RUNNING) {
+            body.put("secondsLeft", Math.max(0, (deadlineMillis - System.currentTimeMillis()) / 1000));
+        }
+        if (state == State.FINISHED) {
+            // The word is only revealed once the room is over
+            body.put("wordToGuess", word);
+        }
+        return body;
+    }
+
+    private static Map<String, Object> view(Player player) {
+        Map<String, Object> view = new HashMap<>();
+        view.put("player", player.username);
+        view.put("attempts", player.rows.size());
+        view.put("rows", List.copyOf(player.rows));
+        view.put("won", player.won);
+        view.put("done", player.done);
+        if (player.place > 0) {
+            view.put("place", player.place);
+        }
+        return view;
+    }
+
+    synchronized boolean isMember(String username) {
+        return players.containsKey(username);
+    }
+
+    private Player member(String username) {
+        Player player = players.get(username);
+        if (player == null) {
+            throw ForbiddenException.ACCESS_DENIED;
+        }
+        return player;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getWordId() {
+        return wordId;
+    }
+
+    synchronized LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+}
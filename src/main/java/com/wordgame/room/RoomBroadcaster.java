@@ -0,0 +1,193 @@
+package com.wordgame.room;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes room changes to the players' server-sent event streams.
+ * <p>
+ * Once per tick each changed room is drained into one {@code update} event: all
+ * changes since the last tick, each player with their latest progress. The event is
+ * serialized once and written to the room's streams in chunks on a small pool, so a
+ * room of hundreds costs one JSON encoding per tick however many guesses it saw. A tick
+ * waits for its writes, which keeps every stream's events in order.
+ */
+@Slf4j
+@Component
+public class RoomBroadcaster {
+
+    private static final SseEmitter[] NONE = new SseEmitter[0];
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<SseEmitter>> streams = new ConcurrentHashMap<>();
+    private final Set<Room> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger streamCount = new AtomicInteger();
+    private final ExecutorService senders;
+    private final long streamTimeoutMillis;
+    private final int chunkSize;
+    private final Timer latency;
+    private final Counter eventsSent;
+
+    public RoomBroadcaster(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${rooms.broadcast-threads:0}") int threads,
+                           @Value("${rooms.broadcast-chunk:500}") int chunkSize,
+                           @Value("${rooms.stream-timeout-ms:1800000}") long streamTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        // 0 means one thread per available processor
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(poolSize, r -> {
+            Thread t = new Thread(r, "room-broadcast-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        // From the first change in an update until the update is written to every stream
+        this.latency = Timer.builder("rooms.broadcast.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.eventsSent = Counter.builder("rooms.events.sent").register(meterRegistry);
+        Gauge.builder("rooms.streams", streamCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /** Opens a stream that starts with a snapshot of the room and then gets every update. */
+    SseEmitter subscribe(Room room) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Set<SseEmitter> roomStreams = streams.computeIfAbsent(room.getId(), id -> ConcurrentHashMap.newKeySet());
+        emitter.onCompletion(() -> remove(room.getId(), emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(room.getId(), emitter));
+        // Under the room's lock: no update drained before the snapshot reaches this stream
+        synchronized (room) {
+            if (!send(emitter, "snapshot", json(room.snapshot()))) {
+                return emitter;
+            }
+            if (roomStreams.add(emitter)) {
+                streamCount.incrementAndGet();
+            }
+        }
+        return emitter;
+    }
+
+    /** Marks a room as changed; the next tick sends its update. */
+    void changed(Room room) {
+        dirty.add(room);
+    }
+
+    /** Ends the streams of a room that is being removed. */
+    void close(Room room) {
+        Set<SseEmitter> roomStreams = streams.remove(room.getId());
+        if (roomStreams != null) {
+            for (SseEmitter emitter : roomStreams) {
+                emitter.complete();
+            }
+            streamCount.addAndGet(-roomStreams.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rooms.tick-ms:100}")
+    public void tick() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Future<?>> writes = new ArrayList<>();
+        List<Long> firstChanges = new ArrayList<>();
+        for (Iterator<Room> it = dirty.iterator(); it.hasNext(); ) {
+            Room room = it.next();
+            it.remove();
+            Room.Update update;
+            SseEmitter[] targets;
+            synchronized (room) {
+                update = room.drain();
+                Set<SseEmitter> roomStreams = streams.get(room.getId());
+                targets = roomStreams != null ? roomStreams.toArray(NONE) : NONE;
+            }
+            if (update == null) {
+                continue;
+            }
+            firstChanges.add(update.firstChangeNanos());
+            String data = json(update.body());
+            for (int from = 0; from < targets.length; from += chunkSize) {
+                int start = from;
+                int end = Math.min(from + chunkSize, targets.length);
+                writes.add(senders.submit(() -> {
+                    for (int i = start; i < end; i++) {
+                        send(targets[i], "update", data);
+                    }
+                }));
+            }
+        }
+        for (Future<?> write : writes) {
+            try {
+                write.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.warn("Room broadcast failed", e.getCause());
+            }
+        }
+        long now = System.nanoTime();
+        for (long firstChange : firstChanges) {
+            latency.record(now - firstChange, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private boolean send(SseEmitter emitter, String event, String data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+            eventsSent.increment();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter's callbacks drop it from the room
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(long roomId, SseEmitter emitter) {
+        Set<SseEmitter> roomStreams = streams.get(roomId);
+        if (roomStreams != null && roomStreams.remove(emitter)) {
+            streamCount.decrementAndGet();
+        }
+    }
+
+    private String json(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.wordgame.room;
+
+import com.wordgame.exception.NotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Open rooms of this node. The map only finds rooms; everything inside a room is
+ * guarded by the room itself, so the registry is never locked while a room is played.
+ */
+@Component
+public class RoomRegistry {
+
+    // Ids stay below 2^53 so JavaScript clients read them exactly
+    private static final long MAX_ID = 1L << 53;
+
+    private final ConcurrentHashMap<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    public RoomRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("rooms.open", rooms, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /**
+     * Registers a new room. Ids are random, so they cannot be guessed to join a room
+     * uninvited and do not repeat across restarts and nodes in room_results.
+     */
+    Room create(String owner, long wordId, String word, int maxPlayers, int maxAttempts) {
+        while (true) {
+            long id = ThreadLocalRandom.current().nextLong(1, MAX_ID);
+            Room room = new Room(id, owner, wordId, word, maxPlayers, maxAttempts);
+            if (rooms.putIfAbsent(id, room) == null) {
+                return room;
+            }
+        }
+    }
+
+    Room get(long roomId) {
+        Room room = rooms.get(roomId);
+        if (room == null) {
+            // Expired, or created on another instance
+            throw NotFoundException.ROOM;
+        }
+        return room;
+    }
+
+    Collection<Room> rooms() {
+        return rooms.values();
+    }
+
+    void remove(Room room) {
+        rooms.remove(room.getId(), room);
+    }
+}
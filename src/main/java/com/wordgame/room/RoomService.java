@@ -0,0 +1,176 @@
+package com.wordgame.room;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.RoomResult;
+import com.wordgame.exception.ForbiddenException;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.exception.NotFoundException;
+import com.wordgame.repository.RoomResultRepository;
+import com.wordgame.repository.UserRepository;
+import com.wordgame.service.WordCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Multiplayer rooms: created, joined and played in memory on one node (see
+ * {@link RoomRegistry}), with progress pushed by the {@link RoomBroadcaster}. A room
+ * touches the database twice: to find its players' ids when they join, and to save
+ * their results when it ends.
+ * <p>
+ * Lifecycle: WAITING (players join) → RUNNING (started by the owner; ends when every
+ * player is done or the round time is up) → FINISHED (kept for a short while so
+ * players can read the standings) → removed.
+ */
+@Slf4j
+@Service
+public class RoomService {
+
+    private static final String GUESS_PATTERN = "[A-Z]{5}";
+
+    private final RoomRegistry registry;
+    private final RoomBroadcaster broadcaster;
+    private final WordCatalog wordCatalog;
+    private final UserRepository userRepository;
+    private final RoomResultRepository roomResultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPlayers;
+    private final long roundMillis;
+    private final long idleMillis;
+    private final long lingerMillis;
+    private final Counter created;
+    private final Counter finished;
+
+    public RoomService(RoomRegistry registry,
+                       RoomBroadcaster broadcaster,
+                       WordCatalog wordCatalog,
+                       UserRepository userRepository,
+                       RoomResultRepository roomResultRepository,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${rooms.max-players:500}") int maxPlayers,
+                       @Value("${rooms.round-seconds:300}") long roundSeconds,
+                       @Value("${rooms.idle-minutes:30}") long idleMinutes,
+                       @Value("${rooms.linger-seconds:60}") long lingerSeconds) {
+        this.registry = registry;
+        this.broadcaster = broadcaster;
+        this.wordCatalog = wordCatalog;
+        this.userRepository = userRepository;
+        this.roomResultRepository = roomResultRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxPlayers = maxPlayers;
+        this.roundMillis = roundSeconds * 1000;
+        this.idleMillis = idleMinutes * 60_000;
+        this.lingerMillis = lingerSeconds * 1000;
+        this.created = Counter.builder("rooms.created").register(meterRegistry);
+        this.finished = Counter.builder("rooms.finished").register(meterRegistry);
+    }
+
+    /** Opens a room with a random word; its creator is the owner and first player. */
+    public Map<String, Object> create(String username) {
+        long userId = userId(username);
+        int size = wordCatalog.size();
+        if (size == 0) {
+            throw NotFoundException.WORD;
+        }
+        int index = ThreadLocalRandom.current().nextInt(size);
+        Room room = registry.create(username, wordCatalog.idAt(index), wordCatalog.wordAt(index),
+                maxPlayers, Game.MAX_ATTEMPTS);
+        room.join(username, userId);
+        created.increment();
+        return view(room);
+    }
+
+    public Map<String, Object> join(long roomId, String username) {
+        Room room = registry.get(roomId);
+        if (!room.isMember(username)) {
+            room.join(username, userId(username));
+            broadcaster.changed(room);
+        }
+        return view(room);
+    }
+
+    public Map<String, Object> start(long roomId, String username) {
+        Room room = registry.get(roomId);
+        room.start(username, roundMillis);
+        broadcaster.changed(room);
+        return view(room);
+    }
+
+    public Room.Guess guess(long roomId, String username, String guessWord) {
+        if (!guessWord.matches(GUESS_PATTERN)) {
+            throw InvalidRequestException.INVALID_WORD;
+        }
+        Room room = registry.get(roomId);
+        Room.Guess guess = room.guess(username, guessWord);
+        if (guess.endedRoom()) {
+            saveResults(room);
+        }
+        broadcaster.changed(room);
+        return guess;
+    }
+
+    public Map<String, Object> view(long roomId) {
+        return view(registry.get(roomId));
+    }
+
+    /** The room's event stream; players only, since colors hint at the word. */
+    public SseEmitter events(long roomId, String username) {
+        Room room = registry.get(roomId);
+        if (!room.isMember(username)) {
+            throw ForbiddenException.ACCESS_DENIED;
+        }
+        return broadcaster.subscribe(room);
+    }
+
+    /** Ends rooms whose round time is up and removes idle and long-finished ones. */
+    @Scheduled(fixedDelayString = "${rooms.cleanup-interval-ms:1000}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        for (Room room : registry.rooms()) {
+            if (room.expire(now)) {
+                saveResults(room);
+                broadcaster.changed(room);
+            } else if (room.isStale(now, idleMillis, lingerMillis)) {
+                registry.remove(room);
+                broadcaster.close(room);
+            }
+        }
+    }
+
+    private void saveResults(Room room) {
+        finished.increment();
+        List<RoomResult> results = room.results().stream()
+                .map(r -> new RoomResult(null, room.getId(), r.userId(), room.getWordId(), r.attempts(),
+                        r.won(), r.place(), r.finishedAt(), room.getEndedAt()))
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> roomResultRepository.saveAll(results));
+        } catch (DataAccessException e) {
+            // The room still ends for its players; only the stored history misses it
+            log.warn("Could not save results of room {}", room.getId(), e);
+        }
+    }
+
+    private Map<String, Object> view(Room room) {
+        synchronized (room) {
+            return room.snapshot();
+        }
+    }
+
+    private long userId(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> NotFoundException.USER)
+                .getId();
+    }
+}
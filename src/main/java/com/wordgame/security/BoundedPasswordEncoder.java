@@ -0,0 +1,114 @@
+package com.wordgame.security;
+
+import com.wordgame.exception.ErrorCode;
+import com.wordgame.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a small CPU-sized pool with a bounded queue instead of on the request
+ * thread. When the queue is full the call fails immediately with {@link ServiceBusyException},
+ * so a login storm can use at most {@code threads} cores and never the whole Tomcat pool's CPU.
+ * Time spent queued and time spent hashing are recorded as separate timers.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer encodeWait;
+    private final Timer encodeHash;
+    private final Timer matchesWait;
+    private final Timer matchesHash;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long timeoutMs, MeterRegistry registry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "bcrypt-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeWait = Timer.builder("auth.password.queue.wait").tag("op", "encode").register(registry);
+        this.encodeHash = Timer.builder("auth.password.hash").tag("op", "encode").register(registry);
+        this.matchesWait = Timer.builder("auth.password.queue.wait").tag("op", "matches").register(registry);
+        this.matchesHash = Timer.builder("auth.password.hash").tag("op", "matches").register(registry);
+        this.rejected = Counter.builder("auth.password.rejected").register(registry);
+        registry.gauge("auth.password.queue.size", executor, e -> e.getQueue().size());
+        registry.gauge("auth.password.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeWait, encodeHash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesWait, matchesHash);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task, Timer waitTimer, Timer hashTimer) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    hashTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException(ErrorCode.AUTH_BUSY, 1);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceBusyException(ErrorCode.AUTH_BUSY, 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
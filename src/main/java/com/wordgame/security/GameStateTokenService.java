@@ -0,0 +1,131 @@
+package com.wordgame.security;
+
+import com.wordgame.entity.HardModeHints;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.service.GameState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues and verifies compact game-state tokens.
+ * Algorithm: AES-256-GCM, which both encrypts the state (so the target word id stays
+ * hidden) and authenticates it (so a tampered token fails to decrypt).
+ */
+@Component
+public class GameStateTokenService {
+
+    // Version 2 adds the hard-mode hints, version 3 widens the username length to an
+    // unsigned short; older tokens are still accepted
+    private static final byte VERSION = 3;
+    private static final byte VERSION_WITH_HINTS = 2;
+    private static final byte VERSION_WITHOUT_HINTS = 1;
+    private static final int HINT_BYTES = 4 + 4 + 8;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    @Value("${game.state-token.enabled:false}")
+    private boolean enabled;
+
+    @Value("${game.state-token.secret:${jwt.secret}}")
+    private String secret;
+
+    @Value("${game.state-token.ttl-hours:24}")
+    private long ttlHours;
+
+    private final SecureRandom random = new SecureRandom();
+    private SecretKeySpec key;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Encode and encrypt a game state */
+    public String issue(GameState state) {
+        byte[] username = state.getUsername().getBytes(StandardCharsets.UTF_8);
+        if (username.length > 0xFFFF) {
+            throw new IllegalArgumentException("Username too long for a game state token");
+        }
+        HardModeHints hints = state.getHints();
+        ByteBuffer plain = ByteBuffer.allocate(1 + 8 + 8 + 1 + 1 + 8 + 2 + username.length
+                + 1 + (hints != null ? HINT_BYTES : 0));
+        plain.put(VERSION)
+             .putLong(state.getGameId())
+             .putLong(state.getWordId())
+             .put((byte) state.getAttempts())
+             .put(state.getStatus())
+             .putLong(Instant.now().getEpochSecond())
+             .putShort((short) username.length)
+             .put(username)
+             .put((byte) (hints != null ? 1 : 0));
+        if (hints != null) {
+            plain.putInt(hints.getLetters())
+                 .putInt(hints.getPositions())
+                 .putLong(hints.getCounts());
+        }
+
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key(), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] sealed = cipher.doFinal(plain.array());
+            ByteBuffer token = ByteBuffer.allocate(IV_BYTES + sealed.length).put(iv).put(sealed);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot issue game state token", e);
+        }
+    }
+
+    /** Decrypt and verify a token; throws if it was tampered with or has expired */
+    public GameState verify(String token) {
+        byte[] raw;
+        byte[] plain;
+        try {
+            raw = Base64.getUrlDecoder().decode(token);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key(), new GCMParameterSpec(TAG_BITS, raw, 0, IV_BYTES));
+            plain = cipher.doFinal(raw, IV_BYTES, raw.length - IV_BYTES);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            throw InvalidRequestException.INVALID_GAME_STATE;
+        }
+        ByteBuffer buf = ByteBuffer.wrap(plain);
+        byte version = buf.get();
+        if (version < VERSION_WITHOUT_HINTS || version > VERSION) {
+            throw InvalidRequestException.INVALID_GAME_STATE;
+        }
+        long gameId = buf.getLong();
+        long wordId = buf.getLong();
+        int attempts = buf.get();
+        byte status = buf.get();
+        long issuedAt = buf.getLong();
+        byte[] username = new byte[version == VERSION ? buf.getShort() & 0xFFFF : buf.get() & 0xFF];
+        buf.get(username);
+        HardModeHints hints = null;
+        if (version >= VERSION_WITH_HINTS && buf.get() == 1) {
+            hints = new HardModeHints(buf.getInt(), buf.getInt(), buf.getLong());
+        }
+        if (Instant.now().getEpochSecond() - issuedAt > ttlHours * 3600) {
+            throw InvalidRequestException.GAME_STATE_EXPIRED;
+        }
+        return new GameState(gameId, new String(username, StandardCharsets.UTF_8), wordId, attempts, status, hints);
+    }
+
+    private SecretKeySpec key() throws GeneralSecurityException {
+        if (key == null) {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            key = new SecretKeySpec(digest, "AES");
+        }
+        return key;
+    }
+}
@@ -1,14 +1,19 @@
 package com.wordgame.security;
 
+import com.wordgame.exception.ErrorCode;
+import com.wordgame.exception.GlobalExceptionHandler;
+import com.wordgame.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,10 +25,27 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // 0 means one thread per available processor
+    @Value("${security.bcrypt.threads:0}")
+    private int bcryptThreads;
+
+    @Value("${security.bcrypt.queue-capacity:64}")
+    private int bcryptQueueCapacity;
+
+    @Value("${security.bcrypt.timeout-ms:5000}")
+    private long bcryptTimeoutMs;
+
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int threads = bcryptThreads > 0 ? bcryptThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(bcryptStrength, threads, bcryptQueueCapacity, bcryptTimeoutMs, meterRegistry);
     }
 
     @Bean
@@ -37,19 +59,24 @@ public class SecurityConfig {
         .csrf(csrf -> csrf.disable())
         .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(auth -> auth
-            .requestMatchers("/health").permitAll()
+            // Room event streams end with an async dispatch; the stream itself was authorized
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+            .requestMatchers("/health", "/health/ready").permitAll()
             .requestMatchers("/api/auth/**").permitAll()
             .requestMatchers("/api/admin/**").hasRole("ADMIN")
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             .anyRequest().authenticated()
         )
         .exceptionHandling(ex -> ex
             .authenticationEntryPoint((request, response, authException) -> {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.setContentType("application/json");
-                response.getWriter().write("{\"error\":\"Unauthorized\",\"message\":\"" + authException.getMessage() + "\"}");
+                response.getWriter().write(GlobalExceptionHandler.json(ErrorCode.UNAUTHORIZED));
             })
         )
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        // after the JWT filter so guesses can be limited per user as well as per IP
+        .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
         .cors();
     return http.build();
     }
@@ -1,7 +1,11 @@
 package com.wordgame.service;
 
+import com.wordgame.entity.ChangeType;
 import com.wordgame.entity.Role;
 import com.wordgame.entity.User;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.exception.NotFoundException;
+import com.wordgame.outbox.ChangeOutbox;
 import com.wordgame.repository.UserRepository;
 import com.wordgame.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +13,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -18,22 +23,30 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final ChangeOutbox changeOutbox;
+    private final TransactionTemplate transactionTemplate;
     public JwtUtil getJwtUtil() {
         return jwtUtil;
     }
 
-    public void register(String username, String password, Role role) {
+    public void register(String username, String password, Role role, String timeZone) {
         if (username == null || username.length() < 5) {
-            throw new RuntimeException("Username must be at least 5 characters long");
+            throw InvalidRequestException.USERNAME_TOO_SHORT;
         }
         if (userRepository.existsByUsername(username)) {
-            throw new RuntimeException("Username already exists");
+            throw InvalidRequestException.USERNAME_TAKEN;
         }
+        String zone = timeZone == null || timeZone.isBlank() ? "UTC" : DayBuckets.validZone(timeZone);
         User user = new User();
         user.setUsername(username);
         user.setPasswordHash(passwordEncoder.encode(password));
         user.setRole(role);
-        userRepository.save(user);
+        user.setTimeZone(zone);
+        // Hash outside the transaction so no connection is held while hashing
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.save(user);
+            changeOutbox.record(ChangeType.USER, user.getId());
+        });
     }
 
     public User login(String username, String password) {
@@ -41,7 +54,7 @@ public class AuthService {
         new UsernamePasswordAuthenticationToken(username, password)
     );
     User user = userRepository.findByUsername(username)
-        .orElseThrow(() -> new RuntimeException("User not found"));
+        .orElseThrow(() -> NotFoundException.USER);
     user.setPasswordHash(null); // Don't expose hash
     return user;
     }
@@ -0,0 +1,45 @@
+package com.wordgame.service;
+
+import com.wordgame.entity.User;
+import com.wordgame.exception.InvalidRequestException;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Day buckets are epoch days (days since 1970-01-01) of the player's local calendar.
+ * Games are stamped with one when they start, so "games today" is an equality lookup.
+ */
+public final class DayBuckets {
+
+    private DayBuckets() {
+    }
+
+    public static int of(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    /** Today's bucket in the user's time zone. */
+    public static int today(User user) {
+        return of(LocalDate.now(zoneOf(user)));
+    }
+
+    public static ZoneId zoneOf(User user) {
+        try {
+            return user.getTimeZone() != null ? ZoneId.of(user.getTimeZone()) : ZoneOffset.UTC;
+        } catch (DateTimeException e) {
+            return ZoneOffset.UTC;
+        }
+    }
+
+    /** Normalized zone id, or INVALID_TIME_ZONE if it is not a known zone. */
+    public static String validZone(String timeZone) {
+        try {
+            return ZoneId.of(timeZone).getId();
+        } catch (DateTimeException | NullPointerException e) {
+            throw InvalidRequestException.INVALID_TIME_ZONE;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.wordgame.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams table contents straight from a forward-only result set to an output stream,
+ * one row at a time, so memory use does not depend on the size of the export. Only the
+ * live tables are read: games moved to the {@link com.wordgame.archive.GameArchive} are not exported.
+ */
+@Service
+@Profile("!embedded")
+@RequiredArgsConstructor
+public class ExportService {
+
+    public enum Dataset {
+        GAMES("SELECT g.id, g.user_id, u.username, w.word, g.started_at, g.ended_at, g.attempts, g.won "
+                + "FROM games g JOIN users u ON u.id = g.user_id JOIN words w ON w.id = g.word_id "
+                + "WHERE g.started_at >= ? AND g.started_at < ? ORDER BY g.id"),
+        GUESSES("SELECT q.id, q.game_id, q.guess_number, q.guess_word, q.evaluation, q.created_at "
+                + "FROM guesses q WHERE q.created_at >= ? AND q.created_at < ? ORDER BY q.id"),
+        USERS("SELECT id, username, role, created_at "
+                + "FROM users WHERE created_at >= ? AND created_at < ? ORDER BY id");
+
+        private final String sql;
+
+        Dataset(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    public enum Format {
+        CSV("text/csv", ".csv") {
+            @Override
+            void writeHeader(Writer out, String[] columns) throws IOException {
+                for (int i = 0; i < columns.length; i++) {
+                    if (i > 0) out.write(',');
+                    out.write(columns[i]);
+                }
+                out.write('\n');
+            }
+
+            @Override
+            void writeRow(Writer out, String[] columns, Object[] values) throws IOException {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) out.write(',');
+                    if (values[i] != null) writeCsvValue(out, values[i].toString());
+                }
+                out.write('\n');
+            }
+        },
+        NDJSON("application/x-ndjson", ".ndjson") {
+            @Override
+            void writeHeader(Writer out, String[] columns) {
+            }
+
+            @Override
+            void writeRow(Writer out, String[] columns, Object[] values) throws IOException {
+                out.write('{');
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) out.write(',');
+                    writeJsonString(out, columns[i]);
+                    out.write(':');
+                    Object value = values[i];
+                    if (value == null) {
+                        out.write("null");
+                    } else if (value instanceof Number || value instanceof Boolean) {
+                        out.write(value.toString());
+                    } else {
+                        writeJsonString(out, value.toString());
+                    }
+                }
+                out.write("}\n");
+            }
+        };
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        abstract void writeHeader(Writer out, String[] columns) throws IOException;
+
+        abstract void writeRow(Writer out, String[] columns, Object[] values) throws IOException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, RunningExport> runningExports = new ConcurrentHashMap<>();
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    public String newExportId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /** Writes every row of the dataset started/created in [from, to) to the stream. */
+    public void export(String exportId, Dataset dataset, Format format, LocalDateTime from, LocalDateTime to,
+                       boolean gzip, OutputStream target) throws IOException {
+        RunningExport running = new RunningExport();
+        runningExports.put(exportId, running);
+        OutputStream stream = gzip ? new GZIPOutputStream(target, 64 * 1024) : target;
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024)) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                // Routes to the read replica when one is configured
+                connection.setReadOnly(true);
+                try (PreparedStatement statement = connection.prepareStatement(
+                        dataset.sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    statement.setFetchSize(fetchSizeFor(connection));
+                    statement.setTimestamp(1, Timestamp.valueOf(from));
+                    statement.setTimestamp(2, Timestamp.valueOf(to));
+                    running.statement = statement;
+                    if (running.cancelled) {
+                        return null;
+                    }
+                    try (ResultSet rs = statement.executeQuery()) {
+                        writeRows(rs, format, out, running);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (DataAccessException e) {
+            if (!running.cancelled) {
+                throw e;
+            }
+        } finally {
+            runningExports.remove(exportId);
+        }
+    }
+
+    /** Stops a running export; the client sees a truncated stream. */
+    public boolean cancel(String exportId) {
+        RunningExport running = runningExports.get(exportId);
+        if (running == null) {
+            return false;
+        }
+        running.cancelled = true;
+        PreparedStatement statement = running.statement;
+        if (statement != null) {
+            try {
+                statement.cancel();
+            } catch (SQLException ignored) {
+                // the row loop also checks the flag
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Connector/J buffers whole result sets unless a statement asks for streaming with
+     * Integer.MIN_VALUE, so only the export statement streams and the pool keeps the
+     * default client-side prepared statements.
+     */
+    private int fetchSizeFor(Connection connection) throws SQLException {
+        return "MySQL".equals(connection.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    private void writeRows(ResultSet rs, Format format, Writer out, RunningExport running)
+            throws SQLException, IOException {
+        ResultSetMetaData meta = rs.getMetaData();
+        String[] columns = new String[meta.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = meta.getColumnLabel(i + 1);
+        }
+        Object[] values = new Object[columns.length];
+        format.writeHeader(out, columns);
+        while (!running.cancelled && rs.next()) {
+            for (int i = 0; i < values.length; i++) {
+                Object value = rs.getObject(i + 1);
+                values[i] = value instanceof Timestamp ts ? ts.toLocalDateTime() : value;
+            }
+            format.writeRow(out, columns, values);
+        }
+    }
+
+    private static void writeCsvValue(Writer out, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static void writeJsonString(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+
+    private static class RunningExport {
+        volatile boolean cancelled;
+        volatile PreparedStatement statement;
+    }
+}
@@ -1,137 +1,294 @@
 package com.wordgame.service;
 
+import com.wordgame.archive.GameArchive;
+import com.wordgame.daily.DailyResults;
+import com.wordgame.daily.DailyWords;
 import com.wordgame.entity.*;
+import com.wordgame.exception.GameRuleException;
+import com.wordgame.exception.NotFoundException;
+import com.wordgame.journal.GameJournal;
+import com.wordgame.outbox.ChangeOutbox;
 import com.wordgame.repository.*;
+import com.wordgame.sweeper.AbandonedGameSweeper;
+import com.wordgame.wordstats.Difficulty;
+import com.wordgame.wordstats.WordStatistics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class GameService {
 
+    // Least time between two time zone changes of a player
+    private static final int TIME_ZONE_CHANGE_HOURS = 24;
+
     private final GameRepository gameRepository;
     private final GuessRepository guessRepository;
     private final WordRepository wordRepository;
     private final UserRepository userRepository;
+    private final GameArchive gameArchive;
+    private final GameJournal gameJournal;
+    private final WordCatalog wordCatalog;
+    private final WordSelector wordSelector;
+    private final AbandonedGameSweeper sweeper;
+    private final ChangeOutbox changeOutbox;
+    private final DailyWords dailyWords;
+    private final DailyResults dailyResults;
+    private final WordStatistics wordStatistics;
 
+    /** Starts a game; with a difficulty, the word comes from that band (see WordStatistics). */
     @Transactional
-    public Game startNewGame(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
+    public Game startNewGame(Long userId, boolean hardMode, Difficulty difficulty) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> NotFoundException.USER);
+        int today = DayBuckets.today(user);
+        checkDailyLimit(userId, today);
+        return start(user, wordSelector.pick(userId, difficulty), today, hardMode, null);
+    }
+
+    /**
+     * Starts today's daily challenge: the same word for every player on the same
+     * (player-local) day, once per player. Counts toward the daily limit like any game.
+     */
+    @Transactional
+    public Game startDailyChallenge(Long userId, boolean hardMode) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> NotFoundException.USER);
+        int today = DayBuckets.today(user);
+        if (gameRepository.existsByUserIdAndChallengeDay(userId, today)) {
+            throw GameRuleException.DAILY_CHALLENGE_PLAYED;
+        }
+        checkDailyLimit(userId, today);
+        return start(user, dailyWords.wordFor(today), today, hardMode, today);
+    }
 
-        long gamesToday = gameRepository
-                .countByUserIdAndStartedAtBetween(userId, startOfDay, endOfDay);
+    private void checkDailyLimit(Long userId, int today) {
+        long gamesToday = gameRepository.countByUserIdAndDayBucket(userId, today);
 
         if (gamesToday >= 3) {
-            throw new RuntimeException("Daily limit (3 games) reached");
+            throw GameRuleException.DAILY_LIMIT_REACHED;
         }
+    }
 
-        Word word = wordRepository.findRandomWord();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    private Game start(User user, Word word, int today, boolean hardMode, Integer challengeDay) {
+        LocalDateTime now = LocalDateTime.now();
 
         Game game = new Game();
         game.setUser(user);
         game.setWord(word);
         game.setStartedAt(now);
+        game.setDayBucket(today);
+        game.setLastActivityAt(now);
         game.setAttempts(0);
         game.setWon(false);
+        game.setHardMode(hardMode);
+        game.setChallengeDay(challengeDay);
 
-        return gameRepository.save(game);
+        Game saved = gameRepository.save(game);
+        changeOutbox.record(ChangeType.GAME, saved.getId());
+        gameJournal.gameStarted(saved);
+        sweeper.touch(saved.getId());
+        return saved;
     }
 
     @Transactional
     public Guess submitGuess(Long gameId, String guessWord) {
-        Game game = gameRepository.findByIdWithWord(gameId);
-        if (game == null) {
-            throw new RuntimeException("Game not found");
-        }
+        // No join fetch: the word is resolved lazily from the second-level cache
+        Game game = gameRepository.findById(gameId)
+                .orElseThrow(() -> NotFoundException.GAME);
         if (game.getEndedAt() != null || game.isWon()) {
-            throw new RuntimeException("Game already ended");
+            throw GameRuleException.GAME_ALREADY_ENDED;
         }
-        if (game.getAttempts() >= 5) {
-            throw new RuntimeException("Maximum guesses reached");
+        if (game.getAttempts() >= Game.MAX_ATTEMPTS) {
+            throw GameRuleException.MAX_GUESSES_REACHED;
+        }
+        // Hard mode: checked against the hints kept on the game, not the earlier guesses
+        if (game.isHardMode() && !game.getHints().allows(guessWord)) {
+            throw GameRuleException.HARD_MODE_VIOLATION;
         }
         String target = game.getWord().getWord();
-        String evaluation = evaluateGuess(guessWord, target);
+        byte[] colors = GuessEvaluator.colors(guessWord, target);
         Guess guess = new Guess();
         guess.setGame(game);
         guess.setGuessWord(guessWord);
         guess.setGuessNumber(game.getAttempts() + 1);
-        guess.setEvaluation(evaluation);
+        guess.setEvaluation(GuessEvaluator.toJson(guessWord, colors));
         guessRepository.save(guess);
         game.setAttempts(game.getAttempts() + 1);
+        if (game.isHardMode()) {
+            game.setHints(game.getHints().after(guessWord, colors));
+        }
+        game.setLastActivityAt(LocalDateTime.now());
         if (guessWord.equals(target)) {
             game.setWon(true);
             game.setEndedAt(LocalDateTime.now());
-        } else if (game.getAttempts() >= 5) {
+        } else if (game.getAttempts() >= Game.MAX_ATTEMPTS) {
             game.setEndedAt(LocalDateTime.now());
         }
         gameRepository.save(game);
+        changeOutbox.record(ChangeType.GAME, gameId);
+        gameJournal.guessEvaluated(guess);
+        if (game.getEndedAt() != null) {
+            gameJournal.gameEnded(game);
+            wordStatistics.gameEnded(game.getWord().getId(), game.isWon(), game.getAttempts());
+            if (game.getChallengeDay() != null) {
+                dailyResults.gameEnded(gameId);
+            }
+            sweeper.forget(gameId);
+        } else {
+            sweeper.touch(gameId);
+        }
         return guess;
     }
 
-    private String evaluateGuess(String guess, String target) {
-        // Build JSON like: [{"letter":"A","color":"GREEN"},...]
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < guess.length(); i++) {
-            char c = guess.charAt(i);
-            String color;
-            if (c == target.charAt(i)) {
-                color = "GREEN";
-            } else if (target.indexOf(c) >= 0) {
-                color = "ORANGE";
-            } else {
-                color = "GRAY";
-            }
-            sb.append("{\"letter\":\"")
-              .append(c)
-              .append("\",\"color\":\"")
-              .append(color)
-              .append("\"}");
-            if (i < guess.length() - 1) sb.append(",");
-        }
-        sb.append("]");
-        return sb.toString();
+    /**
+     * Evaluates a guess from a game-state token: the game row is never read, only
+     * advanced with a conditional update, so a replayed (stale) token is rejected.
+     * Daily challenge games never get a token and the update skips them too, since
+     * their results are only counted on the stateful path.
+     */
+    @Transactional
+    public GuessResult submitGuess(GameState state, String guessWord) {
+        if (state.isOver()) {
+            throw GameRuleException.GAME_ALREADY_ENDED;
+        }
+        if (state.getAttempts() >= Game.MAX_ATTEMPTS) {
+            throw GameRuleException.MAX_GUESSES_REACHED;
+        }
+        if (state.isHardMode() && !state.getHints().allows(guessWord)) {
+            throw GameRuleException.HARD_MODE_VIOLATION;
+        }
+        String target = wordCatalog.word(state.getWordId());
+        if (target == null) {
+            throw NotFoundException.GAME;
+        }
+        boolean won = guessWord.equals(target);
+        byte[] colors = GuessEvaluator.colors(guessWord, target);
+        GameState next = state.next(guessWord, colors, won, Game.MAX_ATTEMPTS);
+        HardModeHints hints = next.isHardMode() ? next.getHints() : HardModeHints.NONE;
+        LocalDateTime now = LocalDateTime.now();
+        int updated = gameRepository.advanceGame(state.getGameId(), state.getAttempts(),
+                next.getAttempts(), won, next.isOver() ? now : null, now,
+                hints.getLetters(), hints.getPositions(), hints.getCounts());
+        if (updated == 0) {
+            throw GameRuleException.STALE_GAME_STATE;
+        }
+        Guess guess = new Guess();
+        guess.setGame(gameRepository.getReferenceById(state.getGameId()));
+        guess.setGuessWord(guessWord);
+        guess.setGuessNumber(next.getAttempts());
+        guess.setEvaluation(GuessEvaluator.toJson(guessWord, colors));
+        guess.setCreatedAt(now);
+        guessRepository.save(guess);
+        changeOutbox.record(ChangeType.GAME, state.getGameId());
+        gameJournal.guessEvaluated(guess);
+        if (next.isOver()) {
+            gameJournal.gameEnded(state.getGameId(), won, next.getAttempts(), now);
+            wordStatistics.gameEnded(state.getWordId(), won, next.getAttempts());
+            sweeper.forget(state.getGameId());
+        } else {
+            sweeper.touch(state.getGameId());
+        }
+        return new GuessResult(guess, next, target);
     }
 
     public List<Guess> getGuesses(Long gameId) {
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new RuntimeException("Game not found"));
-        return guessRepository.findByGame(game);
+        Optional<Game> game = gameRepository.findById(gameId);
+        if (game.isEmpty() && gameArchive.contains(gameId)) {
+            return gameArchive.findGuesses(gameId);
+        }
+        return guessRepository.findByGame(game.orElseThrow(() -> NotFoundException.GAME));
+    }
+
+    /** Guesses of several games, in guess order, with one query for all live games */
+    public Map<Long, List<Guess>> getGuessesByGame(List<Game> games) {
+        Map<Long, List<Guess>> byGame = new HashMap<>();
+        List<Long> liveIds = new ArrayList<>();
+        for (Game game : games) {
+            byGame.put(game.getId(), new ArrayList<>());
+            if (gameArchive.contains(game.getId())) {
+                byGame.get(game.getId()).addAll(gameArchive.findGuesses(game.getId()));
+            } else {
+                liveIds.add(game.getId());
+            }
+        }
+        if (!liveIds.isEmpty()) {
+            guessRepository.findByGameIdInOrderByGameIdAscGuessNumberAsc(liveIds)
+                    .forEach(guess -> byGame.get(guess.getGame().getId()).add(guess));
+        }
+        return byGame;
     }
 
     public Game getGameById(Long gameId) {
         Game game = gameRepository.findByIdWithWord(gameId);
         if (game == null) {
-            throw new RuntimeException("Game not found");
+            return gameArchive.findGame(gameId)
+                    .orElseThrow(() -> NotFoundException.GAME);
         }
         return game;
     }
 
-    public List<Game> getGameHistory(Long userId) {
-    return gameRepository.findByUserIdWithWordOrderByStartedAtDesc(userId);
+    /** The user's live games, newest first, then archived ones until {@code limit} ended games are listed. */
+    @Transactional(readOnly = true)
+    public List<Game> getGameHistory(Long userId, int limit) {
+        // Archived games are always older than anything still in the games table
+        List<Game> games = new ArrayList<>(gameRepository.findByUserIdWithWordOrderByStartedAtDesc(userId));
+        long ended = games.stream().filter(game -> game.getEndedAt() != null).count();
+        if (ended < limit) {
+            games.addAll(gameArchive.findByUser(userId, (int) (limit - ended)));
+        }
+        return games;
     }
 
     public Long getUserIdByUsername(String username) {
+        return getUserByUsername(username).getId();
+    }
+
+    public User getUserByUsername(String username) {
         return userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"))
-                .getId();
+                .orElseThrow(() -> NotFoundException.USER);
     }
 
     public boolean hasReachedDailyLimit(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-        long gamesToday = gameRepository.countByUserIdAndStartedAtBetween(userId, startOfDay, endOfDay);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> NotFoundException.USER);
+        long gamesToday = gameRepository.countByUserIdAndDayBucket(userId, DayBuckets.today(user));
         return gamesToday >= 3;
     }
 
+    /**
+     * Sets the zone that decides where the player's day starts (daily limit, reports).
+     * At most one change per 24 hours: moving the day boundary back and forth would
+     * otherwise start a fresh daily limit every time.
+     */
+    @Transactional
+    public User updateTimeZone(Long userId, String timeZone) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> NotFoundException.USER);
+        String zone = DayBuckets.validZone(timeZone);
+        if (zone.equals(user.getTimeZone())) {
+            return user;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (user.getTimeZoneChangedAt() != null
+                && now.isBefore(user.getTimeZoneChangedAt().plusHours(TIME_ZONE_CHANGE_HOURS))) {
+            throw GameRuleException.TIME_ZONE_CHANGED_RECENTLY;
+        }
+        user.setTimeZone(zone);
+        user.setTimeZoneChangedAt(now);
+        User saved = userRepository.save(user);
+        changeOutbox.record(ChangeType.USER, userId);
+        return saved;
+    }
+
     public Game getCurrentIncompleteGame(Long userId) {
         List<Game> games = gameRepository.findByUserIdAndEndedAtIsNullOrderByStartedAtDesc(userId);
         return games.isEmpty() ? null : games.get(0);
@@ -0,0 +1,78 @@
+package com.wordgame.service;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.HardModeHints;
+
+/**
+ * Everything needed to evaluate the next guess of a game, so it can travel with the
+ * client in a game-state token instead of being read back from the database.
+ */
+public class GameState {
+
+    public static final byte IN_PROGRESS = 0;
+    public static final byte WON = 1;
+    public static final byte LOST = 2;
+
+    private final long gameId;
+    private final String username;
+    private final long wordId;
+    private final int attempts;
+    private final byte status;
+    // Null unless the game is in hard mode
+    private final HardModeHints hints;
+
+    public GameState(long gameId, String username, long wordId, int attempts, byte status, HardModeHints hints) {
+        this.gameId = gameId;
+        this.username = username;
+        this.wordId = wordId;
+        this.attempts = attempts;
+        this.status = status;
+        this.hints = hints;
+    }
+
+    public static GameState of(Game game, String username) {
+        byte status = game.getEndedAt() == null ? IN_PROGRESS : game.isWon() ? WON : LOST;
+        return new GameState(game.getId(), username, game.getWord().getId(), game.getAttempts(), status,
+                game.isHardMode() ? game.getHints() : null);
+    }
+
+    /** The state after a guess with these colors. */
+    public GameState next(String guess, byte[] colors, boolean won, int maxAttempts) {
+        int nextAttempts = attempts + 1;
+        byte nextStatus = won ? WON : nextAttempts >= maxAttempts ? LOST : IN_PROGRESS;
+        HardModeHints nextHints = hints != null ? hints.after(guess, colors) : null;
+        return new GameState(gameId, username, wordId, nextAttempts, nextStatus, nextHints);
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public long getWordId() {
+        return wordId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public byte getStatus() {
+        return status;
+    }
+
+    public HardModeHints getHints() {
+        return hints;
+    }
+
+    public boolean isHardMode() {
+        return hints != null;
+    }
+
+    public boolean isOver() {
+        return status != IN_PROGRESS;
+    }
+}
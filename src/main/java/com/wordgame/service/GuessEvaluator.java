@@ -0,0 +1,51 @@
+package com.wordgame.service;
+
+/**
+ * Colors a guess against the target word. Shared by every game mode so they all
+ * score guesses the same way.
+ */
+public final class GuessEvaluator {
+
+    public static final byte GRAY = 0;
+    public static final byte ORANGE = 1;
+    public static final byte GREEN = 2;
+
+    private static final String[] COLOR_NAMES = {"GRAY", "ORANGE", "GREEN"};
+
+    private GuessEvaluator() {
+    }
+
+    public static byte[] colors(String guess, String target) {
+        byte[] colors = new byte[guess.length()];
+        for (int i = 0; i < guess.length(); i++) {
+            char c = guess.charAt(i);
+            if (c == target.charAt(i)) {
+                colors[i] = GREEN;
+            } else if (target.indexOf(c) >= 0) {
+                colors[i] = ORANGE;
+            } else {
+                colors[i] = GRAY;
+            }
+        }
+        return colors;
+    }
+
+    /** Evaluation as stored on {@code Guess}: [{"letter":"A","color":"GREEN"},...] */
+    public static String evaluate(String guess, String target) {
+        return toJson(guess, colors(guess, target));
+    }
+
+    public static String toJson(String guess, byte[] colors) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < guess.length(); i++) {
+            sb.append("{\"letter\":\"")
+              .append(guess.charAt(i))
+              .append("\",\"color\":\"")
+              .append(COLOR_NAMES[colors[i]])
+              .append("\"}");
+            if (i < guess.length() - 1) sb.append(",");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.wordgame.service;
+
+import com.wordgame.entity.Guess;
+
+/**
+ * Outcome of a guess evaluated from a game-state token: the stored guess, the state
+ * after it and the target word (revealed to the client only once the game is over).
+ */
+public class GuessResult {
+
+    private final Guess guess;
+    private final GameState state;
+    private final String targetWord;
+
+    public GuessResult(Guess guess, GameState state, String targetWord) {
+        this.guess = guess;
+        this.state = state;
+        this.targetWord = targetWord;
+    }
+
+    public Guess getGuess() {
+        return guess;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public String getTargetWord() {
+        return targetWord;
+    }
+}
@@ -0,0 +1,76 @@
+package com.wordgame.service;
+
+import com.wordgame.exception.GameRuleException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A practice game: lives only in {@link PracticeService}'s in-memory store and is never
+ * written to the database. Statuses are the {@link GameState} constants.
+ */
+public class PracticeGame {
+
+    /** One evaluated guess and the game status right after it. */
+    public record Guess(String guessWord, String evaluation, int guessNumber, byte status) {
+    }
+
+    private final long id;
+    private final String username;
+    private final String targetWord;
+    private final LocalDateTime startedAt;
+    private final List<Guess> guesses = new ArrayList<>();
+    private byte status = GameState.IN_PROGRESS;
+
+    public PracticeGame(long id, String username, String targetWord, LocalDateTime startedAt) {
+        this.id = id;
+        this.username = username;
+        this.targetWord = targetWord;
+        this.startedAt = startedAt;
+    }
+
+    synchronized Guess guess(String guessWord, int maxAttempts) {
+        if (status != GameState.IN_PROGRESS) {
+            throw GameRuleException.GAME_ALREADY_ENDED;
+        }
+        String evaluation = GuessEvaluator.evaluate(guessWord, targetWord);
+        int number = guesses.size() + 1;
+        if (guessWord.equals(targetWord)) {
+            status = GameState.WON;
+        } else if (number >= maxAttempts) {
+            status = GameState.LOST;
+        }
+        Guess guess = new Guess(guessWord, evaluation, number, status);
+        guesses.add(guess);
+        return guess;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getTargetWord() {
+        return targetWord;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized List<Guess> getGuesses() {
+        return List.copyOf(guesses);
+    }
+
+    public synchronized byte getStatus() {
+        return status;
+    }
+
+    public synchronized boolean isOver() {
+        return status != GameState.IN_PROGRESS;
+    }
+}
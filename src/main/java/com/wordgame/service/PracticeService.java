@@ -0,0 +1,93 @@
+package com.wordgame.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordgame.entity.Game;
+import com.wordgame.exception.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Practice games: scored like real games but kept only in a bounded, expiring
+ * in-memory store, one open game per player. Nothing is written to the database and
+ * they do not count toward the daily limit.
+ * <p>
+ * A practice game lives on the instance that started it and is lost on restart.
+ */
+@Service
+public class PracticeService {
+
+    private final WordCatalog wordCatalog;
+    private final Cache<String, PracticeGame> games;
+    private final AtomicLong ids = new AtomicLong();
+
+    // Aggregates only (practice.metrics-enabled); null when disabled
+    private final Counter started;
+    private final Counter guesses;
+    private final Counter won;
+    private final Counter lost;
+
+    public PracticeService(WordCatalog wordCatalog,
+                           MeterRegistry meterRegistry,
+                           @Value("${practice.max-games:100000}") long maxGames,
+                           @Value("${practice.idle-minutes:30}") long idleMinutes,
+                           @Value("${practice.metrics-enabled:true}") boolean metricsEnabled) {
+        this.wordCatalog = wordCatalog;
+        this.games = Caffeine.newBuilder()
+                .maximumSize(maxGames)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+        this.started = metricsEnabled ? Counter.builder("practice.games.started").register(meterRegistry) : null;
+        this.guesses = metricsEnabled ? Counter.builder("practice.guesses").register(meterRegistry) : null;
+        this.won = metricsEnabled
+                ? Counter.builder("practice.games.finished").tag("result", "won").register(meterRegistry) : null;
+        this.lost = metricsEnabled
+                ? Counter.builder("practice.games.finished").tag("result", "lost").register(meterRegistry) : null;
+    }
+
+    /** Starts a practice game, replacing the player's previous one. */
+    public PracticeGame start(String username) {
+        int size = wordCatalog.size();
+        if (size == 0) {
+            throw NotFoundException.WORD;
+        }
+        String word = wordCatalog.wordAt(ThreadLocalRandom.current().nextInt(size));
+        PracticeGame game = new PracticeGame(ids.incrementAndGet(), username, word, LocalDateTime.now());
+        games.put(username, game);
+        count(started);
+        return game;
+    }
+
+    public PracticeGame get(String username, long gameId) {
+        PracticeGame game = games.getIfPresent(username);
+        if (game == null || game.getId() != gameId) {
+            // Expired, replaced by a newer practice game, or started on another instance
+            throw NotFoundException.GAME;
+        }
+        return game;
+    }
+
+    public PracticeGame.Guess guess(String username, long gameId, String guessWord) {
+        PracticeGame.Guess guess = get(username, gameId).guess(guessWord, Game.MAX_ATTEMPTS);
+        count(guesses);
+        if (guess.status() == GameState.WON) {
+            count(won);
+        } else if (guess.status() == GameState.LOST) {
+            count(lost);
+        }
+        return guess;
+    }
+
+    private static void count(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
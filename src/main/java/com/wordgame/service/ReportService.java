@@ -1,38 +1,46 @@
 package com.wordgame.service;
 
+import com.wordgame.archive.GameArchive;
 import com.wordgame.repository.GameRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReportService {
+    // Dates are player-local days: a game counts on the day it started for its player
     public long countWinsForUserOnDate(Long userId, LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = start.plusDays(1);
-        return gameRepository.countByUserIdAndWonTrueAndStartedAtBetween(userId, start, end);
+        return gameRepository.countByUserIdAndWonTrueAndDayBucket(userId, DayBuckets.of(date))
+                + gameArchive.countGames(userId, date, true);
     }
 
     private final GameRepository gameRepository;
+    private final GameArchive gameArchive;
 
     public long countGamesForUserOnDate(Long userId, LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = start.plusDays(1);
-        return gameRepository.countByUserIdAndStartedAtBetween(userId, start, end);
+        return gameRepository.countByUserIdAndDayBucket(userId, DayBuckets.of(date))
+                + gameArchive.countGames(userId, date, false);
     }
 
     public long countWinsOnDate(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = start.plusDays(1);
-        return gameRepository.countByWonTrueAndStartedAtBetween(start, end);
+        return gameRepository.countByWonTrueAndDayBucket(DayBuckets.of(date))
+                + gameArchive.countGames(null, date, true);
     }
 
     public long countUniquePlayers(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = start.plusDays(1);
-        return gameRepository.countDistinctUsersByStartedAtBetween(start, end);
+        int day = DayBuckets.of(date);
+        if (!gameArchive.hasDataFor(date)) {
+            return gameRepository.countDistinctUsersByDayBucket(day);
+        }
+        // A day can be split between the hot table and the archive, so merge the ids
+        Set<Long> userIds = new HashSet<>(gameRepository.findDistinctUserIdsByDayBucket(day));
+        userIds.addAll(gameArchive.findUserIds(date));
+        return userIds.size();
     }
 }
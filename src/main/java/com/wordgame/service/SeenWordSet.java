@@ -0,0 +1,273 @@
+package com.wordgame.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Compressed set of word ids, organised like a Roaring bitmap: ids are split into a
+ * 16-bit high part selecting a container and a 16-bit low part stored in it. Sparse
+ * containers are sorted char arrays (2 bytes per id), dense ones switch to a fixed
+ * 8 KB bitmap past 4096 entries. A player with a few thousand games therefore costs a
+ * few KB whatever the size of the dictionary, and {@link #rank} only pops bits in the
+ * containers up to the id.
+ * <p>
+ * Not thread-safe; callers synchronize on the instance.
+ */
+public final class SeenWordSet {
+
+    private static final int VERSION = 1;
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+
+    public boolean contains(long id) {
+        int i = Arrays.binarySearch(keys, high(id));
+        return i >= 0 && containers[i].contains(low(id));
+    }
+
+    /** Adds the id; returns false if it was already present. */
+    public boolean add(long id) {
+        char key = high(id);
+        int i = Arrays.binarySearch(keys, key);
+        if (i < 0) {
+            i = -i - 1;
+            keys = insert(keys, i, key);
+            Container[] grown = new Container[containers.length + 1];
+            System.arraycopy(containers, 0, grown, 0, i);
+            System.arraycopy(containers, i, grown, i + 1, containers.length - i);
+            grown[i] = new ArrayContainer();
+            containers = grown;
+        }
+        Container container = containers[i];
+        if (!container.add(low(id))) {
+            return false;
+        }
+        if (container instanceof ArrayContainer array && array.size > ARRAY_MAX) {
+            containers[i] = array.toBitmap();
+        }
+        return true;
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (Container container : containers) {
+            total += container.cardinality();
+        }
+        return total;
+    }
+
+    /** Number of ids in the set that are less than or equal to {@code id}. */
+    public int rank(long id) {
+        char key = high(id);
+        int total = 0;
+        for (int i = 0; i < keys.length && keys[i] <= key; i++) {
+            total += keys[i] < key ? containers[i].cardinality() : containers[i].rank(low(id));
+        }
+        return total;
+    }
+
+    public void clear() {
+        keys = new char[0];
+        containers = new Container[0];
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + cardinality() * 2);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                out.writeChar(keys[i]);
+                containers[i].write(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static SeenWordSet fromBytes(byte[] data) {
+        SeenWordSet set = new SeenWordSet();
+        if (data == null || data.length == 0) {
+            return set;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != VERSION) {
+                throw new IOException("Unknown seen-word set version");
+            }
+            int count = in.readInt();
+            set.keys = new char[count];
+            set.containers = new Container[count];
+            for (int i = 0; i < count; i++) {
+                set.keys[i] = in.readChar();
+                set.containers[i] = Container.read(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return set;
+    }
+
+    private static char high(long id) {
+        return (char) (id >>> 16);
+    }
+
+    private static char low(long id) {
+        return (char) id;
+    }
+
+    private static char[] insert(char[] array, int index, char value) {
+        char[] grown = new char[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(array, index, grown, index + 1, array.length - index);
+        return grown;
+    }
+
+    // ---------- Containers ----------
+
+    private abstract static class Container {
+
+        abstract boolean contains(char value);
+
+        abstract boolean add(char value);
+
+        abstract int cardinality();
+
+        /** Values less than or equal to {@code value}. */
+        abstract int rank(char value);
+
+        abstract void write(DataOutputStream out) throws IOException;
+
+        static Container read(DataInputStream in) throws IOException {
+            boolean bitmap = in.readBoolean();
+            int cardinality = in.readInt();
+            if (bitmap) {
+                BitmapContainer container = new BitmapContainer();
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    container.words[i] = in.readLong();
+                }
+                container.cardinality = cardinality;
+                return container;
+            }
+            ArrayContainer container = new ArrayContainer();
+            container.values = new char[Math.max(4, cardinality)];
+            for (int i = 0; i < cardinality; i++) {
+                container.values[i] = in.readChar();
+            }
+            container.size = cardinality;
+            return container;
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        char[] values = new char[4];
+        int size;
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        boolean add(char value) {
+            int i = Arrays.binarySearch(values, 0, size, value);
+            if (i >= 0) {
+                return false;
+            }
+            i = -i - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, i, values, i + 1, size - i);
+            values[i] = value;
+            size++;
+            return true;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        int rank(char value) {
+            int i = Arrays.binarySearch(values, 0, size, value);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        void write(DataOutputStream out) throws IOException {
+            out.writeBoolean(false);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeChar(values[i]);
+            }
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        final long[] words = new long[BITMAP_WORDS];
+        int cardinality;
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        boolean add(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            if (before == after) {
+                return false;
+            }
+            words[value >>> 6] = after;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int rank(char value) {
+            int word = value >>> 6;
+            int total = 0;
+            for (int i = 0; i < word; i++) {
+                total += Long.bitCount(words[i]);
+            }
+            // bits 0..(value % 64) of the last word
+            long mask = -1L >>> (63 - (value & 63));
+            return total + Long.bitCount(words[word] & mask);
+        }
+
+        @Override
+        void write(DataOutputStream out) throws IOException {
+            out.writeBoolean(true);
+            out.writeInt(cardinality);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.wordgame.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordgame.entity.UserSeenWords;
+import com.wordgame.repository.UserSeenWordsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Seen-word sets of active players, cached in memory and written through to
+ * {@code user_seen_words}.
+ */
+@Component
+public class SeenWordsStore {
+
+    private final UserSeenWordsRepository repository;
+    private final Cache<Long, SeenWordSet> cache;
+
+    public SeenWordsStore(UserSeenWordsRepository repository,
+                          @Value("${game.no-repeat.cache-size:100000}") long cacheSize,
+                          @Value("${game.no-repeat.cache-idle-minutes:60}") long idleMinutes) {
+        this.repository = repository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    public SeenWordSet get(Long userId) {
+        return cache.get(userId, id -> repository.findById(id)
+                .map(row -> SeenWordSet.fromBytes(row.getBitmap()))
+                .orElseGet(SeenWordSet::new));
+    }
+
+    /** Persists the current state of the user's set; call after changing it. */
+    public void save(Long userId, SeenWordSet set) {
+        byte[] bitmap;
+        int count;
+        synchronized (set) {
+            bitmap = set.toBytes();
+            count = set.cardinality();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // save() would merge, reading the row back first; an update is one statement
+        if (repository.updateBitmap(userId, bitmap, count, now) == 0) {
+            repository.save(new UserSeenWords(userId, bitmap, count, now));
+        }
+    }
+
+    /** Drops the cached copy, e.g. when the transaction that changed it rolled back. */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wordgame.service;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What the frontend needs on page load: today's game count, the open game (if any),
+ * overall stats and the first page of finished games, with the guesses of all of them.
+ */
+public class SessionBootstrap {
+
+    private final long gamesToday;
+    private final Game currentGame;
+    private final long gamesPlayed;
+    private final long gamesWon;
+    private final List<Game> history;
+    private final boolean moreHistory;
+    private final Map<Long, List<Guess>> guessesByGame;
+
+    public SessionBootstrap(long gamesToday, Game currentGame, long gamesPlayed, long gamesWon,
+                            List<Game> history, boolean moreHistory, Map<Long, List<Guess>> guessesByGame) {
+        this.gamesToday = gamesToday;
+        this.currentGame = currentGame;
+        this.gamesPlayed = gamesPlayed;
+        this.gamesWon = gamesWon;
+        this.history = history;
+        this.moreHistory = moreHistory;
+        this.guessesByGame = guessesByGame;
+    }
+
+    public long getGamesToday() {
+        return gamesToday;
+    }
+
+    /** The newest game that has not ended, or null. */
+    public Game getCurrentGame() {
+        return currentGame;
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public long getGamesWon() {
+        return gamesWon;
+    }
+
+    /** Finished games, newest first. */
+    public List<Game> getHistory() {
+        return history;
+    }
+
+    public boolean hasMoreHistory() {
+        return moreHistory;
+    }
+
+    public List<Guess> getGuesses(Game game) {
+        return guessesByGame.getOrDefault(game.getId(), List.of());
+    }
+}
@@ -0,0 +1,119 @@
+package com.wordgame.service;
+
+import com.wordgame.archive.GameArchive;
+import com.wordgame.entity.Game;
+import com.wordgame.entity.User;
+import com.wordgame.repository.GameRepository;
+import com.wordgame.sqlstats.QueryStats;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Assembles {@link SessionBootstrap} with one round of independent queries run in
+ * parallel (today's count, open game, stats, history page) followed by a single query
+ * for the guesses of every game returned. The pool is small and bounded so bootstrap
+ * traffic cannot take more than {@code bootstrap.threads} database connections; when
+ * it is saturated the queries run on the request thread instead.
+ */
+@Service
+public class SessionBootstrapService {
+
+    private final GameRepository gameRepository;
+    private final GameService gameService;
+    private final GameArchive gameArchive;
+    private final int historyPageSize;
+    private final ThreadPoolExecutor executor;
+
+    public SessionBootstrapService(GameRepository gameRepository,
+                                   GameService gameService,
+                                   GameArchive gameArchive,
+                                   @Value("${bootstrap.history-page-size:10}") int historyPageSize,
+                                   @Value("${bootstrap.threads:8}") int threads,
+                                   @Value("${bootstrap.queue-capacity:64}") int queueCapacity) {
+        this.gameRepository = gameRepository;
+        this.gameService = gameService;
+        this.gameArchive = gameArchive;
+        this.historyPageSize = historyPageSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "bootstrap-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public SessionBootstrap load(User user) {
+        Long userId = user.getId();
+        int today = DayBuckets.today(user);
+
+        CompletableFuture<Long> gamesToday =
+                async(() -> gameRepository.countByUserIdAndDayBucket(userId, today));
+        CompletableFuture<List<Game>> openGames =
+                async(() -> gameRepository.findOpenGamesWithWord(userId, PageRequest.of(0, 1)));
+        CompletableFuture<GameRepository.PlayerStats> stats =
+                async(() -> gameRepository.findStatsByUserId(userId));
+        // One extra row tells whether there is a second page
+        CompletableFuture<List<Game>> ended =
+                async(() -> gameRepository.findEndedGamesWithWord(userId, PageRequest.of(0, historyPageSize + 1)));
+
+        List<Game> history = new ArrayList<>(join(ended));
+        if (history.size() <= historyPageSize) {
+            // Archived games are older than anything left in the games table
+            history.addAll(gameArchive.findByUser(userId, historyPageSize + 1 - history.size()));
+        }
+        boolean moreHistory = history.size() > historyPageSize;
+        if (moreHistory) {
+            history = history.subList(0, historyPageSize);
+        }
+        Game currentGame = join(openGames).stream().findFirst().orElse(null);
+
+        List<Game> withGuesses = new ArrayList<>(history);
+        if (currentGame != null) {
+            withGuesses.add(currentGame);
+        }
+        var guessesByGame = gameService.getGuessesByGame(withGuesses);
+
+        GameRepository.PlayerStats totals = join(stats);
+        GameArchive.UserGameCounts archived = gameArchive.countUserGames(userId);
+        long played = totals.getPlayed() + archived.played();
+        long won = (totals.getWon() != null ? totals.getWon() : 0) + archived.won();
+
+        return new SessionBootstrap(join(gamesToday), currentGame, played, won,
+                history, moreHistory, guessesByGame);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(QueryStats.propagate(query), executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
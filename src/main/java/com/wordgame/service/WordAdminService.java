@@ -0,0 +1,76 @@
+package com.wordgame.service;
+
+import com.wordgame.entity.ChangeType;
+import com.wordgame.entity.Word;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.exception.NotFoundException;
+import com.wordgame.outbox.ChangeOutbox;
+import com.wordgame.repository.WordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Adds and renames dictionary words. Other nodes pick the change up from the cache
+ * outbox; this node reloads its word catalog once the change is committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class WordAdminService {
+
+    private static final Pattern FIVE_LETTERS = Pattern.compile("[A-Z]{5}");
+
+    private final WordRepository wordRepository;
+    private final WordCatalog wordCatalog;
+    private final ChangeOutbox changeOutbox;
+
+    @Transactional
+    public Word addWord(String word) {
+        String normalized = normalize(word);
+        if (wordRepository.findByWord(normalized).isPresent()) {
+            throw InvalidRequestException.WORD_TAKEN;
+        }
+        Word saved = wordRepository.save(new Word(null, normalized, LocalDateTime.now()));
+        recordChange(saved.getId());
+        return saved;
+    }
+
+    @Transactional
+    public Word renameWord(Long wordId, String word) {
+        String normalized = normalize(word);
+        Word existing = wordRepository.findById(wordId)
+                .orElseThrow(() -> NotFoundException.WORD);
+        if (wordRepository.findByWord(normalized).filter(w -> !w.getId().equals(wordId)).isPresent()) {
+            throw InvalidRequestException.WORD_TAKEN;
+        }
+        existing.setWord(normalized);
+        Word saved = wordRepository.save(existing);
+        recordChange(wordId);
+        return saved;
+    }
+
+    private void recordChange(long wordId) {
+        changeOutbox.record(ChangeType.WORD, wordId);
+        // The poller skips this node's own events
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wordCatalog.refresh();
+            }
+        });
+    }
+
+    private static String normalize(String word) {
+        String upper = word == null ? "" : word.trim().toUpperCase(Locale.ROOT);
+        if (!FIVE_LETTERS.matcher(upper).matches()) {
+            throw InvalidRequestException.INVALID_WORD;
+        }
+        return upper;
+    }
+}
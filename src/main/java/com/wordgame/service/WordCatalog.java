@@ -0,0 +1,88 @@
+package com.wordgame.service;
+
+import com.wordgame.entity.Word;
+import com.wordgame.repository.WordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only, in-memory copy of the word list. Loaded on first use and reloaded
+ * whenever a word is added or renamed, on this node or another (cache outbox).
+ */
+@Component
+@RequiredArgsConstructor
+public class WordCatalog {
+
+    private final WordRepository wordRepository;
+
+    private volatile Snapshot snapshot;
+
+    private static final class Snapshot {
+        final long[] ids;
+        final String[] words;
+        final Map<Long, String> byId;
+
+        Snapshot(List<Word> all) {
+            List<Word> sorted = all.stream().sorted(Comparator.comparing(Word::getId)).toList();
+            ids = new long[sorted.size()];
+            words = new String[sorted.size()];
+            byId = new HashMap<>(sorted.size() * 2);
+            for (int i = 0; i < sorted.size(); i++) {
+                ids[i] = sorted.get(i).getId();
+                words[i] = sorted.get(i).getWord();
+                byId.put(ids[i], words[i]);
+            }
+        }
+    }
+
+    /** The word with this id, or null if it is not in the catalog. */
+    public String word(long wordId) {
+        String word = snapshot().byId.get(wordId);
+        if (word == null) {
+            // A word added after the catalog was loaded
+            refresh();
+            word = snapshot().byId.get(wordId);
+        }
+        return word;
+    }
+
+    public int size() {
+        return snapshot().ids.length;
+    }
+
+    /** All word ids in ascending order. Shared; callers must not modify it. */
+    public long[] ids() {
+        return snapshot().ids;
+    }
+
+    /** Word id at a position in id order, 0 <= index < size(). */
+    public long idAt(int index) {
+        return snapshot().ids[index];
+    }
+
+    public String wordAt(int index) {
+        return snapshot().words[index];
+    }
+
+    public void refresh() {
+        snapshot = new Snapshot(wordRepository.findAll());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
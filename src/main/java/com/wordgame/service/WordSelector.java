@@ -0,0 +1,139 @@
+package com.wordgame.service;
+
+import com.wordgame.entity.ChangeType;
+import com.wordgame.entity.Word;
+import com.wordgame.exception.NotFoundException;
+import com.wordgame.outbox.ChangeOutbox;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.wordstats.Difficulty;
+import com.wordgame.wordstats.WordStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks the target word of a new game. In {@code random} mode any word may come up;
+ * in {@code no-repeat} mode the word is drawn uniformly from the words the player has
+ * not had yet in the current cycle, and the cycle restarts once every word was played.
+ * <p>
+ * With a {@link Difficulty} the word is drawn from that band instead. An empty band, or
+ * one the player has (almost) used up, falls back to any word rather than a repeat.
+ */
+@Component
+@RequiredArgsConstructor
+public class WordSelector {
+
+    // Random probes before switching to rank-based selection
+    private static final int PROBES = 16;
+
+    private final WordRepository wordRepository;
+    private final WordCatalog wordCatalog;
+    private final SeenWordsStore seenWordsStore;
+    private final ChangeOutbox changeOutbox;
+    private final WordStatistics wordStatistics;
+
+    @Value("${game.word-selection:random}")
+    private String mode;
+
+    public Word pick(Long userId) {
+        return pick(userId, null);
+    }
+
+    public Word pick(Long userId, Difficulty difficulty) {
+        long[] band = difficulty != null ? wordStatistics.band(difficulty) : null;
+        if (!"no-repeat".equals(mode)) {
+            if (band == null || band.length == 0) {
+                return wordRepository.findRandomWord();
+            }
+            // Words are in the second-level cache
+            return wordRepository.findById(band[ThreadLocalRandom.current().nextInt(band.length)])
+                    .orElseThrow(() -> NotFoundException.WORD);
+        }
+        long[] ids = wordCatalog.ids();
+        if (ids.length == 0) {
+            throw NotFoundException.WORD;
+        }
+        SeenWordSet seen = seenWordsStore.get(userId);
+        long wordId;
+        synchronized (seen) {
+            wordId = pickUnseen(ids, band, seen);
+            seen.add(wordId);
+        }
+        seenWordsStore.save(userId, seen);
+        changeOutbox.record(ChangeType.SEEN_WORDS, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The in-memory set already has the word; reload it if the game is not saved
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        seenWordsStore.evict(userId);
+                    }
+                }
+            });
+        }
+        // Words are in the second-level cache
+        return wordRepository.findById(wordId).orElseThrow(() -> NotFoundException.WORD);
+    }
+
+    /** An unseen word of the band if random probes find one, else any unseen word. */
+    static long pickUnseen(long[] ids, long[] band, SeenWordSet seen) {
+        if (band != null && band.length > 0) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int probe = 0; probe < PROBES; probe++) {
+                long id = band[random.nextInt(band.length)];
+                if (!seen.contains(id)) {
+                    return id;
+                }
+            }
+        }
+        return pickUnseen(ids, seen);
+    }
+
+    /**
+     * Almost always the first probe hits an unseen word (a player who has seen k of n
+     * words needs n / (n - k) probes on average). Near the end of a cycle it finds the
+     * r-th unseen word instead by binary search over the catalog, using the set's rank.
+     */
+    static long pickUnseen(long[] ids, SeenWordSet seen) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int probe = 0; probe < PROBES; probe++) {
+            long id = ids[random.nextInt(ids.length)];
+            if (!seen.contains(id)) {
+                return id;
+            }
+        }
+        int unseen = ids.length - seen.rank(ids[ids.length - 1]);
+        if (unseen > 0) {
+            int target = random.nextInt(unseen);
+            int lo = 0;
+            int hi = ids.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int unseenUpToMid = mid + 1 - seen.rank(ids[mid]);
+                if (unseenUpToMid > target) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            if (!seen.contains(ids[lo])) {
+                return ids[lo];
+            }
+        }
+        // The set may hold ids of words no longer in the catalog, which the rank counts
+        // too; only a scan tells whether any catalog word is left
+        for (long id : ids) {
+            if (!seen.contains(id)) {
+                return id;
+            }
+        }
+        // Every word played: start a new cycle
+        seen.clear();
+        return ids[random.nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,83 @@
+package com.wordgame.sqlstats;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps connections so every {@code execute*} call on their statements is timed and
+ * reported to {@link QueryStats}. Batches count as one statement.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            Class<?> statementType = switch (method.getName()) {
+                case "createStatement" -> Statement.class;
+                case "prepareStatement" -> PreparedStatement.class;
+                case "prepareCall" -> CallableStatement.class;
+                default -> null;
+            };
+            if (statementType == null) {
+                return result;
+            }
+            return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{statementType}, new StatementHandler(result));
+        }
+    }
+
+    private record StatementHandler(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute") || QueryStats.current() == null) {
+                return QueryCountingDataSource.invoke(target, method, args);
+            }
+            long started = System.nanoTime();
+            try {
+                return QueryCountingDataSource.invoke(target, method, args);
+            } finally {
+                QueryStats.record(System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.wordgame.sqlstats;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/** Wraps every DataSource bean in a {@link QueryCountingDataSource}. */
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+            return new QueryCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
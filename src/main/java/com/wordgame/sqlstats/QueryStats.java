@@ -0,0 +1,92 @@
+package com.wordgame.sqlstats;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound SQL statement counters. A scope is opened per request by
+ * {@link QueryStatsFilter} (and by tests); every JDBC statement executed on the thread
+ * while it is open is counted, with its execution time, in that scope and all enclosing ones.
+ * Work handed to other threads is counted too when wrapped with {@link #propagate}.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryStats() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** The innermost open scope on this thread, or null. */
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    /** Wraps a task so that statements it runs on another thread count in the caller's scope. */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static void record(long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count.increment();
+            scope.nanos.add(nanos);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        // Adders: propagated tasks may record from several threads at once
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getCount() {
+            return count.intValue();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        public long getMillis() {
+            return getNanos() / 1_000_000;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.wordgame.sqlstats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts SQL statements and database time per request (including the ones issued by
+ * the security filters) and records them per endpoint as
+ * {@code http.server.requests.sql.queries} / {@code http.server.requests.sql.time}.
+ * With {@code sql-stats.response-headers=true} (the dev profile) the numbers are also
+ * returned in X-Query-Count / X-Query-Time-Ms.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sql-stats.response-headers:false}")
+    private boolean responseHeaders;
+
+    @Value("${sql-stats.warn-threshold:20}")
+    private int warnThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        try (QueryStats.Scope scope = QueryStats.open()) {
+            HttpServletResponse target = responseHeaders ? new HeaderOnCommit(response, scope) : response;
+            filterChain.doFilter(request, target);
+            if (responseHeaders && !response.isCommitted()) {
+                addHeaders(response, scope);
+            }
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+        DistributionSummary.builder("http.server.requests.sql.queries")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getCount());
+        Timer.builder("http.server.requests.sql.time")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getNanos(), TimeUnit.NANOSECONDS);
+        if (scope.getCount() > warnThreshold) {
+            log.warn("{} {} ran {} SQL statements ({} ms)", request.getMethod(), uri, scope.getCount(), scope.getMillis());
+        }
+    }
+
+    private static void addHeaders(HttpServletResponse response, QueryStats.Scope scope) {
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(scope.getCount()));
+        response.setHeader(QUERY_TIME_HEADER, String.valueOf(scope.getMillis()));
+    }
+
+    // Headers must be set before the body is flushed, which for JSON responses happens
+    // inside the chain
+    private static final class HeaderOnCommit extends OnCommittedResponseWrapper {
+
+        private final QueryStats.Scope scope;
+
+        HeaderOnCommit(HttpServletResponse response, QueryStats.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addHeaders((HttpServletResponse) getResponse(), scope);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.wordgame.startup;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * With {@code startup.lazy-admin-beans=true}, admin-only beans are created on first use
+ * instead of during startup. Controllers stay mapped: their handler methods are detected
+ * from the bean type and the instance is only resolved when a request arrives.
+ */
+@Component
+public class LazyAdminBeansPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    private static final String DEFAULT_BEANS = "adminController,reportService,exportController,exportService";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (!environment.getProperty("startup.lazy-admin-beans", Boolean.class, false)) {
+            return;
+        }
+        for (String name : environment.getProperty("startup.lazy-beans", String[].class, DEFAULT_BEANS.split(","))) {
+            if (beanFactory.containsBeanDefinition(name.trim())) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name.trim());
+                definition.setLazyInit(true);
+            }
+        }
+    }
+}
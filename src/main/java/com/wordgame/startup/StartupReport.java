@@ -0,0 +1,75 @@
+package com.wordgame.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs where startup time went once the application is ready: the total per startup
+ * phase (step name) and the slowest individual beans. The full timeline stays available
+ * at /actuator/startup. Needs the {@link BufferingApplicationStartup} installed in main().
+ */
+@Slf4j
+@Component
+public class StartupReport {
+
+    private static final int TOP = 10;
+
+    @Value("${startup.report:true}")
+    private boolean enabled;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!enabled || !(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+
+        Map<String, Duration> byPhase = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (StartupTimeline.TimelineEvent e : events) {
+            byPhase.merge(e.getStartupStep().getName(), e.getDuration(), Duration::plus);
+            counts.merge(e.getStartupStep().getName(), 1, Integer::sum);
+        }
+
+        StringBuilder report = new StringBuilder("Startup report (ready after ")
+                .append(event.getTimeTaken() != null ? event.getTimeTaken().toMillis() + " ms" : "n/a")
+                .append(")\n  By phase (nested steps overlap):\n");
+        byPhase.entrySet().stream()
+                .sorted(Map.Entry.<String, Duration>comparingByValue().reversed())
+                .limit(TOP)
+                .forEach(p -> report.append(String.format("    %7d ms  %5dx  %s%n",
+                        p.getValue().toMillis(), counts.get(p.getKey()), p.getKey())));
+
+        report.append("  Slowest beans:\n");
+        events.stream()
+                .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(TOP)
+                .forEach(e -> report.append(String.format("    %7d ms  %s%n",
+                        e.getDuration().toMillis(), beanName(e.getStartupStep()))));
+        log.info(report.toString());
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
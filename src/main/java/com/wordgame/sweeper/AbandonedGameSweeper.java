@@ -0,0 +1,150 @@
+package com.wordgame.sweeper;
+
+import com.wordgame.daily.DailyResults;
+import com.wordgame.entity.ChangeType;
+import com.wordgame.entity.Game;
+import com.wordgame.journal.GameJournal;
+import com.wordgame.outbox.ChangeOutbox;
+import com.wordgame.repository.GameRepository;
+import com.wordgame.wordstats.WordStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Closes games nobody has played for longer than the idle timeout, marking them lost.
+ * <p>
+ * Games started or guessed on this node sit in a {@link TimingWheel} and are closed
+ * as soon as their deadline passes. A slower periodic scan of the {@code games} table
+ * picks up everything else (games from other nodes or from before a restart). Both
+ * paths claim rows with {@code SELECT ... FOR UPDATE SKIP LOCKED} and close them in one
+ * bulk update per batch, so several nodes can sweep at the same time.
+ */
+@Slf4j
+@Component
+public class AbandonedGameSweeper {
+
+    private final GameRepository gameRepository;
+    private final GameJournal gameJournal;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeOutbox changeOutbox;
+    private final DailyResults dailyResults;
+    private final WordStatistics wordStatistics;
+    private final boolean enabled;
+    private final long idleTimeoutMillis;
+    private final int batchSize;
+    private final TimingWheel wheel;
+    private final Counter closedByWheel;
+    private final Counter closedByScan;
+    private final Timer batchTimer;
+
+    public AbandonedGameSweeper(GameRepository gameRepository,
+                                GameJournal gameJournal,
+                                TransactionTemplate transactionTemplate,
+                                ChangeOutbox changeOutbox,
+                                DailyResults dailyResults,
+                                WordStatistics wordStatistics,
+                                MeterRegistry meterRegistry,
+                                @Value("${sweeper.enabled:true}") boolean enabled,
+                                @Value("${sweeper.idle-timeout-minutes:30}") long idleTimeoutMinutes,
+                                @Value("${sweeper.batch-size:500}") int batchSize,
+                                @Value("${sweeper.tick-ms:1000}") long tickMillis) {
+        this.gameRepository = gameRepository;
+        this.gameJournal = gameJournal;
+        this.transactionTemplate = transactionTemplate;
+        this.changeOutbox = changeOutbox;
+        this.dailyResults = dailyResults;
+        this.wordStatistics = wordStatistics;
+        this.enabled = enabled;
+        this.idleTimeoutMillis = idleTimeoutMinutes * 60_000;
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel(tickMillis, 3, System.currentTimeMillis());
+        this.closedByWheel = Counter.builder("sweeper.games.closed").tag("source", "wheel").register(meterRegistry);
+        this.closedByScan = Counter.builder("sweeper.games.closed").tag("source", "scan").register(meterRegistry);
+        this.batchTimer = Timer.builder("sweeper.batch").register(meterRegistry);
+        Gauge.builder("sweeper.wheel.size", wheel, TimingWheel::size).register(meterRegistry);
+    }
+
+    /** Records activity on an open game; it expires one idle timeout from now. */
+    public void touch(long gameId) {
+        if (enabled) {
+            wheel.schedule(gameId, System.currentTimeMillis() + idleTimeoutMillis);
+        }
+    }
+
+    /** Stops tracking a game that has ended. */
+    public void forget(long gameId) {
+        wheel.cancel(gameId);
+    }
+
+    @Scheduled(fixedDelayString = "${sweeper.tick-ms:1000}")
+    public void expireTracked() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> expired = wheel.advance(System.currentTimeMillis());
+        LocalDateTime cutoff = cutoff();
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Long> ids = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            closedByWheel.increment(closeBatch(repo -> repo.findAbandonedGamesByIdIn(ids, cutoff)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sweeper.scan-interval-ms:60000}",
+               initialDelayString = "${sweeper.scan-initial-delay-ms:60000}")
+    public void scan() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = cutoff();
+        long total = 0;
+        int closed;
+        do {
+            closed = closeBatch(repo -> repo.findAbandonedGames(cutoff, PageRequest.of(0, batchSize)));
+            closedByScan.increment(closed);
+            total += closed;
+        } while (closed == batchSize);
+        if (total > 0) {
+            log.info("Closed {} games idle since before {}", total, cutoff);
+        }
+    }
+
+    // Claims a batch of abandoned games and closes them in one transaction
+    private int closeBatch(Function<GameRepository, List<Game>> claim) {
+        return batchTimer.record(() -> transactionTemplate.execute(status -> {
+            List<Game> games = claim.apply(gameRepository);
+            if (games.isEmpty()) {
+                return 0;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = games.stream().map(Game::getId).toList();
+            gameRepository.closeGames(ids, now);
+            for (Game game : games) {
+                gameJournal.gameEnded(game.getId(), false, game.getAttempts(), now);
+                changeOutbox.record(ChangeType.GAME, game.getId());
+                wordStatistics.gameEnded(game.getWord().getId(), false, game.getAttempts());
+                if (game.getChallengeDay() != null) {
+                    // Abandoned challenges count as not solved
+                    dailyResults.gameEnded(game.getId());
+                }
+                wheel.cancel(game.getId());
+            }
+            return games.size();
+        }));
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusNanos(idleTimeoutMillis * 1_000_000);
+    }
+}
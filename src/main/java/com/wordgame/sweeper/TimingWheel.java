@@ -0,0 +1,111 @@
+package com.wordgame.sweeper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel of keyed deadlines. Each level has 64 slots; a slot of
+ * level {@code l} spans 64^l ticks, so three levels of one-second ticks cover about
+ * three days. Scheduling and cancelling are O(1); entries are cascaded to a finer
+ * level as their slot comes up, so each is touched at most once per level.
+ * <p>
+ * Re-scheduling a key only records the new deadline; the old entry is dropped
+ * when its slot is processed.
+ */
+final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private record Entry(long key, long deadlineTick) {
+    }
+
+    private final long tickMillis;
+    private final List<Entry>[][] wheels;
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int levels, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.wheels = new List[levels][SLOTS];
+        for (List<Entry>[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = new ArrayList<>();
+            }
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /** Schedules the key to expire at the deadline, replacing any earlier deadline. */
+    synchronized void schedule(long key, long deadlineMillis) {
+        long deadlineTick = Math.max(deadlineMillis / tickMillis, currentTick + 1);
+        deadlines.put(key, deadlineTick);
+        insert(new Entry(key, deadlineTick));
+    }
+
+    synchronized void cancel(long key) {
+        deadlines.remove(key);
+    }
+
+    synchronized int size() {
+        return deadlines.size();
+    }
+
+    /** Moves the wheel to the given time and returns the keys whose deadline has passed. */
+    synchronized List<Long> advance(long nowMillis) {
+        List<Long> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade coarser slots that start at this tick, highest level first
+            for (int level = wheels.length - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    List<Entry> slot = drain(level, slotOf(currentTick, level));
+                    slot.forEach(this::insert);
+                }
+            }
+            for (Entry entry : drain(0, slotOf(currentTick, 0))) {
+                Long deadline = deadlines.get(entry.key());
+                if (deadline == null || deadline != entry.deadlineTick()) {
+                    continue; // cancelled or re-scheduled
+                }
+                if (entry.deadlineTick() <= currentTick) {
+                    deadlines.remove(entry.key());
+                    expired.add(entry.key());
+                } else {
+                    insert(entry);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private void insert(Entry entry) {
+        Long deadline = deadlines.get(entry.key());
+        if (deadline == null || deadline != entry.deadlineTick()) {
+            return;
+        }
+        long delta = entry.deadlineTick() - currentTick;
+        int level = 0;
+        while (level < wheels.length - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        // Past the top level's range: park in the top level and re-cascade when it comes up
+        long tick = Math.min(entry.deadlineTick(), currentTick + (1L << (SLOT_BITS * wheels.length)) - 1);
+        wheels[level][slotOf(tick, level)].add(entry);
+    }
+
+    private List<Entry> drain(int level, int slot) {
+        List<Entry> entries = wheels[level][slot];
+        wheels[level][slot] = new ArrayList<>();
+        return entries;
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+}
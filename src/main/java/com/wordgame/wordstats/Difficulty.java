@@ -0,0 +1,6 @@
+package com.wordgame.wordstats;
+
+/** Difficulty band of a word, by the mean number of guesses players needed. */
+public enum Difficulty {
+    EASY, MEDIUM, HARD
+}
@@ -0,0 +1,241 @@
+package com.wordgame.wordstats;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.WordStats;
+import com.wordgame.repository.WordStatsRepository;
+import com.wordgame.service.WordCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-word play statistics, counted as games end instead of aggregated from games and
+ * guesses.
+ * <p>
+ * Each node counts ended games in a fixed histogram per word (bucket 0: not solved,
+ * bucket n: solved with n guesses) and adds the counts to {@code word_stats} every
+ * flush interval. After each flush it reloads the totals of all nodes and ranks the
+ * words into {@link Difficulty} bands by mean guesses, a failure counting as one guess
+ * more than the maximum. Words played fewer than {@code word-stats.min-plays} times
+ * are MEDIUM; the rest are split into thirds. The bands are plain id arrays, so
+ * drawing a word of a band is one random index.
+ */
+@Slf4j
+@Component
+public class WordStatistics {
+
+    private static final int BUCKETS = Game.MAX_ATTEMPTS + 1;
+
+    private final WordStatsRepository wordStatsRepository;
+    private final WordCatalog wordCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final long minPlays;
+    // Counts since the last flush; entries stay, their buckets are reset by the flush
+    private final ConcurrentHashMap<Long, AtomicLongArray> pending = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public WordStatistics(WordStatsRepository wordStatsRepository,
+                          WordCatalog wordCatalog,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${word-stats.min-plays:20}") long minPlays) {
+        this.wordStatsRepository = wordStatsRepository;
+        this.wordCatalog = wordCatalog;
+        this.transactionTemplate = transactionTemplate;
+        this.minPlays = minPlays;
+    }
+
+    private record WordEntry(long wordId, long[] histogram, double meanGuesses, Difficulty difficulty) {
+
+        long plays() {
+            return Arrays.stream(histogram).sum();
+        }
+    }
+
+    private static final class Snapshot {
+        // Hardest first
+        final List<WordEntry> ranked;
+        final Map<Difficulty, long[]> bands = new EnumMap<>(Difficulty.class);
+
+        Snapshot(List<WordEntry> ranked) {
+            this.ranked = ranked;
+            for (Difficulty difficulty : Difficulty.values()) {
+                bands.put(difficulty, ranked.stream()
+                        .filter(e -> e.difficulty() == difficulty)
+                        .mapToLong(WordEntry::wordId)
+                        .sorted()
+                        .toArray());
+            }
+        }
+    }
+
+    /** Call inside the transaction that ends a game; counted once it commits. */
+    public void gameEnded(long wordId, boolean won, int attempts) {
+        int bucket = won ? Math.min(Math.max(attempts, 1), Game.MAX_ATTEMPTS) : 0;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    count(wordId, bucket);
+                }
+            });
+        } else {
+            count(wordId, bucket);
+        }
+    }
+
+    /** Word ids of a band as of the last flush, ascending. Shared; callers must not modify it. */
+    public long[] band(Difficulty difficulty) {
+        return snapshot().bands.get(difficulty);
+    }
+
+    /** Statistics as of the last flush, hardest first, optionally of one band only. */
+    public List<Map<String, Object>> report(Difficulty difficulty, int limit) {
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (WordEntry entry : snapshot().ranked) {
+            if (report.size() >= limit) {
+                break;
+            }
+            if (difficulty != null && entry.difficulty() != difficulty) {
+                continue;
+            }
+            long plays = entry.plays();
+            long[] histogram = entry.histogram();
+            Map<String, Object> counts = new LinkedHashMap<>();
+            for (int n = 1; n <= Game.MAX_ATTEMPTS; n++) {
+                counts.put(String.valueOf(n), histogram[n]);
+            }
+            counts.put("failed", histogram[0]);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("wordId", entry.wordId());
+            row.put("word", wordCatalog.word(entry.wordId()));
+            row.put("plays", plays);
+            row.put("solveRate", plays > 0 ? (double) (plays - histogram[0]) / plays : 0.0);
+            row.put("meanGuesses", entry.meanGuesses());
+            row.put("distribution", counts);
+            row.put("difficulty", entry.difficulty());
+            report.add(row);
+        }
+        return report;
+    }
+
+    /** Adds this node's counts to word_stats, then reloads everyone's totals and the bands. */
+    @Scheduled(fixedDelayString = "${word-stats.flush-interval-ms:60000}",
+               initialDelayString = "${word-stats.flush-interval-ms:60000}")
+    public void flush() {
+        Map<Long, long[]> deltas = new HashMap<>();
+        pending.forEach((wordId, buckets) -> {
+            long[] delta = new long[BUCKETS];
+            boolean any = false;
+            for (int i = 0; i < BUCKETS; i++) {
+                delta[i] = buckets.getAndSet(i, 0);
+                any |= delta[i] != 0;
+            }
+            if (any) {
+                deltas.put(wordId, delta);
+            }
+        });
+        if (!deltas.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(deltas));
+            } catch (DataAccessException e) {
+                // Kept for the next flush
+                log.warn("Could not flush word statistics of {} words", deltas.size(), e);
+                deltas.forEach((wordId, delta) -> {
+                    for (int i = 0; i < BUCKETS; i++) {
+                        add(wordId, i, delta[i]);
+                    }
+                });
+            }
+        }
+        snapshot = load();
+    }
+
+    private void write(Map<Long, long[]> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((wordId, d) -> {
+            long plays = Arrays.stream(d).sum();
+            if (wordStatsRepository.addCounts(wordId, plays, d[1], d[2], d[3], d[4], d[5], now) == 0) {
+                // A word added after the backfill
+                wordStatsRepository.save(new WordStats(wordId, plays, d[1], d[2], d[3], d[4], d[5], now));
+            }
+        });
+    }
+
+    private Snapshot load() {
+        Map<Long, WordStats> stored = new HashMap<>();
+        wordStatsRepository.findAll().forEach(stats -> stored.put(stats.getWordId(), stats));
+        List<WordEntry> rated = new ArrayList<>();
+        List<WordEntry> unrated = new ArrayList<>();
+        for (long wordId : wordCatalog.ids()) {
+            WordStats stats = stored.get(wordId);
+            long[] histogram = stats == null ? new long[BUCKETS] : histogram(stats);
+            long plays = Arrays.stream(histogram).sum();
+            long guesses = histogram[0] * (Game.MAX_ATTEMPTS + 1);
+            for (int n = 1; n <= Game.MAX_ATTEMPTS; n++) {
+                guesses += histogram[n] * n;
+            }
+            double mean = plays > 0 ? (double) guesses / plays : 0.0;
+            WordEntry entry = new WordEntry(wordId, histogram, mean, Difficulty.MEDIUM);
+            (plays >= minPlays ? rated : unrated).add(entry);
+        }
+        rated.sort(Comparator.comparingDouble(WordEntry::meanGuesses).reversed());
+        List<WordEntry> ranked = new ArrayList<>(rated.size() + unrated.size());
+        int third = rated.size() / 3;
+        for (int i = 0; i < rated.size(); i++) {
+            Difficulty difficulty = i < third ? Difficulty.HARD
+                    : i >= rated.size() - third ? Difficulty.EASY : Difficulty.MEDIUM;
+            WordEntry entry = rated.get(i);
+            ranked.add(new WordEntry(entry.wordId(), entry.histogram(), entry.meanGuesses(), difficulty));
+        }
+        ranked.addAll(unrated);
+        return new Snapshot(ranked);
+    }
+
+    private static long[] histogram(WordStats stats) {
+        long[] histogram = {0, stats.getSolved1(), stats.getSolved2(), stats.getSolved3(),
+                stats.getSolved4(), stats.getSolved5()};
+        histogram[0] = Math.max(0, stats.getPlays() - Arrays.stream(histogram).sum());
+        return histogram;
+    }
+
+    private void count(long wordId, int bucket) {
+        add(wordId, bucket, 1);
+    }
+
+    private void add(long wordId, int bucket, long count) {
+        if (count != 0) {
+            pending.computeIfAbsent(wordId, id -> new AtomicLongArray(BUCKETS)).addAndGet(bucket, count);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
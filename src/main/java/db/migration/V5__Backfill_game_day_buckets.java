@@ -0,0 +1,44 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Stamps games created before V4 with the server-local day they started on, which is
+ * what the daily limit used at the time. Runs one indexed range update per day, so it
+ * works the same on MySQL and H2 and never locks the whole table at once.
+ */
+public class V5__Backfill_game_day_buckets extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        LocalDate first;
+        LocalDate last;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT MIN(started_at), MAX(started_at) FROM games WHERE day_bucket = 0")) {
+            if (!rs.next() || rs.getTimestamp(1) == null) {
+                return;
+            }
+            first = rs.getTimestamp(1).toLocalDateTime().toLocalDate();
+            last = rs.getTimestamp(2).toLocalDateTime().toLocalDate();
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE games SET day_bucket = ? WHERE started_at >= ? AND started_at < ? AND day_bucket = 0")) {
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                update.setInt(1, (int) day.toEpochDay());
+                update.setTimestamp(2, Timestamp.valueOf(day.atStartOfDay()));
+                update.setTimestamp(3, Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+                update.executeUpdate();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Multiplayer rooms live in memory; only each player's result is kept once a room ends
+CREATE TABLE room_results (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    room_id     BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    word_id     BIGINT      NOT NULL,
+    attempts    INT         NOT NULL,
+    won         BOOLEAN     NOT NULL,
+    place       INT         NOT NULL,
+    finished_at DATETIME(6) NULL,
+    ended_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_room_results_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_room_results_word FOREIGN KEY (word_id) REFERENCES words (id)
+);
+
+CREATE INDEX idx_room_results_room ON room_results (room_id);
+CREATE INDEX idx_room_results_user_ended ON room_results (user_id, ended_at);
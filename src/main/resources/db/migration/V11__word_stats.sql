@@ -0,0 +1,28 @@
+-- Per-word play statistics: plays and a fixed histogram of guesses to solve (failed =
+-- plays - solved_1 - ... - solved_5). Nodes add their counts since the last flush.
+CREATE TABLE word_stats (
+    word_id    BIGINT      NOT NULL,
+    plays      BIGINT      NOT NULL,
+    solved_1   BIGINT      NOT NULL,
+    solved_2   BIGINT      NOT NULL,
+    solved_3   BIGINT      NOT NULL,
+    solved_4   BIGINT      NOT NULL,
+    solved_5   BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (word_id),
+    CONSTRAINT fk_word_stats_word FOREIGN KEY (word_id) REFERENCES words (id)
+);
+
+-- Backfill from the ended games still in the games table (archived games are not counted)
+INSERT INTO word_stats (word_id, plays, solved_1, solved_2, solved_3, solved_4, solved_5, updated_at)
+SELECT w.id,
+       COUNT(g.id),
+       COALESCE(SUM(CASE WHEN g.won AND g.attempts <= 1 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN g.won AND g.attempts = 2 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN g.won AND g.attempts = 3 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN g.won AND g.attempts = 4 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN g.won AND g.attempts >= 5 THEN 1 ELSE 0 END), 0),
+       CURRENT_TIMESTAMP(6)
+FROM words w
+LEFT JOIN games g ON g.word_id = w.id AND g.ended_at IS NOT NULL
+GROUP BY w.id;
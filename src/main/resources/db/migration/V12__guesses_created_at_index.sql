@@ -0,0 +1,2 @@
+-- Admin export of guesses: created_at range ORDER BY id
+CREATE INDEX idx_guesses_created_at ON guesses (created_at);
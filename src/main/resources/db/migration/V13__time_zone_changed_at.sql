@@ -0,0 +1,4 @@
+-- Last time the player changed their time zone; changes are limited so the daily limit
+-- cannot be reset by hopping zones. NULL: never changed since registering.
+
+ALTER TABLE users ADD COLUMN time_zone_changed_at DATETIME(6) NULL;
@@ -0,0 +1,44 @@
+-- Baseline schema, matching what Hibernate generated while the schema was managed
+-- with ddl-auto=update. Databases created that way are baselined at version 1.
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    username      VARCHAR(50) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    role          ENUM('ADMIN', 'PLAYER') NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE IF NOT EXISTS words (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    word       VARCHAR(5) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_words_word UNIQUE (word)
+);
+
+CREATE TABLE IF NOT EXISTS games (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    word_id    BIGINT NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    ended_at   DATETIME(6),
+    attempts   INTEGER NOT NULL,
+    won        BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_games_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_games_word FOREIGN KEY (word_id) REFERENCES words (id)
+);
+
+CREATE TABLE IF NOT EXISTS guesses (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    game_id      BIGINT NOT NULL,
+    guess_word   VARCHAR(5) NOT NULL,
+    guess_number INTEGER NOT NULL,
+    evaluation   JSON NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_guesses_game FOREIGN KEY (game_id) REFERENCES games (id)
+);
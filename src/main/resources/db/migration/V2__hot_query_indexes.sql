@@ -0,0 +1,15 @@
+-- Covering indexes for the GameRepository / GuessRepository queries.
+
+-- Per-user counts and history: user_id = ? AND started_at BETWEEN ? AND ? [AND won]
+-- ORDER BY started_at DESC; also serves findByUser and the user_id foreign key.
+CREATE INDEX idx_games_user_started ON games (user_id, started_at, won);
+
+-- Open games of a user: user_id = ? AND ended_at IS NULL ORDER BY started_at DESC
+CREATE INDEX idx_games_user_ended ON games (user_id, ended_at, started_at);
+
+-- Daily reports and archiving: started_at range, counting wins and distinct users
+-- without touching the rows.
+CREATE INDEX idx_games_started_won ON games (started_at, won, user_id);
+
+-- Guesses of a game in order; also serves the game_id foreign key.
+CREATE INDEX idx_guesses_game_number ON guesses (game_id, guess_number);
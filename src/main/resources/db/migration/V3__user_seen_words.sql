@@ -0,0 +1,9 @@
+-- Per-user seen-word bitmaps for no-repeat word selection (one row per user).
+CREATE TABLE user_seen_words (
+    user_id    BIGINT NOT NULL,
+    bitmap     LONGBLOB NOT NULL,
+    word_count INTEGER NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_seen_words_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,12 @@
+-- Per-user time zones and player-local day buckets for daily limits and reports.
+
+ALTER TABLE users ADD COLUMN time_zone VARCHAR(64) NOT NULL DEFAULT 'UTC';
+
+-- Epoch day of the game start in the player's time zone; V5 fills in existing rows.
+ALTER TABLE games ADD COLUMN day_bucket INTEGER NOT NULL DEFAULT 0;
+
+-- Daily limit and per-user reports: user_id = ? AND day_bucket = ? [AND won]
+CREATE INDEX idx_games_user_day ON games (user_id, day_bucket, won);
+
+-- Daily reports: day_bucket = ?, counting wins and distinct users from the index
+CREATE INDEX idx_games_day_won ON games (day_bucket, won, user_id);
@@ -0,0 +1,15 @@
+-- Last activity of a game (start or latest guess), for the abandoned-game sweeper.
+
+ALTER TABLE games ADD COLUMN last_activity_at DATETIME(6) NULL;
+
+UPDATE games SET last_activity_at = COALESCE(ended_at, started_at);
+
+-- Open games: the latest guess, if any
+UPDATE games SET last_activity_at = COALESCE(
+        (SELECT MAX(gu.created_at) FROM guesses gu WHERE gu.game_id = games.id), started_at)
+WHERE ended_at IS NULL;
+
+ALTER TABLE games MODIFY COLUMN last_activity_at DATETIME(6) NOT NULL;
+
+-- Sweeper: ended_at IS NULL AND last_activity_at < ? ORDER BY last_activity_at
+CREATE INDEX idx_games_open_activity ON games (ended_at, last_activity_at);
@@ -0,0 +1,12 @@
+-- Change feed for cross-node cache invalidation. Rows are read by primary key range
+-- (id > cursor) and deleted by age.
+CREATE TABLE cache_outbox (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    change_type ENUM('USER', 'GAME', 'WORD', 'SEEN_WORDS') NOT NULL,
+    entity_id   BIGINT NOT NULL,
+    origin_node VARCHAR(64) NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_cache_outbox_created ON cache_outbox (created_at);
@@ -0,0 +1,6 @@
+-- Hard mode: the hints revealed so far, kept on the game as primitives so a guess is
+-- checked without reading earlier guesses (see HardModeHints)
+ALTER TABLE games ADD COLUMN hard_mode BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE games ADD COLUMN hint_letters INT NOT NULL DEFAULT 0;
+ALTER TABLE games ADD COLUMN hint_positions INT NOT NULL DEFAULT 0;
+ALTER TABLE games ADD COLUMN hint_counts BIGINT NOT NULL DEFAULT 0;
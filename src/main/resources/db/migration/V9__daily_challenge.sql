@@ -0,0 +1,17 @@
+-- Daily challenge: one word per player-local day, chosen once on first use
+CREATE TABLE daily_words (
+    day_bucket BIGINT      NOT NULL,
+    word_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (day_bucket),
+    CONSTRAINT fk_daily_words_word FOREIGN KEY (word_id) REFERENCES words (id)
+);
+
+-- Day of the challenge for daily challenge games, NULL for all others. The unique index
+-- allows one challenge per player and day and serves the per-day result queries.
+ALTER TABLE games ADD COLUMN challenge_day INT NULL;
+CREATE UNIQUE INDEX uk_games_challenge_day_user ON games (challenge_day, user_id);
+
+-- Finished challenge games are announced to the other nodes through the cache outbox
+ALTER TABLE cache_outbox MODIFY COLUMN change_type
+    ENUM('USER', 'GAME', 'WORD', 'SEEN_WORDS', 'DAILY_RESULT') NOT NULL;
@@ -0,0 +1,73 @@
+package com.wordgame.archive;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.HardModeHints;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameArchiveTest {
+
+    private static final LocalDateTime DAY_ONE = LocalDateTime.of(2026, 3, 14, 10, 0);
+
+    @TempDir
+    Path dir;
+
+    private GameArchive open() throws IOException {
+        GameArchive archive = new GameArchive();
+        ReflectionTestUtils.setField(archive, "archiveDir", dir.toString());
+        archive.loadIndexes();
+        return archive;
+    }
+
+    private static Game game(long id, long userId, int dayOffset, boolean won) {
+        User user = new User();
+        user.setId(userId);
+        LocalDateTime started = DAY_ONE.plusDays(dayOffset).plusMinutes(id);
+        return new Game(id, user, new Word(1L, "CRANE", DAY_ONE), started,
+                (int) started.toLocalDate().toEpochDay(), started.plusMinutes(5), started.plusMinutes(5),
+                won ? 3 : 5, won, false, HardModeHints.NONE, null);
+    }
+
+    @Test
+    void findsTheNewestGamesOfAUserAcrossSegments() throws IOException {
+        GameArchive archive = open();
+        List<Game> games = new ArrayList<>();
+        long id = 1;
+        for (int day = 0; day < 4; day++) {
+            games.add(game(id++, 1, day, true));
+            games.add(game(id++, 2, day, false));
+            games.add(game(id++, 1, day, false));
+        }
+        archive.append(games, List.of());
+
+        List<Game> newest = open().findByUser(1, 3);
+
+        assertEquals(List.of(12L, 10L, 9L), newest.stream().map(Game::getId).toList());
+        assertEquals(8, archive.findByUser(1).size());
+        assertEquals(4, archive.findByUser(2, 10).size());
+    }
+
+    @Test
+    void countsAUsersGamesFromTheIndexes() throws IOException {
+        GameArchive archive = open();
+        archive.append(List.of(game(1, 1, 0, true), game(2, 1, 0, false), game(3, 2, 0, true)), List.of());
+        archive.append(List.of(game(4, 1, 1, true), game(5, 3, 1, true)), List.of());
+
+        GameArchive.UserGameCounts counts = open().countUserGames(1);
+
+        assertEquals(3, counts.played());
+        assertEquals(2, counts.won());
+        assertEquals(0, archive.countUserGames(9).played());
+    }
+}
@@ -0,0 +1,75 @@
+package com.wordgame.archive;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import com.wordgame.entity.HardModeHints;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSegmentTest {
+
+    private static final LocalDateTime STARTED = LocalDateTime.of(2026, 3, 14, 9, 26, 53);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsEveryGameColumnAndTheGuesses() throws IOException {
+        User user = new User();
+        user.setId(7L);
+        Word word = new Word(3L, "CRANE", STARTED);
+        HardModeHints hints = new HardModeHints(0x5, 0x21, 0x1234L);
+        Game challenge = new Game(10L, user, word, STARTED, 20526, STARTED.plusMinutes(4), STARTED.plusMinutes(4),
+                2, true, true, hints, 20526);
+        Game plain = new Game(11L, user, word, STARTED.plusHours(1), 20526, STARTED.plusHours(2), STARTED.plusHours(2),
+                5, false, false, HardModeHints.NONE, null);
+        List<Guess> guesses = List.of(
+                new Guess(100L, challenge, "SLATE", 1, "[0,0,2,0,1]", STARTED.plusMinutes(1)),
+                new Guess(101L, challenge, "CRANE", 2, "[2,2,2,2,2]", STARTED.plusMinutes(4)));
+        Path file = dir.resolve("games.seg");
+
+        GameSegment.write(file, List.of(challenge, plain), guesses);
+        GameSegment segment = GameSegment.read(file);
+
+        Game read = segment.game(10L);
+        assertEquals(7L, read.getUser().getId());
+        assertEquals(3L, read.getWord().getId());
+        assertEquals("CRANE", read.getWord().getWord());
+        assertEquals(STARTED, read.getStartedAt());
+        assertEquals(20526, read.getDayBucket());
+        assertEquals(STARTED.plusMinutes(4), read.getEndedAt());
+        assertEquals(2, read.getAttempts());
+        assertTrue(read.isWon());
+        assertTrue(read.isHardMode());
+        assertEquals(hints.getLetters(), read.getHints().getLetters());
+        assertEquals(hints.getPositions(), read.getHints().getPositions());
+        assertEquals(hints.getCounts(), read.getHints().getCounts());
+        assertEquals(20526, read.getChallengeDay());
+
+        Game other = segment.game(11L);
+        assertFalse(other.isHardMode());
+        assertFalse(other.isWon());
+        assertEquals(0L, other.getHints().getCounts());
+        assertNull(other.getChallengeDay());
+
+        List<Guess> readGuesses = segment.guesses(10L);
+        assertEquals(2, readGuesses.size());
+        assertEquals("SLATE", readGuesses.get(0).getGuessWord());
+        assertEquals(1, readGuesses.get(0).getGuessNumber());
+        assertEquals("[2,2,2,2,2]", readGuesses.get(1).getEvaluation());
+        assertEquals(STARTED.plusMinutes(4), readGuesses.get(1).getCreatedAt());
+        assertTrue(segment.guesses(11L).isEmpty());
+    }
+}
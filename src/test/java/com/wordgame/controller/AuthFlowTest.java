@@ -0,0 +1,65 @@
+package com.wordgame.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.service.WordCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The real authentication path, without mock users: register, log in, and start a game
+ * with the issued JWT. Every step resolves the user through {@code findByUsername}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class AuthFlowTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private WordCatalog wordCatalog;
+
+    @Test
+    void registerLoginAndStartGame() throws Exception {
+        if (wordRepository.findByWord("SHINE").isEmpty()) {
+            wordRepository.save(new Word(null, "SHINE", LocalDateTime.now()));
+        }
+        wordCatalog.refresh();
+        String credentials = objectMapper.writeValueAsString(
+                Map.of("username", "flowplayer", "password", "secret1$word"));
+
+        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(body).get("token").asText();
+
+        mockMvc.perform(post("/api/games/start").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").exists());
+    }
+}
@@ -0,0 +1,39 @@
+package com.wordgame.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@WithMockUser(username = "exportadmin", roles = "ADMIN")
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rejectsAnUnknownDatasetWithTheAllowedValues() throws Exception {
+        mockMvc.perform(get("/api/admin/export/scores").param("from", "2026-01-01").param("to", "2026-01-31"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.error").value("Unknown dataset 'scores', expected one of: games, guesses, users"));
+    }
+
+    @Test
+    void rejectsAnUnknownFormatWithTheAllowedValues() throws Exception {
+        mockMvc.perform(get("/api/admin/export/games").param("from", "2026-01-01").param("to", "2026-01-31")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown format 'xml', expected one of: csv, ndjson"));
+    }
+}
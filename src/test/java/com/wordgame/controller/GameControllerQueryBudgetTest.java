@@ -0,0 +1,100 @@
+package com.wordgame.controller;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.GameRepository;
+import com.wordgame.repository.GuessRepository;
+import com.wordgame.repository.UserRepository;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.sqlstats.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-endpoint SQL budgets for the game API. The budgets do not depend on how many games
+ * a player has, so an N+1 regression (one query per game or guess) fails here.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@WithMockUser(username = "budgetplayer")
+class GameControllerQueryBudgetTest {
+
+    private static final int GAMES = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Test
+    void gameEndpointsStayWithinQueryBudgets() throws Exception {
+        Long gameId = createFinishedGames();
+
+        QueryBudget.assertAtMost(3, "GET /api/games/history",
+                () -> mockMvc.perform(get("/api/games/history")).andExpect(status().isOk()));
+        QueryBudget.assertAtMost(3, "GET /api/games/{gameId}",
+                () -> mockMvc.perform(get("/api/games/" + gameId)).andExpect(status().isOk()));
+        QueryBudget.assertAtMost(2, "GET /api/games/{gameId}/guesses",
+                () -> mockMvc.perform(get("/api/games/" + gameId + "/guesses")).andExpect(status().isOk()));
+        QueryBudget.assertAtMost(2, "GET /api/games/status",
+                () -> mockMvc.perform(get("/api/games/status")).andExpect(status().isOk()));
+        QueryBudget.assertAtMost(5, "GET /api/games/bootstrap",
+                () -> mockMvc.perform(get("/api/games/bootstrap")).andExpect(status().isOk()));
+    }
+
+    private Long createFinishedGames() {
+        User user = new User();
+        user.setUsername("budgetplayer");
+        user.setPasswordHash("unused");
+        user = userRepository.save(user);
+
+        Word word = new Word();
+        word.setWord("CRANE");
+        word = wordRepository.save(word);
+
+        Long lastGameId = null;
+        for (int i = 0; i < GAMES; i++) {
+            Game game = new Game();
+            game.setUser(user);
+            game.setWord(word);
+            game.setStartedAt(LocalDateTime.now().minusDays(i + 1));
+            game.setEndedAt(game.getStartedAt().plusMinutes(5));
+            game.setAttempts(2);
+            game.setWon(true);
+            game = gameRepository.save(game);
+            for (int n = 1; n <= 2; n++) {
+                Guess guess = new Guess();
+                guess.setGame(game);
+                guess.setGuessWord(n == 2 ? "CRANE" : "SLATE");
+                guess.setGuessNumber(n);
+                guess.setEvaluation("[]");
+                guessRepository.save(guess);
+            }
+            lastGameId = game.getId();
+        }
+        return lastGameId;
+    }
+}
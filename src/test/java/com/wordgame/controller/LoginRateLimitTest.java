@@ -0,0 +1,80 @@
+package com.wordgame.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Another client hammering a username with wrong passwords runs out of its own budget
+ * but cannot lock the real player out.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class LoginRateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void realUserCanLogInWhileAnotherClientHammersTheUsername() throws Exception {
+        String credentials = json("lockoutvictim", "right$pass1");
+        mockMvc.perform(from("10.0.31.1", post("/api/auth/register"), credentials))
+                .andExpect(status().isOk());
+
+        String wrong = json("lockoutvictim", "wrong$pass1");
+        int limited = 0;
+        for (int i = 0; i < 8; i++) {
+            int status = mockMvc.perform(from("10.0.31.2", post("/api/auth/login"), wrong))
+                    .andReturn().getResponse().getStatus();
+            if (status == 429) {
+                limited++;
+            }
+        }
+        // ratelimit.login-user.capacity=5: the attacker's later attempts are rejected
+        assertEquals(3, limited);
+
+        mockMvc.perform(from("10.0.31.3", post("/api/auth/login"), credentials))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void successfulLoginsDoNotUseUpTheBudget() throws Exception {
+        String credentials = json("frequentlogin", "right$pass1");
+        mockMvc.perform(from("10.0.31.4", post("/api/auth/register"), credentials))
+                .andExpect(status().isOk());
+
+        // More than login-user.capacity (5), fewer than the per-IP login.capacity (10)
+        for (int i = 0; i < 8; i++) {
+            mockMvc.perform(from("10.0.31.5", post("/api/auth/login"), credentials))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private String json(String username, String password) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+    }
+
+    private static MockHttpServletRequestBuilder from(String ip, MockHttpServletRequestBuilder builder, String body) {
+        return builder.contentType(MediaType.APPLICATION_JSON).content(body)
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                });
+    }
+}
@@ -0,0 +1,69 @@
+package com.wordgame.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.service.WordCatalog;
+import com.wordgame.sqlstats.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Practice games must never reach the database: once the word catalog is loaded,
+ * starting, guessing and reading a practice game run no SQL at all.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@WithMockUser(username = "practiceplayer")
+class PracticeControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private WordCatalog wordCatalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void practiceGamesRunWithoutQueries() throws Exception {
+        if (wordRepository.findByWord("PLANT").isEmpty()) {
+            Word word = new Word();
+            word.setWord("PLANT");
+            wordRepository.save(word);
+        }
+        wordCatalog.refresh();
+
+        long[] gameId = new long[1];
+        QueryBudget.assertAtMost(0, "POST /api/practice/start", () -> {
+            String body = mockMvc.perform(post("/api/practice/start"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode json = objectMapper.readTree(body);
+            gameId[0] = json.get("gameId").asLong();
+        });
+        QueryBudget.assertAtMost(0, "POST /api/practice/{gameId}/guess",
+                () -> mockMvc.perform(post("/api/practice/" + gameId[0] + "/guess")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"guess\":\"SLATE\"}"))
+                        .andExpect(status().isOk()));
+        QueryBudget.assertAtMost(0, "GET /api/practice/{gameId}",
+                () -> mockMvc.perform(get("/api/practice/" + gameId[0])).andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.wordgame.controller;
+
+import com.wordgame.entity.Role;
+import com.wordgame.entity.User;
+import com.wordgame.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A player cannot hop time zones to move their day boundary, and with it the daily limit,
+ * more than once a day.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@WithMockUser(username = "zonehopper")
+class TimeZoneChangeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void allowsOneChangePerDay() throws Exception {
+        User user = userRepository.findByUsername("zonehopper").orElseGet(() -> userRepository.save(
+                new User(null, "zonehopper", "hash", Role.PLAYER, LocalDateTime.now(), "UTC")));
+
+        mockMvc.perform(setZone("Pacific/Kiritimati"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.timeZone").value("Pacific/Kiritimati"));
+        // Same zone again: not a change
+        mockMvc.perform(setZone("Pacific/Kiritimati"))
+                .andExpect(status().isOk());
+        mockMvc.perform(setZone("Pacific/Pago_Pago"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("TIME_ZONE_CHANGED_RECENTLY"));
+
+        // A day later the zone can change again
+        User changed = userRepository.findById(user.getId()).orElseThrow();
+        changed.setTimeZoneChangedAt(LocalDateTime.now().minusHours(25));
+        userRepository.save(changed);
+        mockMvc.perform(setZone("Pacific/Pago_Pago"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.timeZone").value("Pacific/Pago_Pago"));
+    }
+
+    private static MockHttpServletRequestBuilder setZone(String zone) {
+        return put("/api/users/me/time-zone").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"timeZone\":\"" + zone + "\"}");
+    }
+}
@@ -0,0 +1,164 @@
+package com.wordgame.daily;
+
+import com.wordgame.entity.ChangeType;
+import com.wordgame.entity.Game;
+import com.wordgame.entity.Guess;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import com.wordgame.outbox.ChangeOutbox;
+import com.wordgame.repository.GameRepository;
+import com.wordgame.repository.GuessRepository;
+import com.wordgame.repository.UserRepository;
+import com.wordgame.repository.WordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class DailyResultsTest {
+
+    // Each test plays its own day, far from any real one
+    private static final AtomicInteger DAYS = new AtomicInteger(80_000);
+    private static final AtomicInteger PLAYERS = new AtomicInteger();
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    private int day;
+    private Word word;
+
+    @BeforeEach
+    void newDay() {
+        day = DAYS.incrementAndGet();
+        word = wordRepository.findByWord("DAILY")
+                .orElseGet(() -> wordRepository.save(new Word(null, "DAILY", LocalDateTime.now())));
+    }
+
+    private DailyResults dailyResults(int maxFirstGuesses, long publishIntervalMs) {
+        return new DailyResults(gameRepository, guessRepository, changeOutbox, 7, maxFirstGuesses, publishIntervalMs);
+    }
+
+    @Test
+    void seedsADayAndAddsGamesEndedAfterwards() {
+        play(2, true, "CRANE");
+        play(4, true, "SLATE");
+        play(5, false, "CRANE");
+        DailyResults results = dailyResults(100, 0);
+
+        Map<String, Object> seeded = results.results(day);
+
+        assertEquals(3L, seeded.get("players"));
+        assertEquals(2L, seeded.get("solved"));
+        assertEquals(Map.of("1", 0L, "2", 1L, "3", 0L, "4", 1L, "5", 0L, "failed", 1L), seeded.get("distribution"));
+        assertEquals(List.of(Map.of("guess", "CRANE", "count", 2L), Map.of("guess", "SLATE", "count", 1L)),
+                seeded.get("topFirstGuesses"));
+
+        // Ended on another node: arrives through the outbox
+        results.onChanges(ChangeType.DAILY_RESULT, Set.of(play(1, true, "SLATE")));
+        Map<String, Object> updated = results.results(day);
+
+        assertEquals(4L, updated.get("players"));
+        assertEquals(3L, updated.get("solved"));
+        assertEquals(0.75, updated.get("solveRate"));
+        assertEquals(1L, ((Map<?, ?>) updated.get("distribution")).get("1"));
+        assertEquals(List.of(Map.of("guess", "CRANE", "count", 2L), Map.of("guess", "SLATE", "count", 2L)),
+                updated.get("topFirstGuesses"));
+    }
+
+    @Test
+    void gamesOfADayNotLoadedYetAreCountedOnceBySeeding() {
+        DailyResults results = dailyResults(100, 0);
+        long gameId = play(3, true, "CRANE");
+
+        results.onChanges(ChangeType.DAILY_RESULT, Set.of(gameId));
+
+        assertEquals(1L, results.results(day).get("players"));
+    }
+
+    @Test
+    void republishesChangedResultsAtMostOncePerInterval() throws InterruptedException {
+        play(2, true, "CRANE");
+        DailyResults results = dailyResults(100, 1000);
+        Map<String, Object> first = results.results(day);
+
+        results.onChanges(ChangeType.DAILY_RESULT, Set.of(play(3, true, "SLATE")));
+
+        assertSame(first, results.results(day));
+        Thread.sleep(1100);
+        Map<String, Object> republished = results.results(day);
+        assertNotSame(first, republished);
+        assertEquals(2L, republished.get("players"));
+        Thread.sleep(1100);
+        // Nothing changed since: the same body, however long ago it was built
+        assertSame(republished, results.results(day));
+    }
+
+    @Test
+    void tracksAtMostTheConfiguredNumberOfFirstGuesses() {
+        play(2, true, "CRANE");
+        play(3, true, "CRANE");
+        play(4, true, "SLATE");
+        DailyResults results = dailyResults(2, 0);
+        results.results(day);
+
+        results.onChanges(ChangeType.DAILY_RESULT, Set.of(play(5, false, "AUDIO"), play(2, true, "SLATE")));
+        Map<String, Object> full = results.results(day);
+
+        // Every game still counts, but a first guess nobody used before is not tracked
+        assertEquals(5L, full.get("players"));
+        assertEquals(List.of(Map.of("guess", "CRANE", "count", 2L), Map.of("guess", "SLATE", "count", 2L)),
+                full.get("topFirstGuesses"));
+    }
+
+    // An ended challenge game of a new player, with its first guess
+    private long play(int attempts, boolean won, String firstGuess) {
+        User user = new User();
+        user.setUsername("daily" + PLAYERS.incrementAndGet());
+        user.setPasswordHash("unused");
+        user = userRepository.save(user);
+
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(word);
+        game.setStartedAt(LocalDateTime.now().minusMinutes(10));
+        game.setEndedAt(LocalDateTime.now());
+        game.setDayBucket(day);
+        game.setChallengeDay(day);
+        game.setAttempts(attempts);
+        game.setWon(won);
+        game = gameRepository.save(game);
+
+        Guess guess = new Guess();
+        guess.setGame(game);
+        guess.setGuessWord(firstGuess);
+        guess.setGuessNumber(1);
+        guess.setEvaluation("[]");
+        guessRepository.save(guess);
+        return game.getId();
+    }
+}
@@ -0,0 +1,82 @@
+package com.wordgame.daily;
+
+import com.wordgame.entity.DailyWord;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.DailyWordRepository;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.service.WordCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class DailyWordsTest {
+
+    // Far from any real day, so no other test stores a word for it
+    private static final int DAY = 90_001;
+
+    @Autowired
+    private DailyWordRepository dailyWordRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private WordCatalog wordCatalog;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void keepsTheWordOfTheNodeThatStoredTheDayFirst() {
+        if (wordRepository.findByWord("GLYPH").isEmpty()) {
+            wordRepository.save(new Word(null, "GLYPH", LocalDateTime.now()));
+        }
+        wordCatalog.refresh();
+        // Not in this node's catalog, so this node would never choose it
+        Word theirs = wordRepository.save(new Word(null, "RACED", LocalDateTime.now()));
+        AtomicBoolean raced = new AtomicBoolean();
+        DailyWords dailyWords = new DailyWords(
+                storingTheirWordFirst(theirs.getId(), raced), wordRepository, wordCatalog, transactionManager, 7319);
+        TransactionTemplate callerTransaction = new TransactionTemplate(transactionManager);
+
+        Word word = callerTransaction.execute(status -> dailyWords.wordFor(DAY));
+
+        assertTrue(raced.get());
+        assertEquals(theirs.getId(), word.getId());
+        assertEquals(theirs.getId(), dailyWordRepository.findById((long) DAY).orElseThrow().getWordId());
+    }
+
+    // The real repository, except that the first lookup misses while another node stores the day
+    private DailyWordRepository storingTheirWordFirst(long wordId, AtomicBoolean raced) {
+        TransactionTemplate otherNode = new TransactionTemplate(transactionManager);
+        otherNode.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return (DailyWordRepository) Proxy.newProxyInstance(DailyWordRepository.class.getClassLoader(),
+                new Class<?>[]{DailyWordRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findById") && raced.compareAndSet(false, true)) {
+                        otherNode.executeWithoutResult(status ->
+                                dailyWordRepository.save(new DailyWord((long) DAY, wordId, LocalDateTime.now())));
+                        return Optional.empty();
+                    }
+                    try {
+                        return method.invoke(dailyWordRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,126 @@
+package com.wordgame.embedded;
+
+import com.wordgame.entity.Game;
+import com.wordgame.entity.HardModeHints;
+import com.wordgame.entity.Role;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Entities saved through the embedded repositories read back the same, before and
+ * after the store is reopened.
+ */
+class EmbeddedRepositoryTest {
+
+    private static final LocalDateTime STARTED = LocalDateTime.of(2026, 3, 14, 9, 26, 53);
+
+    @TempDir
+    Path dir;
+
+    private final List<EmbeddedStore> opened = new ArrayList<>();
+
+    private EmbeddedUserRepository users;
+    private EmbeddedWordRepository words;
+    private EmbeddedGameRepository games;
+
+    @AfterEach
+    void closeStores() throws IOException {
+        for (EmbeddedStore store : opened) {
+            store.close();
+        }
+    }
+
+    private void openRepositories() throws IOException {
+        EmbeddedStore store = new EmbeddedStore();
+        ReflectionTestUtils.setField(store, "dataDir", dir.toString());
+        store.open();
+        opened.add(store);
+        users = new EmbeddedUserRepository(store);
+        words = new EmbeddedWordRepository(store);
+        games = new EmbeddedGameRepository(store, users, words);
+    }
+
+    @Test
+    void roundTripsUsersWordsAndGamesAcrossARestart() throws IOException {
+        openRepositories();
+        User user = users.save(new User(null, "roundtrip", "hash", Role.PLAYER, STARTED, "Europe/Berlin"));
+        Word word = words.save(new Word(null, "crane", STARTED));
+        HardModeHints hints = new HardModeHints(0x5, 0x21, 0x1234L);
+        Game game = games.save(new Game(null, user, word, STARTED, 20526, null, STARTED.plusMinutes(2),
+                2, false, true, hints, 20526));
+
+        assertGame(games.findById(game.getId()).orElseThrow(), user, word, hints);
+
+        openRepositories();
+
+        User reloadedUser = users.findByUsername("roundtrip").orElseThrow();
+        assertEquals(user.getId(), reloadedUser.getId());
+        assertEquals("hash", reloadedUser.getPasswordHash());
+        assertEquals(Role.PLAYER, reloadedUser.getRole());
+        assertEquals("Europe/Berlin", reloadedUser.getTimeZone());
+        assertEquals(word.getId(), words.findByWord("crane").orElseThrow().getId());
+        assertGame(games.findById(game.getId()).orElseThrow(), user, word, hints);
+        assertTrue(games.existsByUserIdAndChallengeDay(user.getId(), 20526));
+        assertEquals(1, games.findByUserIdAndEndedAtIsNullOrderByStartedAtDesc(user.getId()).size());
+    }
+
+    @Test
+    void rejectsADuplicateUsername() throws IOException {
+        openRepositories();
+        users.save(new User(null, "taken", "hash", Role.PLAYER, STARTED, "UTC"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> users.save(new User(null, "taken", "other", Role.PLAYER, STARTED, "UTC")));
+        assertEquals(1, users.findAll().size());
+    }
+
+    @Test
+    void deletedGamesStayDeletedAfterARestart() throws IOException {
+        openRepositories();
+        User user = users.save(new User(null, "archived", "hash", Role.PLAYER, STARTED, "UTC"));
+        Word word = words.save(new Word(null, "slate", STARTED));
+        Game kept = games.save(new Game(null, user, word, STARTED, 20526, STARTED.plusMinutes(3), STARTED.plusMinutes(3),
+                4, true, false, new HardModeHints(0, 0, 0), null));
+        Game deleted = games.save(new Game(null, user, word, STARTED.plusDays(1), 20527, null, STARTED.plusDays(1),
+                0, false, false, new HardModeHints(0, 0, 0), null));
+
+        games.deleteAllByIdInBatch(List.of(deleted.getId()));
+        openRepositories();
+
+        assertTrue(games.findById(kept.getId()).isPresent());
+        assertFalse(games.findById(deleted.getId()).isPresent());
+        assertEquals(1, games.findByUserIdOrderByStartedAtDesc(user.getId()).size());
+    }
+
+    private static void assertGame(Game game, User user, Word word, HardModeHints hints) {
+        assertEquals(user.getId(), game.getUser().getId());
+        assertEquals("crane", game.getWord().getWord());
+        assertEquals(word.getId(), game.getWord().getId());
+        assertEquals(STARTED, game.getStartedAt());
+        assertEquals(20526, game.getDayBucket());
+        assertEquals(STARTED.plusMinutes(2), game.getLastActivityAt());
+        assertEquals(2, game.getAttempts());
+        assertFalse(game.isWon());
+        assertTrue(game.isHardMode());
+        assertEquals(hints.getLetters(), game.getHints().getLetters());
+        assertEquals(hints.getPositions(), game.getHints().getPositions());
+        assertEquals(hints.getCounts(), game.getHints().getCounts());
+        assertEquals(20526, game.getChallengeDay());
+    }
+}
@@ -0,0 +1,212 @@
+package com.wordgame.embedded;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddedStoreTest {
+
+    record ItemRow(long id, String name, int count) {
+    }
+
+    @TempDir
+    Path dir;
+
+    private final List<EmbeddedStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() throws IOException {
+        for (EmbeddedStore store : opened) {
+            store.close();
+        }
+    }
+
+    // A new store over the same directory, as after a restart or a crash
+    private EmbeddedStore open() throws IOException {
+        EmbeddedStore store = new EmbeddedStore();
+        ReflectionTestUtils.setField(store, "dataDir", dir.toString());
+        store.open();
+        opened.add(store);
+        return store;
+    }
+
+    private static EmbeddedTable<ItemRow> items(EmbeddedStore store) {
+        return store.table("items", ItemRow.class, ItemRow::id);
+    }
+
+    private DataOutputStream appendToLog() throws IOException {
+        return new DataOutputStream(new FileOutputStream(dir.resolve("wal.log").toFile(), true));
+    }
+
+    @Test
+    void replaysTheLogAndIgnoresATornTail() throws IOException {
+        EmbeddedTable<ItemRow> items = items(open());
+        items.put(new ItemRow(1, "one", 1));
+        items.put(new ItemRow(2, "two", 2));
+        items.put(new ItemRow(3, "three", 3));
+        items.put(new ItemRow(1, "one", 10));
+        items.delete(2);
+        // A record cut short by a crash: op and table name, but no id or fields
+        try (DataOutputStream out = appendToLog()) {
+            out.writeByte(1);
+            out.writeUTF("items");
+            out.writeInt(7);
+        }
+
+        EmbeddedTable<ItemRow> recovered = items(open());
+
+        assertEquals(new ItemRow(1, "one", 10), recovered.get(1));
+        assertNull(recovered.get(2));
+        assertEquals(new ItemRow(3, "three", 3), recovered.get(3));
+        assertEquals(2, recovered.size());
+        assertEquals(4, recovered.nextId());
+    }
+
+    @Test
+    void recoversFromASnapshotPlusTheLogWrittenAfterIt() throws IOException {
+        EmbeddedStore store = open();
+        EmbeddedTable<ItemRow> items = items(store);
+        items.put(new ItemRow(1, "one", 1));
+        items.put(new ItemRow(2, "two", 2));
+        store.snapshot();
+        items.put(new ItemRow(2, "two", 20));
+        items.put(new ItemRow(3, "three", 3));
+        items.delete(1);
+
+        EmbeddedTable<ItemRow> recovered = items(open());
+
+        assertNull(recovered.get(1));
+        assertEquals(new ItemRow(2, "two", 20), recovered.get(2));
+        assertEquals(new ItemRow(3, "three", 3), recovered.get(3));
+        assertEquals(2, recovered.size());
+    }
+
+    @Test
+    void replayDropsATornTransactionBatch() throws IOException {
+        EmbeddedStore store = open();
+        EmbeddedTable<ItemRow> items = items(store);
+        TransactionTemplate transactions = new TransactionTemplate(new EmbeddedTransactionManager(store));
+        transactions.executeWithoutResult(status -> {
+            items.put(new ItemRow(1, "one", 1));
+            items.put(new ItemRow(2, "two", 2));
+        });
+        // A batch of two whose second record never reached the disk
+        try (DataOutputStream out = appendToLog()) {
+            out.writeByte(3);
+            out.writeInt(2);
+            out.writeByte(1);
+            out.writeUTF("items");
+            out.writeLong(3);
+            RowCodec.write(out, new ItemRow(3, "three", 3));
+        }
+
+        EmbeddedTable<ItemRow> recovered = items(open());
+
+        assertEquals(new ItemRow(1, "one", 1), recovered.get(1));
+        assertEquals(new ItemRow(2, "two", 2), recovered.get(2));
+        assertNull(recovered.get(3));
+    }
+
+    @Test
+    void transactionWritesAreVisibleOnlyToTheirThreadUntilCommit() throws Exception {
+        EmbeddedStore store = open();
+        EmbeddedTable<ItemRow> items = items(store);
+        EmbeddedTable<ItemRow>.Index<String> byName = items.index(ItemRow::name);
+        TransactionTemplate transactions = new TransactionTemplate(new EmbeddedTransactionManager(store));
+
+        transactions.executeWithoutResult(status -> {
+            items.put(new ItemRow(1, "one", 1));
+            assertEquals(new ItemRow(1, "one", 1), items.get(1));
+            assertEquals(1, byName.rows("one").size());
+            assertEquals(1, items.all().size());
+            assertNull(CompletableFuture.supplyAsync(() -> items.get(1)).join());
+        });
+
+        assertEquals(new ItemRow(1, "one", 1), items.get(1));
+        assertEquals(1, byName.ids("one").size());
+    }
+
+    @Test
+    void rollbackLeavesNoPartialState() throws IOException {
+        EmbeddedStore store = open();
+        EmbeddedTable<ItemRow> items = items(store);
+        items.put(new ItemRow(1, "one", 1));
+        TransactionTemplate transactions = new TransactionTemplate(new EmbeddedTransactionManager(store));
+
+        assertThrows(IllegalStateException.class, () -> transactions.executeWithoutResult(status -> {
+            items.put(new ItemRow(1, "one", 100));
+            items.put(new ItemRow(2, "two", 2));
+            throw new IllegalStateException("fails after its first writes");
+        }));
+
+        assertEquals(new ItemRow(1, "one", 1), items.get(1));
+        assertNull(items.get(2));
+        EmbeddedTable<ItemRow> recovered = items(open());
+        assertEquals(new ItemRow(1, "one", 1), recovered.get(1));
+        assertNull(recovered.get(2));
+    }
+
+    @Test
+    void uniqueKeyTakenByAnotherCommitFailsTheLaterCommit() throws IOException {
+        EmbeddedStore store = open();
+        EmbeddedTable<ItemRow> items = items(store);
+        EmbeddedTable<ItemRow>.Index<String> byName = items.index(ItemRow::name);
+
+        EmbeddedTransaction first = new EmbeddedTransaction();
+        store.bind(first);
+        assertTrue(items.putIfUnique(new ItemRow(1, "taken", 1), byName));
+        store.bind(null);
+        // Another writer stores the same name while the first transaction is open
+        assertTrue(items.putIfUnique(new ItemRow(2, "taken", 2), byName));
+        assertFalse(items.putIfUnique(new ItemRow(3, "taken", 3), byName));
+
+        store.bind(first);
+        try {
+            assertThrows(DataIntegrityViolationException.class, () -> store.commit(first));
+        } finally {
+            store.bind(null);
+        }
+        assertNull(items.get(1));
+        assertEquals(1, byName.ids("taken").size());
+    }
+
+    @Test
+    void compareAndSetFailsTheCommitWhenTheRowChangedMeanwhile() throws IOException {
+        EmbeddedStore store = open();
+        EmbeddedTable<ItemRow> items = items(store);
+        ItemRow original = new ItemRow(1, "one", 1);
+        items.put(original);
+
+        EmbeddedTransaction first = new EmbeddedTransaction();
+        store.bind(first);
+        assertTrue(items.putIfUnchanged(original, new ItemRow(1, "one", 2)));
+        store.bind(null);
+        assertTrue(items.putIfUnchanged(original, new ItemRow(1, "one", 3)));
+
+        store.bind(first);
+        try {
+            assertThrows(OptimisticLockingFailureException.class, () -> store.commit(first));
+        } finally {
+            store.bind(null);
+        }
+        assertEquals(3, items.get(1).count());
+    }
+}
@@ -0,0 +1,79 @@
+package com.wordgame.entity;
+
+import com.wordgame.service.GuessEvaluator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HardModeHintsTest {
+
+    private static final int E = 'E' - 'A';
+    private static final int F = 'F' - 'A';
+
+    private static HardModeHints after(HardModeHints hints, String guess, String target) {
+        return hints.after(guess, GuessEvaluator.colors(guess, target));
+    }
+
+    private static int count(HardModeHints hints, int letter) {
+        return (int) (hints.getCounts() >>> (letter * 2)) & 3;
+    }
+
+    @Test
+    void greensStayFixedInPlace() {
+        HardModeHints hints = after(HardModeHints.NONE, "CRISP", "CRANE");
+
+        assertTrue(hints.allows("CRUST"));
+        assertTrue(hints.allows("CRANE"));
+        assertFalse(hints.allows("RCANE"));
+        assertFalse(hints.allows("TRACE"));
+        assertFalse(hints.allows("CRAN"));
+    }
+
+    @Test
+    void orangesMustBeReusedAnywhere() {
+        HardModeHints hints = after(HardModeHints.NONE, "NOISY", "CRANE");
+
+        assertTrue(hints.allows("NERDY"));
+        assertTrue(hints.allows("UNTIL"));
+        assertFalse(hints.allows("TRUMP"));
+        // Still required after a guess that says nothing about it
+        hints = after(hints, "TULIP", "CRANE");
+        assertFalse(hints.allows("CRATE"));
+        assertTrue(hints.allows("CRANE"));
+    }
+
+    @Test
+    void onlyGreensProveASecondCopyOfALetter() {
+        // One green and two oranges for E: the oranges may all point at the same copy
+        HardModeHints hints = after(HardModeHints.NONE, "EERIE", "LEVEL");
+
+        assertEquals(1, count(hints, E));
+        assertTrue(hints.allows("BEAST"));
+
+        hints = after(hints, "LEVER", "LEVEL");
+
+        assertEquals(2, count(hints, E));
+        assertTrue(hints.allows("LEVEL"));
+        assertFalse(hints.allows("LEVIS"));
+
+        HardModeHints twoEs = new HardModeHints(1 << E, 0, 2L << (E * 2));
+        assertFalse(twoEs.allows("BEAST"));
+        assertTrue(twoEs.allows("GEESE"));
+    }
+
+    @Test
+    void countsSaturateAtThree() {
+        HardModeHints hints = after(HardModeHints.NONE, "EEEEE", "EEEEE");
+
+        assertEquals(3, count(hints, E));
+        assertEquals(0, count(hints, F));
+        assertTrue(hints.allows("EEEEE"));
+
+        HardModeHints threeEs = new HardModeHints(1 << E, 0, 3L << (E * 2));
+        assertTrue(threeEs.allows("EEEXX"));
+        assertTrue(threeEs.allows("EEEEE"));
+        assertFalse(threeEs.allows("EEXXX"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.wordgame.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void domainExceptionsKeepTheirStatusAndMessage() {
+        ResponseEntity<?> response = handler.handleDomainException(new InvalidRequestException("limit must be at least 1"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "limit must be at least 1", "code", "BAD_REQUEST"), response.getBody());
+    }
+
+    @Test
+    void unexpectedExceptionsAreA500WithoutTheirMessage() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/games/start");
+
+        ResponseEntity<?> response = handler.handleRuntimeException(
+                new IllegalStateException("jdbc:mysql://db-primary:3306 refused the connection"), request);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals(Map.of("error", "Internal server error", "code", "INTERNAL_ERROR"), response.getBody());
+    }
+}
@@ -0,0 +1,114 @@
+package com.wordgame.idempotency;
+
+import com.wordgame.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotentResponsesTest {
+
+    private static final String FINGERPRINT = "POST /api/games/1/guess CRANE";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotentResponses responses = new IdempotentResponses(meterRegistry, 100, 10, 10_000);
+
+    @Test
+    void concurrentDuplicatesRunTheRequestOnce() throws Exception {
+        int duplicates = 4;
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+        try {
+            List<CompletableFuture<ResponseEntity<?>>> calls = new ArrayList<>();
+            for (int i = 0; i < duplicates; i++) {
+                calls.add(CompletableFuture.supplyAsync(() -> responses.execute("alice", "key-1", FINGERPRINT, () -> {
+                    runs.incrementAndGet();
+                    running.countDown();
+                    await(release);
+                    return ResponseEntity.ok("guessed");
+                }), executor));
+            }
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+            release.countDown();
+
+            int replays = 0;
+            for (CompletableFuture<ResponseEntity<?>> call : calls) {
+                ResponseEntity<?> response = call.get(10, TimeUnit.SECONDS);
+                assertEquals("guessed", response.getBody());
+                if ("true".equals(response.getHeaders().getFirst(IdempotentResponses.REPLAYED_HEADER))) {
+                    replays++;
+                }
+            }
+            assertEquals(1, runs.get());
+            assertEquals(duplicates - 1, replays);
+            assertEquals(duplicates - 1, meterRegistry.get("idempotency.replayed").counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentRequest() {
+        responses.execute("alice", "key-1", FINGERPRINT, () -> ResponseEntity.ok("guessed"));
+
+        InvalidRequestException e = assertThrows(InvalidRequestException.class,
+                () -> responses.execute("alice", "key-1", "POST /api/games/1/guess SLATE",
+                        () -> ResponseEntity.ok("other")));
+
+        assertSame(InvalidRequestException.IDEMPOTENCY_KEY_REUSED, e);
+        // Keys are per user
+        ResponseEntity<?> other = responses.execute("bob", "key-1", "POST /api/games/2/guess SLATE",
+                () -> ResponseEntity.ok("bob's"));
+        assertEquals("bob's", other.getBody());
+    }
+
+    @Test
+    void aFailedFirstAttemptCanBeRetried() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> responses.execute("alice", "key-1", FINGERPRINT, () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("database down");
+        }));
+        ResponseEntity<?> retried = responses.execute("alice", "key-1", FINGERPRINT, () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.ok("guessed");
+        });
+
+        assertEquals(2, runs.get());
+        assertEquals("guessed", retried.getBody());
+        assertNull(retried.getHeaders().getFirst(IdempotentResponses.REPLAYED_HEADER));
+    }
+
+    @Test
+    void rejectsBlankAndOverlongKeys() {
+        assertThrows(InvalidRequestException.class,
+                () -> responses.execute("alice", " ", FINGERPRINT, () -> ResponseEntity.ok("guessed")));
+        assertThrows(InvalidRequestException.class,
+                () -> responses.execute("alice", "k".repeat(256), FINGERPRINT, () -> ResponseEntity.ok("guessed")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.wordgame.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalReplayerTest {
+
+    // 2026-03-14T23:30Z: already 2026-03-15 for a player in UTC+1
+    private static final long LATE_EVENING_UTC = 1773531000000L;
+    private static final int NEXT_DAY = (int) LocalDate.of(2026, 3, 15).toEpochDay();
+
+    @TempDir
+    Path dir;
+
+    private GameJournal openJournal() throws IOException {
+        GameJournal journal = new GameJournal(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "journalDir", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentSizeMb", 1);
+        ReflectionTestUtils.setField(journal, "fsyncBatch", 1);
+        journal.open();
+        return journal;
+    }
+
+    private static byte[] record(GameEvent event) {
+        ByteBuffer body = ByteBuffer.allocate(256);
+        event.encode(body);
+        body.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        ByteBuffer record = ByteBuffer.allocate(JournalReader.HEADER_BYTES + body.remaining());
+        record.putInt(body.remaining());
+        record.putInt((int) crc.getValue());
+        record.put(body);
+        return record.array();
+    }
+
+    private static ByteBuffer journal(byte[]... records) {
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        for (byte[] record : records) {
+            buf.put(record);
+        }
+        return buf.flip();
+    }
+
+    private static List<GameEvent> scan(ByteBuffer buf) {
+        List<GameEvent> events = new ArrayList<>();
+        JournalReader.scan(buf, events::add);
+        return events;
+    }
+
+    @Test
+    void stopsAtARecordWhoseChecksumDoesNotMatch() {
+        byte[] first = record(GameEvent.gameStarted(LATE_EVENING_UTC, 1, 7, 3, NEXT_DAY));
+        byte[] corrupt = record(GameEvent.guessEvaluated(LATE_EVENING_UTC, 1, 1, "CRANE", "[2,2,2,2,2]"));
+        corrupt[corrupt.length - 2] ^= 1;
+        byte[] after = record(GameEvent.gameEnded(LATE_EVENING_UTC, 1, true, 1));
+        ByteBuffer buf = journal(first, corrupt, after);
+
+        List<GameEvent> events = scan(buf);
+
+        assertEquals(1, events.size());
+        assertEquals(GameEventType.GAME_STARTED, events.get(0).getType());
+        assertEquals(first.length, JournalReader.scan(buf, null));
+    }
+
+    @Test
+    void stopsAtATornTail() {
+        byte[] first = record(GameEvent.gameStarted(LATE_EVENING_UTC, 1, 7, 3, NEXT_DAY));
+        byte[] second = record(GameEvent.gameEnded(LATE_EVENING_UTC, 1, false, 5));
+        // The second record's header made it to disk, its body only in part
+        ByteBuffer buf = journal(first, second).limit(first.length + second.length - 3);
+
+        List<GameEvent> events = scan(buf);
+
+        assertEquals(1, events.size());
+        assertEquals(first.length, JournalReader.scan(buf, null));
+    }
+
+    @Test
+    void replaysTheJournalIntoDayBucketRollups() throws IOException {
+        GameJournal journal = openJournal();
+        ReflectionTestUtils.invokeMethod(journal, "write", GameEvent.gameStarted(LATE_EVENING_UTC, 1, 7, 3, NEXT_DAY));
+        ReflectionTestUtils.invokeMethod(journal, "write", GameEvent.gameEnded(LATE_EVENING_UTC + 60_000, 1, true, 2));
+        ReflectionTestUtils.invokeMethod(journal, "write", GameEvent.gameStarted(LATE_EVENING_UTC, 2, 8, 3, NEXT_DAY - 1));
+        journal.close();
+
+        JournalReplayer.ReplayState state = JournalReplayer.replay(dir);
+
+        assertEquals(3, state.events);
+        assertEquals(2, state.daily.size());
+        JournalReplayer.DailyRollup next = state.daily.get(LocalDate.ofEpochDay(NEXT_DAY));
+        assertEquals(1, next.games);
+        assertEquals(1, next.wins);
+        assertTrue(next.players.contains(7L));
+        assertFalse(next.players.contains(8L));
+        assertEquals(1, state.daily.get(LocalDate.ofEpochDay(NEXT_DAY - 1)).games);
+        assertEquals(2, state.games.get(1L).attempts);
+    }
+
+    @Test
+    void resumesAfterTheLastIntactRecordOnReopen() throws IOException {
+        GameJournal journal = openJournal();
+        ReflectionTestUtils.invokeMethod(journal, "write", GameEvent.gameStarted(LATE_EVENING_UTC, 1, 7, 3, NEXT_DAY));
+        journal.close();
+        // A crash left a torn record behind the intact one
+        byte[] intact = record(GameEvent.gameStarted(LATE_EVENING_UTC, 1, 7, 3, NEXT_DAY));
+        Path segment = JournalReader.segments(dir).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(12).putInt(40).putInt(0xBADC0DE).putInt(0x01020304).flip();
+            channel.write(torn, intact.length);
+        }
+
+        GameJournal reopened = openJournal();
+        ReflectionTestUtils.invokeMethod(reopened, "write", GameEvent.gameEnded(LATE_EVENING_UTC, 1, true, 3));
+        reopened.close();
+
+        JournalReplayer.ReplayState state = JournalReplayer.replay(dir);
+
+        assertEquals(2, state.events);
+        assertTrue(state.games.get(1L).won);
+    }
+}
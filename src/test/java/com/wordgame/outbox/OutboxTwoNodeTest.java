@@ -0,0 +1,77 @@
+package com.wordgame.outbox;
+
+import com.wordgame.WordgameApplication;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.service.WordAdminService;
+import com.wordgame.service.WordCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application instances in one JVM sharing one H2 database: a word added through
+ * one node must reach the other node's word catalog through the cache outbox.
+ */
+class OutboxTwoNodeTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @AfterEach
+    void close() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void wordAddedOnOneNodeReachesTheOther() {
+        nodeA = start("node-a");
+        nodeB = start("node-b");
+        OutboxPoller pollerB = nodeB.getBean(OutboxPoller.class);
+        WordCatalog catalogA = nodeA.getBean(WordCatalog.class);
+        WordCatalog catalogB = nodeB.getBean(WordCatalog.class);
+        // Both catalogs loaded and node B's cursor placed before the change
+        int sizeBefore = catalogB.size();
+        catalogA.size();
+        pollerB.poll();
+
+        Word word = nodeA.getBean(WordAdminService.class).addWord("qzxjv");
+        assertTrue(nodeB.getBean(WordRepository.class).findByWord("QZXJV").isPresent(),
+                "both nodes use one database");
+
+        assertEquals("QZXJV", catalogA.word(word.getId()), "origin node reloads after commit");
+        assertEquals(sizeBefore, catalogB.size(), "node B has not polled yet");
+
+        pollerB.poll();
+
+        assertEquals(sizeBefore + 1, catalogB.size());
+        assertEquals("QZXJV", catalogB.wordAt(catalogB.size() - 1));
+        assertTrue(nodeB.getBean(MeterRegistry.class).get("outbox.lag").timer().count() > 0);
+
+        nodeA.getBean(OutboxPoller.class).poll();
+        assertEquals(0, nodeA.getBean(MeterRegistry.class).get("outbox.lag").timer().count(),
+                "a node skips its own changes");
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId) {
+        return new SpringApplicationBuilder(WordgameApplication.class)
+                .profiles("h2")
+                // Command-line args: default properties would lose to application*.properties
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--outbox.node-id=" + nodeId,
+                        // Polled by hand so the test decides when changes arrive
+                        "--outbox.poll-interval-ms=3600000");
+    }
+}
@@ -0,0 +1,28 @@
+package com.wordgame.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Captures every SQL statement Hibernate prepares, so tests can inspect the generated SQL. */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    public static List<String> drain() {
+        synchronized (STATEMENTS) {
+            List<String> copy = new ArrayList<>(STATEMENTS);
+            STATEMENTS.clear();
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.wordgame.repository;
+
+import com.wordgame.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every game, guess and cache outbox repository query against the Flyway schema on H2 and fails
+ * if the plan of any generated statement needs a full table scan.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.wordgame.repository.RecordingStatementInspector"
+})
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryQueryPlanTest {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private CacheOutboxRepository cacheOutboxRepository;
+
+    @Autowired
+    private DailyWordRepository dailyWordRepository;
+
+    @Autowired
+    private WordStatsRepository wordStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now();
+        int day = (int) to.toLocalDate().toEpochDay();
+        User user = new User();
+        user.setId(1L);
+        RecordingStatementInspector.drain();
+
+        gameRepository.findByUserIdWithWordOrderByStartedAtDesc(1L);
+        gameRepository.findByUser(user);
+        gameRepository.findByUserAndStartedAtBetween(user, from, to);
+        gameRepository.findByUserIdOrderByStartedAtDesc(1L);
+        gameRepository.findByUserIdAndEndedAtIsNullOrderByStartedAtDesc(1L);
+        gameRepository.countByUserIdAndDayBucket(1L, day);
+        gameRepository.countByUserIdAndWonTrueAndDayBucket(1L, day);
+        gameRepository.countByWonTrueAndDayBucket(day);
+        gameRepository.countDistinctUsersByDayBucket(day);
+        gameRepository.findDistinctUserIdsByDayBucket(day);
+        gameRepository.findArchivableGames(to, PageRequest.of(0, 10));
+        gameRepository.findByIdWithWord(1L);
+        gameRepository.findOpenGamesWithWord(1L, PageRequest.of(0, 1));
+        gameRepository.findEndedGamesWithWord(1L, PageRequest.of(0, 10));
+        gameRepository.findStatsByUserId(1L);
+        gameRepository.advanceGame(1L, 0, 1, false, null, to, 0, 0, 0L);
+        gameRepository.findAbandonedGames(from, PageRequest.of(0, 10));
+        gameRepository.findAbandonedGamesByIdIn(List.of(1L, 2L), from);
+        gameRepository.closeGames(List.of(1L, 2L), to);
+        gameRepository.existsByUserIdAndChallengeDay(1L, day);
+        gameRepository.countDailyOutcomes(day);
+
+        guessRepository.findByGame(gameRepository.getReferenceById(1L));
+        guessRepository.findByGameIdOrderByGuessNumberAsc(1L);
+        guessRepository.findByGameIdInOrderByGameIdAscGuessNumberAsc(List.of(1L, 2L));
+        guessRepository.deleteByGameIdIn(List.of(1L, 2L));
+        guessRepository.countDailyFirstGuesses(day);
+        guessRepository.findDailyResultsByGameIdIn(List.of(1L, 2L));
+
+        userRepository.existsByUsername("someone");
+        wordRepository.findByWord("APPLE");
+        dailyWordRepository.findById((long) day);
+        wordStatsRepository.addCounts(1L, 1, 0, 1, 0, 0, 0, to);
+
+        cacheOutboxRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 10));
+        cacheOutboxRepository.deleteCreatedBefore(from);
+
+        List<String> scans = new ArrayList<>();
+        for (String sql : RecordingStatementInspector.drain()) {
+            String plan = explain(sql);
+            if (plan.contains(".tableScan")) {
+                scans.add(sql + "\n  -> " + plan);
+            }
+        }
+        assertTrue(scans.isEmpty(), "Full table scans:\n" + String.join("\n", scans));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
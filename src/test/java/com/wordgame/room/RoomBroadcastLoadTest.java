@@ -0,0 +1,209 @@
+package com.wordgame.room;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.security.JwtUtil;
+import com.wordgame.service.WordCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Broadcast latency with 10,000 players streaming from one node: 20 rooms of 500 players
+ * each hold a server-sent event stream while one player per room guesses five times.
+ * Every stream must see every guess, and 99% of them within a second of the guess.
+ * <p>
+ * Opt-in, as it opens 20,000 sockets (client and server ends). Raise the open-file
+ * limit first: {@code ulimit -n 65536 && ./mvnw test -Dtest=RoomBroadcastLoadTest -Drooms.load-test=true}
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rooms;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "server.tomcat.max-connections=20000",
+        "ratelimit.enabled=false",
+        "loadshed.enabled=false",
+        "rooms.max-players=500",
+        "rooms.round-seconds=600"})
+@ActiveProfiles("h2")
+@EnabledIfSystemProperty(named = "rooms.load-test", matches = "true")
+class RoomBroadcastLoadTest {
+
+    private static final int ROOMS = 20;
+    private static final int PLAYERS_PER_ROOM = 500;
+    private static final int ROUNDS = 5;
+    private static final long MAX_P99_MILLIS = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private WordCatalog wordCatalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final Queue<Stream<String>> streams = new ConcurrentLinkedQueue<>();
+    // When the guessing player of room r made guess n: index r * (ROUNDS + 1) + n
+    private final AtomicLongArray guessedAt = new AtomicLongArray(ROOMS * (ROUNDS + 1));
+
+    @Test
+    void guessesReachEveryStreamWithinASecond() throws Exception {
+        if (wordRepository.findByWord("PLANT").isEmpty()) {
+            Word word = new Word();
+            word.setWord("PLANT");
+            wordRepository.save(word);
+        }
+        wordCatalog.refresh();
+        createPlayers();
+
+        long[] roomIds = new long[ROOMS];
+        for (int r = 0; r < ROOMS; r++) {
+            roomIds[r] = ((Number) roomService.create(player(r, 0)).get("roomId")).longValue();
+            for (int p = 1; p < PLAYERS_PER_ROOM; p++) {
+                roomService.join(roomIds[r], player(r, p));
+            }
+            roomService.start(roomIds[r], player(r, 0));
+        }
+
+        int players = ROOMS * PLAYERS_PER_ROOM;
+        CountDownLatch connected = new CountDownLatch(players);
+        CountDownLatch received = new CountDownLatch(players * ROUNDS);
+        ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(readers)
+                .build();
+        try {
+            for (int r = 0; r < ROOMS; r++) {
+                for (int p = 0; p < PLAYERS_PER_ROOM; p++) {
+                    int room = r;
+                    String username = player(r, p);
+                    readers.submit(() -> read(client, roomIds[room], room, username, connected, received));
+                }
+            }
+            assertTrue(connected.await(3, TimeUnit.MINUTES), "all streams open");
+
+            for (int n = 1; n <= ROUNDS; n++) {
+                for (int r = 0; r < ROOMS; r++) {
+                    guessedAt.set(r * (ROUNDS + 1) + n, System.nanoTime());
+                    // Never the word: the guessing player stays in the race until the last round
+                    roomService.guess(roomIds[r], player(r, 0), "QQQQQ");
+                }
+                Thread.sleep(250);
+            }
+            assertTrue(received.await(1, TimeUnit.MINUTES),
+                    "every stream saw every guess, missing " + received.getCount());
+        } finally {
+            streams.forEach(Stream::close);
+            readers.shutdownNow();
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        sorted.sort(null);
+        long p50 = millis(sorted, 0.50);
+        long p99 = millis(sorted, 0.99);
+        long max = millis(sorted, 1.0);
+        System.out.printf("Room broadcast to %d streams: %d deliveries, p50 %d ms, p99 %d ms, max %d ms%n",
+                players, sorted.size(), p50, p99, max);
+        assertTrue(p99 <= MAX_P99_MILLIS, "p99 broadcast latency " + p99 + " ms");
+    }
+
+    private void read(HttpClient client, long roomId, int room, String username,
+                      CountDownLatch connected, CountDownLatch received) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/api/rooms/" + roomId + "/events"))
+                    .header("Authorization", "Bearer " + jwtUtil.generateToken(username))
+                    .build();
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            streams.add(response.body());
+            String guesser = player(room, 0);
+            String event = null;
+            int seen = 0;
+            for (Iterator<String> lines = response.body().iterator(); lines.hasNext(); ) {
+                String line = lines.next();
+                long now = System.nanoTime();
+                if (line.startsWith("event:")) {
+                    event = line.substring("event:".length());
+                } else if (line.startsWith("data:") && "snapshot".equals(event)) {
+                    connected.countDown();
+                } else if (line.startsWith("data:") && "update".equals(event)) {
+                    for (JsonNode player : objectMapper.readTree(line.substring("data:".length())).get("players")) {
+                        if (!guesser.equals(player.get("player").asText())) {
+                            continue;
+                        }
+                        // One update may carry several guesses made within the same tick
+                        int attempts = player.get("attempts").asInt();
+                        while (seen < attempts) {
+                            seen++;
+                            latencies.add(now - guessedAt.get(room * (ROUNDS + 1) + seen));
+                            received.countDown();
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Streams are closed when the test ends
+        }
+    }
+
+    private void createPlayers() {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int r = 0; r < ROOMS; r++) {
+            for (int p = 0; p < PLAYERS_PER_ROOM; p++) {
+                // Never logged in with a password; the streams use tokens issued directly
+                rows.add(new Object[]{player(r, p), "unused", now});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (username, password_hash, role, created_at) VALUES (?, ?, 'PLAYER', ?)", rows);
+    }
+
+    private static String player(int room, int index) {
+        return "room" + room + "player" + index;
+    }
+
+    private static long millis(List<Long> sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(index, 0)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.wordgame.security;
+
+import com.wordgame.entity.HardModeHints;
+import com.wordgame.exception.InvalidRequestException;
+import com.wordgame.service.GameState;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameStateTokenServiceTest {
+
+    private static GameStateTokenService service(long ttlHours) {
+        GameStateTokenService service = new GameStateTokenService();
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "secret", "test-secret");
+        ReflectionTestUtils.setField(service, "ttlHours", ttlHours);
+        return service;
+    }
+
+    @Test
+    void roundTripsAMultibyteUsernameLongerThan127Bytes() {
+        // 50 characters, 200 bytes in UTF-8: the most users.username can hold
+        String username = "😀".repeat(25) + "é".repeat(25);
+        assertTrue(username.getBytes(StandardCharsets.UTF_8).length > 127);
+        GameStateTokenService service = service(24);
+        HardModeHints hints = new HardModeHints(0x5, 0x21, 0x1234L);
+
+        GameState state = service.verify(service.issue(new GameState(42, username, 7, 3, GameState.IN_PROGRESS, hints)));
+
+        assertEquals(42, state.getGameId());
+        assertEquals(username, state.getUsername());
+        assertEquals(7, state.getWordId());
+        assertEquals(3, state.getAttempts());
+        assertEquals(GameState.IN_PROGRESS, state.getStatus());
+        assertEquals(hints.getLetters(), state.getHints().getLetters());
+        assertEquals(hints.getPositions(), state.getHints().getPositions());
+        assertEquals(hints.getCounts(), state.getHints().getCounts());
+    }
+
+    @Test
+    void roundTripsAGameWithoutHints() {
+        GameStateTokenService service = service(24);
+
+        GameState state = service.verify(service.issue(new GameState(1, "alice", 2, 0, GameState.WON, null)));
+
+        assertEquals("alice", state.getUsername());
+        assertEquals(GameState.WON, state.getStatus());
+        assertNull(state.getHints());
+    }
+
+    @Test
+    void rejectsATamperedToken() {
+        GameStateTokenService service = service(24);
+        byte[] raw = Base64.getUrlDecoder().decode(
+                service.issue(new GameState(1, "alice", 2, 0, GameState.IN_PROGRESS, null)));
+        raw[raw.length / 2] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+        InvalidRequestException e = assertThrows(InvalidRequestException.class, () -> service.verify(tampered));
+        assertSame(InvalidRequestException.INVALID_GAME_STATE, e);
+    }
+
+    @Test
+    void rejectsAnExpiredToken() {
+        // A negative lifetime makes a token issued this second already expired
+        GameStateTokenService service = service(-1);
+        String token = service.issue(new GameState(1, "alice", 2, 0, GameState.IN_PROGRESS, null));
+
+        InvalidRequestException e = assertThrows(InvalidRequestException.class, () -> service.verify(token));
+        assertSame(InvalidRequestException.GAME_STATE_EXPIRED, e);
+    }
+}
@@ -0,0 +1,97 @@
+package com.wordgame.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeenWordSetTest {
+
+    @Test
+    void keepsIdsOnEitherSideOfAContainerBoundaryApart() {
+        SeenWordSet set = new SeenWordSet();
+        assertTrue(set.add(65_535));
+        assertTrue(set.add(65_536));
+        assertFalse(set.add(65_536));
+
+        assertTrue(set.contains(65_535));
+        assertTrue(set.contains(65_536));
+        assertFalse(set.contains(65_537));
+        assertFalse(set.contains(0));
+        assertEquals(2, set.cardinality());
+        assertEquals(0, set.rank(65_534));
+        assertEquals(1, set.rank(65_535));
+        assertEquals(2, set.rank(65_536));
+        assertEquals(2, set.rank(2_000_000_000L));
+    }
+
+    @Test
+    void switchesToABitmapPastFourThousandIdsWithoutLosingAny() {
+        SeenWordSet set = new SeenWordSet();
+        // Every other id of the second container: 4097 entries, one past the array limit
+        for (int i = 0; i <= 4096; i++) {
+            set.add(65_536 + 2L * i);
+        }
+
+        assertEquals(4097, set.cardinality());
+        assertTrue(set.contains(65_536));
+        assertFalse(set.contains(65_537));
+        assertTrue(set.contains(65_536 + 2L * 4096));
+        assertFalse(set.add(65_536 + 2L * 100));
+        // Bits at the ends of 64-bit words
+        assertEquals(32, set.rank(65_536 + 63));
+        assertEquals(33, set.rank(65_536 + 64));
+        assertEquals(4097, set.rank(131_071));
+    }
+
+    @Test
+    void matchesATreeSetForContainsAndRank() {
+        Random random = new Random(42);
+        SeenWordSet set = new SeenWordSet();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            // Dense ids in the first container, sparse ones further out
+            long id = i % 2 == 0 ? random.nextInt(6_000) : random.nextInt(1 << 20);
+            assertEquals(expected.add(id), set.add(id));
+        }
+
+        assertEquals(expected.size(), set.cardinality());
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(1 << 20);
+            assertEquals(expected.contains(id), set.contains(id), "contains " + id);
+            assertEquals(expected.headSet(id, true).size(), set.rank(id), "rank " + id);
+        }
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        SeenWordSet set = new SeenWordSet();
+        for (int i = 0; i < 5_000; i++) {
+            set.add(i * 3L);
+        }
+        set.add(1_000_000);
+
+        SeenWordSet copy = SeenWordSet.fromBytes(set.toBytes());
+
+        assertEquals(set.cardinality(), copy.cardinality());
+        assertTrue(copy.contains(0));
+        assertTrue(copy.contains(3 * 4_999L));
+        assertFalse(copy.contains(1));
+        assertTrue(copy.contains(1_000_000));
+        assertEquals(set.rank(7_000), copy.rank(7_000));
+        // The copy keeps working after the round trip
+        assertTrue(copy.add(1));
+        assertEquals(set.cardinality() + 1, copy.cardinality());
+    }
+
+    @Test
+    void readsNoBytesAsAnEmptySet() {
+        assertEquals(0, SeenWordSet.fromBytes(null).cardinality());
+        assertEquals(0, SeenWordSet.fromBytes(new byte[0]).cardinality());
+        assertEquals(0, SeenWordSet.fromBytes(new SeenWordSet().toBytes()).cardinality());
+    }
+}
@@ -0,0 +1,77 @@
+package com.wordgame.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordSelectorTest {
+
+    private static final long[] CATALOG = LongStream.rangeClosed(1, 1_000).map(i -> i * 7).toArray();
+
+    private static SeenWordSet seenExcept(long... unseen) {
+        SeenWordSet result = new SeenWordSet();
+        for (long id : CATALOG) {
+            if (LongStream.of(unseen).noneMatch(u -> u == id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void neverReturnsASeenWord() {
+        // Three unseen words out of a thousand: the random probes nearly always miss
+        SeenWordSet seen = seenExcept(7, 3_500, 7_000);
+        for (int i = 0; i < 500; i++) {
+            long id = WordSelector.pickUnseen(CATALOG, seen);
+            assertFalse(seen.contains(id), "picked seen word " + id);
+            assertTrue(id == 7 || id == 3_500 || id == 7_000);
+        }
+    }
+
+    @Test
+    void startsANewCycleOnceEveryWordWasSeen() {
+        SeenWordSet seen = seenExcept();
+
+        long id = WordSelector.pickUnseen(CATALOG, seen);
+
+        assertEquals(0, seen.cardinality());
+        assertTrue(LongStream.of(CATALOG).anyMatch(c -> c == id));
+    }
+
+    @Test
+    void ignoresSeenIdsOfWordsNoLongerInTheCatalog() {
+        SeenWordSet seen = seenExcept(3_500);
+        // Removed words still counted by rank
+        seen.add(1);
+        seen.add(2);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(3_500, WordSelector.pickUnseen(CATALOG, seen));
+        }
+    }
+
+    @Test
+    void fallsBackToAnyUnseenWordWhenTheBandIsExhausted() {
+        long[] band = {14, 21, 28};
+        SeenWordSet seen = seenExcept(6_993);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(6_993, WordSelector.pickUnseen(CATALOG, band, seen));
+        }
+    }
+
+    @Test
+    void picksAnUnseenWordFromAPartlySeenBand() {
+        long[] band = {14, 21, 28};
+        SeenWordSet seen = seenExcept(21, 6_993);
+
+        for (int i = 0; i < 100; i++) {
+            long id = WordSelector.pickUnseen(CATALOG, band, seen);
+            assertTrue(id == 21 || id == 6_993, "picked seen word " + id);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wordgame.sqlstats;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test-side query budgets: runs an action (typically a MockMvc request) on the current
+ * thread and fails if it executed more SQL statements than allowed.
+ */
+public final class QueryBudget {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private QueryBudget() {
+    }
+
+    /** Runs the action and returns the number of statements it executed. */
+    public static int count(Action action) throws Exception {
+        try (QueryStats.Scope scope = QueryStats.open()) {
+            action.run();
+            return scope.getCount();
+        }
+    }
+
+    public static void assertAtMost(int maxQueries, String description, Action action) throws Exception {
+        int count = count(action);
+        assertTrue(count <= maxQueries,
+                description + " ran " + count + " SQL statements, budget is " + maxQueries);
+    }
+}
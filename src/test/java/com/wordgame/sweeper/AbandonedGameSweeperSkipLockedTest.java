@@ -0,0 +1,160 @@
+package com.wordgame.sweeper;
+
+import com.wordgame.daily.DailyResults;
+import com.wordgame.entity.Game;
+import com.wordgame.entity.User;
+import com.wordgame.entity.Word;
+import com.wordgame.journal.GameJournal;
+import com.wordgame.outbox.ChangeOutbox;
+import com.wordgame.repository.GameRepository;
+import com.wordgame.repository.UserRepository;
+import com.wordgame.repository.WordRepository;
+import com.wordgame.wordstats.WordStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two sweepers over one database: while one holds the row locks of its batch, the other
+ * skips those rows instead of waiting, and no game is closed twice.
+ * <p>
+ * The lock holder claims by id: H2 locks every row matching the scan query before it
+ * sorts and limits, where MySQL locks only the batch read from the activity index.
+ */
+@SpringBootTest(properties = {
+        // Own database, so scheduled sweepers of other test contexts cannot touch these games
+        "spring.datasource.url=jdbc:h2:mem:sweeper;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=com.wordgame.sweeper.SkipLockedH2Dialect",
+        "sweeper.enabled=false"
+})
+@ActiveProfiles("h2")
+class AbandonedGameSweeperSkipLockedTest {
+
+    private static final int GAMES = 10;
+    private static final int FIRST_BATCH = 4;
+    private static final long TICK_MS = 10;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private GameJournal gameJournal;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private DailyResults dailyResults;
+
+    @Autowired
+    private WordStatistics wordStatistics;
+
+    @Test
+    void sweepersOnTwoNodesNeverCloseTheSameGame() throws Exception {
+        Long userId = createAbandonedGames();
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MeterRegistry trackingMeters = new SimpleMeterRegistry();
+        MeterRegistry scanningMeters = new SimpleMeterRegistry();
+        // Node A tracks every game in its wheel and closes them in batches by id
+        AbandonedGameSweeper tracking = sweeper(pausingAfterFirstClaim(claimed, release), trackingMeters, FIRST_BATCH);
+        // Node B only knows the games from its periodic scan
+        AbandonedGameSweeper scanning = sweeper(gameRepository, scanningMeters, GAMES);
+        for (Game game : gameRepository.findByUserIdOrderByStartedAtDesc(userId)) {
+            tracking.touch(game.getId());
+        }
+        Thread.sleep(3 * TICK_MS);
+
+        CompletableFuture<Void> expiry = CompletableFuture.runAsync(tracking::expireTracked);
+        assertTrue(claimed.await(10, TimeUnit.SECONDS), "node A claimed its first batch");
+        // Runs while node A's first batch is still locked
+        CompletableFuture.runAsync(scanning::scan).get(10, TimeUnit.SECONDS);
+        release.countDown();
+        expiry.get(10, TimeUnit.SECONDS);
+
+        assertEquals(FIRST_BATCH, closed(trackingMeters, "wheel"));
+        assertEquals(GAMES - FIRST_BATCH, closed(scanningMeters, "scan"));
+        List<Game> games = gameRepository.findByUserIdOrderByStartedAtDesc(userId);
+        assertEquals(GAMES, games.size());
+        for (Game game : games) {
+            assertNotNull(game.getEndedAt());
+            assertFalse(game.isWon());
+        }
+    }
+
+    // Idle timeout 0: tracked games expire on the next tick, and every game created here is idle
+    private AbandonedGameSweeper sweeper(GameRepository repository, MeterRegistry meters, int batchSize) {
+        return new AbandonedGameSweeper(repository, gameJournal, transactionTemplate, changeOutbox,
+                dailyResults, wordStatistics, meters, true, 0, batchSize, TICK_MS);
+    }
+
+    // The real repository, except that the first claim by id waits for the test before returning
+    private GameRepository pausingAfterFirstClaim(CountDownLatch claimed, CountDownLatch release) {
+        return (GameRepository) Proxy.newProxyInstance(GameRepository.class.getClassLoader(),
+                new Class<?>[]{GameRepository.class}, (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(gameRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findAbandonedGamesByIdIn") && claimed.getCount() > 0) {
+                        claimed.countDown();
+                        release.await(10, TimeUnit.SECONDS);
+                    }
+                    return result;
+                });
+    }
+
+    private static double closed(MeterRegistry meters, String source) {
+        return meters.get("sweeper.games.closed").tag("source", source).counter().count();
+    }
+
+    private Long createAbandonedGames() {
+        User user = new User();
+        user.setUsername("sweeperplayer");
+        user.setPasswordHash("unused");
+        user = userRepository.save(user);
+
+        Word word = new Word();
+        word.setWord("SWEEP");
+        word = wordRepository.save(word);
+
+        LocalDateTime idleSince = LocalDateTime.now().minusHours(2);
+        for (int i = 0; i < GAMES; i++) {
+            Game game = new Game();
+            game.setUser(user);
+            game.setWord(word);
+            game.setStartedAt(idleSince.minusMinutes(i));
+            game.setLastActivityAt(idleSince.minusMinutes(i));
+            gameRepository.save(game);
+        }
+        return user.getId();
+    }
+}
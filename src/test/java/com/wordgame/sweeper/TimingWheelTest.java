@@ -0,0 +1,108 @@
+package com.wordgame.sweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    // Advances one tick at a time and records the tick each key expired on
+    private static List<long[]> advanceByTicks(TimingWheel wheel, long fromTick, long toTick) {
+        List<long[]> expired = new ArrayList<>();
+        for (long tick = fromTick; tick <= toTick; tick++) {
+            for (long key : wheel.advance(tick * TICK)) {
+                expired.add(new long[]{key, tick});
+            }
+        }
+        return expired;
+    }
+
+    @Test
+    void expiresOnTheTickOfTheDeadline() {
+        TimingWheel wheel = new TimingWheel(TICK, 3, 0);
+        wheel.schedule(1, 5 * TICK);
+
+        assertTrue(wheel.advance(5 * TICK - 1).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(5 * TICK));
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advance(6 * TICK).isEmpty());
+    }
+
+    @Test
+    void deadlinesInThePastExpireOnTheNextTick() {
+        TimingWheel wheel = new TimingWheel(TICK, 3, 10 * TICK);
+        wheel.schedule(1, 3 * TICK);
+
+        assertTrue(wheel.advance(10 * TICK).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(11 * TICK));
+    }
+
+    @Test
+    void cascadesEntriesDownEveryLevel() {
+        TimingWheel wheel = new TimingWheel(TICK, 3, 0);
+        long levelOne = 100;
+        long levelTwo = 64 * 64 + 10;
+        // Same slot of level one as the current tick, one full rotation ahead
+        long fullRotation = 64 * 64 - 1;
+        wheel.schedule(1, levelOne * TICK);
+        wheel.schedule(2, levelTwo * TICK);
+        wheel.schedule(3, fullRotation * TICK);
+
+        List<long[]> expired = advanceByTicks(wheel, 1, levelTwo + 64);
+
+        assertEquals(3, expired.size());
+        assertEquals(1L, expired.get(0)[0]);
+        assertEquals(levelOne, expired.get(0)[1]);
+        assertEquals(3L, expired.get(1)[0]);
+        assertEquals(fullRotation, expired.get(1)[1]);
+        assertEquals(2L, expired.get(2)[0]);
+        assertEquals(levelTwo, expired.get(2)[1]);
+    }
+
+    @Test
+    void parksDeadlinesBeyondTheTopLevelUntilTheyComeInRange() {
+        TimingWheel wheel = new TimingWheel(TICK, 2, 0);
+        long beyond = 64 * 64 + 904;
+        wheel.schedule(1, beyond * TICK);
+
+        List<long[]> expired = advanceByTicks(wheel, 1, beyond + 64);
+
+        assertEquals(1, expired.size());
+        assertEquals(beyond, expired.get(0)[1]);
+    }
+
+    @Test
+    void reschedulingMovesTheDeadlineAndExpiresTheKeyOnce() {
+        TimingWheel wheel = new TimingWheel(TICK, 3, 0);
+        wheel.schedule(1, 5 * TICK);
+        wheel.schedule(1, 200 * TICK);
+        wheel.schedule(2, 300 * TICK);
+        wheel.schedule(2, 7 * TICK);
+
+        List<long[]> expired = advanceByTicks(wheel, 1, 400);
+
+        assertEquals(2, expired.size());
+        assertEquals(2L, expired.get(0)[0]);
+        assertEquals(7, expired.get(0)[1]);
+        assertEquals(1L, expired.get(1)[0]);
+        assertEquals(200, expired.get(1)[1]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledKeysNeverExpire() {
+        TimingWheel wheel = new TimingWheel(TICK, 3, 0);
+        wheel.schedule(1, 70 * TICK);
+        wheel.schedule(2, 70 * TICK);
+        wheel.cancel(1);
+
+        assertEquals(List.of(2L), wheel.advance(100 * TICK));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,166 @@
+package com.wordgame.wordstats;
+
+import com.wordgame.embedded.EmbeddedStore;
+import com.wordgame.embedded.EmbeddedPersistenceConfig;
+import com.wordgame.embedded.EmbeddedWordRepository;
+import com.wordgame.embedded.EmbeddedWordStatsRepository;
+import com.wordgame.entity.Word;
+import com.wordgame.repository.WordStatsRepository;
+import com.wordgame.service.WordCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Word statistics over the embedded store: counting, flushing into word_stats and
+ * banding the words by difficulty.
+ */
+class WordStatisticsTest {
+
+    private static final long MIN_PLAYS = 3;
+
+    @TempDir
+    Path dir;
+
+    private EmbeddedStore store;
+    private EmbeddedWordRepository words;
+    private EmbeddedWordStatsRepository stats;
+    private WordCatalog wordCatalog;
+    private TransactionTemplate transactionTemplate;
+    // While set, adding counts to word_stats fails as if the database were down
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+
+    @BeforeEach
+    void open() {
+        store = new EmbeddedStore();
+        ReflectionTestUtils.setField(store, "dataDir", dir.toString());
+        ReflectionTestUtils.invokeMethod(store, "open");
+        words = new EmbeddedWordRepository(store);
+        stats = new EmbeddedWordStatsRepository(store);
+        wordCatalog = new WordCatalog(words);
+        transactionTemplate = new TransactionTemplate(new EmbeddedPersistenceConfig().transactionManager(store));
+    }
+
+    @AfterEach
+    void close() {
+        ReflectionTestUtils.invokeMethod(store, "close");
+    }
+
+    private WordStatistics wordStatistics() {
+        WordStatsRepository failing = (WordStatsRepository) Proxy.newProxyInstance(
+                WordStatsRepository.class.getClassLoader(), new Class<?>[]{WordStatsRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("addCounts") && databaseDown.get()) {
+                        throw new DataAccessResourceFailureException("database down");
+                    }
+                    try {
+                        return method.invoke(stats, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        return new WordStatistics(failing, wordCatalog, transactionTemplate, MIN_PLAYS);
+    }
+
+    private long word(String word) {
+        return words.save(new Word(null, word, LocalDateTime.now())).getId();
+    }
+
+    private static void play(WordStatistics statistics, long wordId, int times, boolean won, int attempts) {
+        for (int i = 0; i < times; i++) {
+            statistics.gameEnded(wordId, won, attempts);
+        }
+    }
+
+    @Test
+    void splitsRatedWordsIntoThirdsByMeanGuesses() {
+        long one = word("ALPHA");
+        long two = word("BRAVO");
+        long three = word("CIVIC");
+        long four = word("DELTA");
+        long five = word("EPOCH");
+        long failed = word("FJORD");
+        WordStatistics statistics = wordStatistics();
+        play(statistics, one, 3, true, 1);
+        play(statistics, two, 3, true, 2);
+        play(statistics, three, 3, true, 3);
+        play(statistics, four, 3, true, 4);
+        play(statistics, five, 3, true, 5);
+        play(statistics, failed, 3, false, 5);
+
+        statistics.flush();
+
+        assertArrayEquals(new long[]{five, failed}, statistics.band(Difficulty.HARD));
+        assertArrayEquals(new long[]{three, four}, statistics.band(Difficulty.MEDIUM));
+        assertArrayEquals(new long[]{one, two}, statistics.band(Difficulty.EASY));
+        List<Map<String, Object>> report = statistics.report(null, 10);
+        assertEquals(failed, report.get(0).get("wordId"));
+        assertEquals(6.0, report.get(0).get("meanGuesses"));
+        assertEquals(0.0, report.get(0).get("solveRate"));
+        assertEquals(List.of(two, one), statistics.report(Difficulty.EASY, 10).stream()
+                .map(row -> row.get("wordId")).toList());
+    }
+
+    @Test
+    void wordsBelowTheMinimumPlaysStayMedium() {
+        long easy = word("ALPHA");
+        long medium = word("BRAVO");
+        long hard = word("CIVIC");
+        long barelyPlayed = word("DELTA");
+        long neverPlayed = word("EPOCH");
+        WordStatistics statistics = wordStatistics();
+        play(statistics, easy, 3, true, 1);
+        play(statistics, medium, 3, true, 3);
+        play(statistics, hard, 3, false, 5);
+        // Every game failed, but two plays say little about the word
+        play(statistics, barelyPlayed, (int) MIN_PLAYS - 1, false, 5);
+
+        statistics.flush();
+
+        assertArrayEquals(new long[]{hard}, statistics.band(Difficulty.HARD));
+        assertArrayEquals(new long[]{medium, barelyPlayed, neverPlayed}, statistics.band(Difficulty.MEDIUM));
+        assertArrayEquals(new long[]{easy}, statistics.band(Difficulty.EASY));
+    }
+
+    @Test
+    void keepsTheCountsOfAFailedFlushForTheNextOne() {
+        long wordId = word("ALPHA");
+        WordStatistics statistics = wordStatistics();
+        play(statistics, wordId, 2, true, 2);
+        statistics.flush();
+        play(statistics, wordId, 3, true, 4);
+        play(statistics, wordId, 1, false, 5);
+
+        databaseDown.set(true);
+        statistics.flush();
+
+        assertEquals(2, stats.findById(wordId).orElseThrow().getPlays());
+
+        databaseDown.set(false);
+        play(statistics, wordId, 1, true, 1);
+        statistics.flush();
+        statistics.flush();
+
+        var stored = stats.findById(wordId).orElseThrow();
+        assertEquals(7, stored.getPlays());
+        assertEquals(1, stored.getSolved1());
+        assertEquals(2, stored.getSolved2());
+        assertEquals(3, stored.getSolved4());
+        assertEquals(0, stored.getSolved5());
+    }
+}